@@ -0,0 +1,67 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.MarkovStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for games between the adaptive strategies, up to 10^8 rounds per game. Every invocation creates new
+ * strategies, so each game starts without any learned state. The games keep no rounds, so the score is the time the
+ * strategies need to predict and learn plus the evaluation of the rounds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AdaptiveStrategyBenchmark {
+
+    @Param({"1000000", "100000000"})
+    private int numberOfRounds;
+
+    @Param({"FREQUENCY", "MARKOV_1", "MARKOV_3", "MARKOV_6"})
+    private String player1Strategy;
+
+    @Param({"RANDOM", "FREQUENCY", "MARKOV_2"})
+    private String player2Strategy;
+
+    @Benchmark
+    public Game play() {
+        return Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(createStrategy(player1Strategy)).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(createStrategy(player2Strategy)).build())
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.NONE)
+                .play();
+    }
+
+    private static PlayerStrategy createStrategy(String name) {
+        if (name.equals("FREQUENCY")) {
+            return new FrequencyStrategy();
+        }
+        if (name.startsWith("MARKOV_")) {
+            return new MarkovStrategy(Integer.parseInt(name.substring("MARKOV_".length())));
+        }
+        return RandomStrategy.seeded(42, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                     Shape.of(ShapeType.SCISSORS));
+    }
+}
@@ -0,0 +1,102 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.service.ConsoleOutputService;
+import de.janpascalmaas.service.Verbosity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ConsoleOutputService#printGame(Game)}.
+ * The game is played once per trial and {@code System.out} is redirected to a discarding stream, so the score is the
+ * cost of rendering and writing the output without the terminal in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleOutputServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int numberOfRounds;
+
+    private ConsoleOutputService service;
+
+    private ConsoleOutputService bufferedService;
+
+    private ConsoleOutputService summaryService;
+
+    private Game game;
+
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Player paperPlayer = Player.builder()
+                .withName("A")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .build();
+        Player randomPlayer = Player.builder()
+                .withName("B")
+                .withStrategy(new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                                 Shape.of(ShapeType.PAPER),
+                                                 Shape.of(ShapeType.SCISSORS)))
+                .build();
+        game = Game.builder()
+                .addPlayer1(paperPlayer)
+                .addPlayer2(randomPlayer)
+                .numberOfRounds(numberOfRounds)
+                .play();
+
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        service = new ConsoleOutputService();
+        bufferedService = new ConsoleOutputService(Channels.newChannel(OutputStream.nullOutputStream()),
+                                                   Verbosity.full(), 64 * 1024);
+        summaryService = new ConsoleOutputService(Channels.newChannel(OutputStream.nullOutputStream()),
+                                                  Verbosity.summary(), 64 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void printGame() {
+        service.printGame(game);
+    }
+
+    @Benchmark
+    public void printGameBuffered() {
+        bufferedService.printGame(game);
+    }
+
+    @Benchmark
+    public void printGameSummary() {
+        summaryService.printGame(game);
+    }
+}
@@ -0,0 +1,57 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the allocations of a game that keeps no rounds, the pipeline of which allocates per game and per
+ * block only. The game sizes differ by a factor of 1024, so with the GC profiler attached by the runner the
+ * {@code gc.alloc.rate.norm} of both sizes should only differ by the few kilobytes of the larger block buffers; an
+ * object per round shows up as at least 16 bytes per round, 4 MB per game, in the larger game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class GameAllocationBenchmark {
+
+    @Param({"256", "262144"})
+    private int numberOfRounds;
+
+    @Benchmark
+    public Game playWithoutRoundHistory() {
+        return Game.builder()
+                .addPlayer1(Player.builder()
+                                    .withName("A")
+                                    .withStrategy(RandomStrategy.seeded(1, Shape.of(ShapeType.ROCK),
+                                                                        Shape.of(ShapeType.PAPER),
+                                                                        Shape.of(ShapeType.SCISSORS)))
+                                    .build())
+                .addPlayer2(Player.builder()
+                                    .withName("B")
+                                    .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                                    .build())
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.NONE)
+                .play();
+    }
+}
@@ -0,0 +1,77 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Game.Builder#play()} across game sizes from 10 to 10^5 rounds in every round history mode.
+ * Every invocation plays a complete game, so the score is the time for one game of the given size. Larger games are
+ * measured by the {@link LongGameBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int numberOfRounds;
+
+    @Param({"FULL", "COMPACT", "NONE"})
+    private RoundHistoryMode roundHistory;
+
+    private Player paperPlayer;
+
+    private Player randomPlayer;
+
+    @Setup
+    public void setUp() {
+        paperPlayer = Player.builder()
+                .withName("A")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .build();
+        randomPlayer = Player.builder()
+                .withName("B")
+                .withStrategy(new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                                 Shape.of(ShapeType.PAPER),
+                                                 Shape.of(ShapeType.SCISSORS)))
+                .build();
+    }
+
+    @Benchmark
+    public Game play() {
+        return Game.builder()
+                .addPlayer1(paperPlayer)
+                .addPlayer2(randomPlayer)
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(roundHistory)
+                .play();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Game playMultiThreaded() {
+        return play();
+    }
+}
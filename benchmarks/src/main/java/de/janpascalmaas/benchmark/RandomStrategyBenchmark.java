@@ -0,0 +1,92 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link RandomStrategy#getNextShape()}.
+ * The unseeded strategy is shared by all benchmark threads, so the multi-threaded variant shows contention on the
+ * underlying random number generator. Seeded strategies are not thread safe and are split per benchmark thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomStrategyBenchmark {
+
+    private RandomStrategy strategy;
+
+    private RandomStrategy seeded;
+
+    @Setup
+    public void setUp() {
+        strategy = new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                      Shape.of(ShapeType.PAPER),
+                                      Shape.of(ShapeType.SCISSORS));
+        seeded = RandomStrategy.seeded(42,
+                                       Shape.of(ShapeType.ROCK),
+                                       Shape.of(ShapeType.PAPER),
+                                       Shape.of(ShapeType.SCISSORS));
+    }
+
+    @State(Scope.Thread)
+    public static class SeededState {
+
+        private RandomStrategy strategy;
+
+        private final byte[] buffer = new byte[1024];
+
+        @Setup
+        public void setUp(RandomStrategyBenchmark benchmark) {
+            synchronized (benchmark) {
+                strategy = benchmark.seeded.split();
+            }
+        }
+    }
+
+    @Benchmark
+    public Shape getNextShape() {
+        return strategy.getNextShape();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Shape getNextShapeMultiThreaded() {
+        return strategy.getNextShape();
+    }
+
+    @Benchmark
+    public Shape getNextShapeSeeded(SeededState state) {
+        return state.strategy.getNextShape();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Shape getNextShapeSeededMultiThreaded(SeededState state) {
+        return state.strategy.getNextShape();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public byte[] fillNextShapesSeeded(SeededState state) {
+        state.strategy.fillNextShapes(state.buffer, 0, state.buffer.length);
+        return state.buffer;
+    }
+}
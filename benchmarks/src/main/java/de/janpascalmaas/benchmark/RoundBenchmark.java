@@ -0,0 +1,83 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Round.Builder#build()}, which asks both players for their next shape and evaluates the round.
+ * Players are created per thread, so the multi-threaded variant measures the shared state below the players (for
+ * example the random number generator) rather than contention on the players themselves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+
+    private Player rockPlayer;
+
+    private Player scissorsPlayer;
+
+    private Player randomPlayer;
+
+    @Setup
+    public void setUp() {
+        rockPlayer = Player.builder()
+                .withName("Rock")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        scissorsPlayer = Player.builder()
+                .withName("Scissors")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.SCISSORS)))
+                .build();
+        randomPlayer = Player.builder()
+                .withName("Random")
+                .withStrategy(new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                                 Shape.of(ShapeType.PAPER),
+                                                 Shape.of(ShapeType.SCISSORS)))
+                .build();
+    }
+
+    @Benchmark
+    public Round buildOneShapeRound() {
+        return Round.builder()
+                .roundNumber(1)
+                .addPlayer1(rockPlayer)
+                .addPlayer2(scissorsPlayer)
+                .build();
+    }
+
+    @Benchmark
+    public Round buildRandomRound() {
+        return Round.builder()
+                .roundNumber(1)
+                .addPlayer1(rockPlayer)
+                .addPlayer2(randomPlayer)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Round buildRandomRoundMultiThreaded() {
+        return buildRandomRound();
+    }
+}
@@ -0,0 +1,71 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.round.RoundEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the scalar and the vectorised {@link RoundEvaluator} on blocks of random shapes. The score is
+ * the time to evaluate one block, so dividing by the block size gives the time per round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class RoundEvaluatorBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int blockSize;
+
+    @Param({"SCALAR", "VECTORISED"})
+    private String evaluator;
+
+    private RoundEvaluator roundEvaluator;
+
+    private byte[] player1Shapes;
+
+    private byte[] player2Shapes;
+
+    private byte[] outcomes;
+
+    private final long[] counts = new long[3];
+
+    @Setup
+    public void setUp() {
+        roundEvaluator = evaluator.equals("SCALAR") ? RoundEvaluator.scalar() : RoundEvaluator.vectorised();
+        SplittableRandom random = new SplittableRandom(42);
+        player1Shapes = new byte[blockSize];
+        player2Shapes = new byte[blockSize];
+        outcomes = new byte[blockSize];
+        for (int i = 0; i < blockSize; i++) {
+            player1Shapes[i] = (byte) random.nextInt(3);
+            player2Shapes[i] = (byte) random.nextInt(3);
+        }
+    }
+
+    @Benchmark
+    public long[] evaluate() {
+        roundEvaluator.evaluate(player1Shapes, player2Shapes, outcomes, blockSize, counts);
+        return counts;
+    }
+
+    @Benchmark
+    public long[] count() {
+        roundEvaluator.count(player1Shapes, player2Shapes, blockSize, counts);
+        return counts;
+    }
+}
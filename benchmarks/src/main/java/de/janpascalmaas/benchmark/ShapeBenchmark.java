@@ -0,0 +1,66 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Shape#beats(Shape)}, the innermost decision of every round.
+ * All pairs of shapes are evaluated per invocation so the result does not depend on branch prediction of a single
+ * constant pair.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeBenchmark {
+
+    @Param({"ROCK", "PAPER", "SCISSORS"})
+    private ShapeType type;
+
+    private Shape shape;
+
+    private Shape[] opponents;
+
+    @Setup
+    public void setUp() {
+        shape = Shape.of(type);
+        opponents = new Shape[]{
+                Shape.of(ShapeType.ROCK),
+                Shape.of(ShapeType.PAPER),
+                Shape.of(ShapeType.SCISSORS)
+        };
+    }
+
+    @Benchmark
+    public int beatsAllShapes() {
+        int wins = 0;
+        for (Shape opponent : opponents) {
+            if (shape.beats(opponent)) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int beatsAllShapesMultiThreaded() {
+        return beatsAllShapes();
+    }
+}
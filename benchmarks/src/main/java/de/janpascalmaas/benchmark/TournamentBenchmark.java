@@ -0,0 +1,74 @@
+package de.janpascalmaas.benchmark;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.domain.tournament.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for a round-robin {@link Tournament} with a growing number of fork-join workers, to check how the
+ * tournament scales with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class TournamentBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"32"})
+    private int numberOfParticipants;
+
+    @Param({"10000"})
+    private int numberOfRoundsPerMatch;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public Tournament play() {
+        Tournament.Builder builder = Tournament.builder()
+                .numberOfRoundsPerMatch(numberOfRoundsPerMatch)
+                .pool(pool);
+        for (int i = 0; i < numberOfParticipants; i++) {
+            if (i % 2 == 0) {
+                ShapeType type = ShapeType.values()[i % 3];
+                builder.addParticipant("One shape " + i, () -> new OneShapeStrategy(Shape.of(type)));
+            } else {
+                builder.addParticipant("Random " + i, () -> new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                                                                Shape.of(ShapeType.PAPER),
+                                                                                Shape.of(ShapeType.SCISSORS)));
+            }
+        }
+        return builder.play();
+    }
+}
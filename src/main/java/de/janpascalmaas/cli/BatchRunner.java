@@ -0,0 +1,190 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.strategy.Seeds;
+import de.janpascalmaas.service.ConsoleOutputService;
+import de.janpascalmaas.service.Verbosity;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line application to run games between two players without recompiling, see {@link Scenario} for the
+ * options of a game. Many scenarios can be run in a single JVM from a scenario file given with
+ * {@code --scenarios FILE}, which contains the options of one scenario per line. Empty lines and lines starting with
+ * {@code #} are ignored, and options given on the command line apply to every scenario of the file unless the
+ * scenario overrides them. All scenarios are parsed before the first game is played, so a mistake in the file does
+ * not leave a batch half run.
+ * Games that are not printed in full do not keep their rounds, so games between periodic strategies are fast
+ * forwarded. The seeds of the players are derived from the seed of the scenario, so a scenario always plays the same
+ * game. The results of CSV scenarios share a single header, printed before the first of them.
+ * The runner is not thread safe.
+ */
+public final class BatchRunner {
+
+    static final String CSV_HEADER =
+            "scenario,player1,player2,rounds,seed,player1_score,player2_score,draws,winner";
+
+    private static final String USAGE = """
+            Usage: BatchRunner [--name NAME] [--player1 NAME=STRATEGY] [--player2 NAME=STRATEGY] [--rounds N]
+                               [--seed N] [--rules classic|rpsls|FILE] [--output full|summary|csv] [--scenarios FILE]
+            Strategies: random, one:SHAPE, sequence:SHAPE,SHAPE,..., frequency, markov:ORDER""";
+
+    private final PrintStream out;
+
+    private ConsoleOutputService fullOutput;
+
+    private ConsoleOutputService summaryOutput;
+
+    private boolean csvHeaderPrinted;
+
+    /**
+     * @param out the stream to print the results to
+     */
+    public BatchRunner(PrintStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream must not be null");
+        }
+        this.out = out;
+    }
+
+    /**
+     * Runs the scenarios given as command line options and prints their results to {@code System.out}.
+     * @param args the options of a single scenario, or the options shared by the scenarios of a scenario file
+     */
+    public static void main(String[] args) {
+        List<Scenario> scenarios;
+        try {
+            scenarios = parseArguments(args);
+        } catch (IllegalArgumentException | IllegalStateException | UncheckedIOException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        new BatchRunner(System.out).run(scenarios);
+    }
+
+    /**
+     * @param args the command line options
+     * @return the scenarios to run, in the order of the scenario file
+     */
+    static List<Scenario> parseArguments(String... args) {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        int scenariosOption = options.indexOf("--scenarios");
+        if (scenariosOption < 0) {
+            return List.of(Scenario.parse(options));
+        }
+        if (scenariosOption + 1 == options.size()) {
+            throw new IllegalArgumentException("Option --scenarios requires a value");
+        }
+        Path file = Path.of(options.remove(scenariosOption + 1));
+        options.remove(scenariosOption);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Scenario file " + file + " could not be read", e);
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            List<String> scenarioOptions = new ArrayList<>(options);
+            scenarioOptions.addAll(Arrays.asList(line.split("\\s+")));
+            try {
+                scenarios.add(Scenario.parse(scenarioOptions));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + " of " + file + ": " + e.getMessage(), e);
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Runs the scenarios one after another and prints their results.
+     * @param scenarios the scenarios to run
+     */
+    public void run(List<Scenario> scenarios) {
+        for (Scenario scenario : scenarios) {
+            run(scenario);
+        }
+        out.flush();
+    }
+
+    /**
+     * Plays the game of a scenario and prints its result.
+     * @param scenario the scenario to run
+     * @return the game that has been played
+     */
+    public Game run(Scenario scenario) {
+        Player player1 = Player.builder()
+                .withName(scenario.getPlayer1Name())
+                .withStrategy(scenario.getPlayer1Strategy().create(Seeds.derive(scenario.getSeed(), 0)))
+                .build();
+        Player player2 = Player.builder()
+                .withName(scenario.getPlayer2Name())
+                .withStrategy(scenario.getPlayer2Strategy().create(Seeds.derive(scenario.getSeed(), 1)))
+                .build();
+        Game game = Game.builder()
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .ruleSet(scenario.getRuleSet())
+                .numberOfRounds(scenario.getNumberOfRounds())
+                .roundHistory(scenario.getOutput() == Scenario.Output.FULL ? RoundHistoryMode.FULL
+                                      : RoundHistoryMode.NONE)
+                .play();
+        switch (scenario.getOutput()) {
+            case FULL -> fullOutput().printGame(game);
+            case SUMMARY -> summaryOutput().printGame(game);
+            case CSV -> printCsv(scenario, game);
+        }
+        return game;
+    }
+
+    private ConsoleOutputService fullOutput() {
+        if (fullOutput == null) {
+            fullOutput = new ConsoleOutputService(Channels.newChannel(out), out.charset(), Verbosity.full(), 0);
+        }
+        return fullOutput;
+    }
+
+    private ConsoleOutputService summaryOutput() {
+        if (summaryOutput == null) {
+            summaryOutput = new ConsoleOutputService(Channels.newChannel(out), out.charset(), Verbosity.summary(),
+                                                     0);
+        }
+        return summaryOutput;
+    }
+
+    private void printCsv(Scenario scenario, Game game) {
+        if (!csvHeaderPrinted) {
+            out.println(CSV_HEADER);
+            csvHeaderPrinted = true;
+        }
+        Player winner = game.getWinner();
+        out.println(csvField(scenario.getName()) + ',' + csvField(scenario.getPlayer1Name()) + ','
+                            + csvField(scenario.getPlayer2Name()) + ',' + scenario.getNumberOfRounds() + ','
+                            + scenario.getSeed() + ',' + game.getScoreboard().getPlayer1Score() + ','
+                            + game.getScoreboard().getPlayer2Score() + ',' + game.getNumberOfDraws() + ','
+                            + (winner != null ? csvField(winner.getName()) : ""));
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
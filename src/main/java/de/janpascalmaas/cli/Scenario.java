@@ -0,0 +1,295 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A game between two players to be run by the {@link BatchRunner}, given as command line options:
+ * <pre>
+ * --name NAME  --player1 NAME=STRATEGY  --player2 NAME=STRATEGY  --rounds N  --seed N
+ * --rules classic|rpsls|FILE  --output full|summary|csv
+ * </pre>
+ * Strategies are parsed by {@link StrategySpec}. Options that are given more than once override the earlier values,
+ * so options shared by many scenarios can be given once in front of them. Options that are not given default to the
+ * game of the original command line application: player A always plays paper against player B playing randomly for
+ * 100 classic rounds, printed in full. Without a seed, a random seed is chosen, which is part of the CSV output so
+ * every game can be repeated. The scenario is immutable and can be built using the Builder pattern.
+ */
+public final class Scenario {
+
+    /**
+     * Defines how the result of a scenario is printed.
+     */
+    public enum Output {
+        /**
+         * Every round and the result of the game are printed.
+         */
+        FULL,
+        /**
+         * Only the players and the result of the game are printed.
+         */
+        SUMMARY,
+        /**
+         * The result of the game is printed as a single CSV record.
+         */
+        CSV
+    }
+
+    private final String name;
+
+    private final String player1Name;
+
+    private final StrategySpec player1Strategy;
+
+    private final String player2Name;
+
+    private final StrategySpec player2Strategy;
+
+    private final int numberOfRounds;
+
+    private final long seed;
+
+    private final RuleSet ruleSet;
+
+    private final Output output;
+
+    private Scenario(Builder builder, StrategySpec player1Strategy, StrategySpec player2Strategy) {
+        this.name = builder.name;
+        this.player1Name = builder.player1Name;
+        this.player1Strategy = player1Strategy;
+        this.player2Name = builder.player2Name;
+        this.player2Strategy = player2Strategy;
+        this.numberOfRounds = builder.numberOfRounds;
+        this.seed = builder.seed != null ? builder.seed : ThreadLocalRandom.current().nextLong();
+        this.ruleSet = builder.ruleSet;
+        this.output = builder.output;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param args the options of the scenario
+     * @return the parsed scenario
+     */
+    public static Scenario parse(List<String> args) {
+        Builder builder = builder();
+        for (int i = 0; i < args.size(); i++) {
+            String option = args.get(i);
+            if (i + 1 == args.size()) {
+                throw new IllegalArgumentException("Option " + option + " requires a value");
+            }
+            String value = args.get(++i);
+            switch (option) {
+                case "--name" -> builder.name(value);
+                case "--player1" -> builder.player1(playerName(value), playerStrategy(value));
+                case "--player2" -> builder.player2(playerName(value), playerStrategy(value));
+                case "--rounds" -> builder.numberOfRounds(parseRounds(value));
+                case "--seed" -> builder.seed(parseNumber(option, value));
+                case "--rules" -> builder.ruleSet(ruleSet(value));
+                case "--output" -> builder.output(output(value));
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        return builder.build();
+    }
+
+    private static String playerName(String player) {
+        int separator = player.indexOf('=');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Expected NAME=STRATEGY but found " + player);
+        }
+        return player.substring(0, separator);
+    }
+
+    private static String playerStrategy(String player) {
+        return player.substring(player.indexOf('=') + 1);
+    }
+
+    private static int parseRounds(String value) {
+        long rounds = parseNumber("--rounds", value);
+        if (rounds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Number of rounds must be at most " + Integer.MAX_VALUE);
+        }
+        return (int) Math.max(rounds, 0);
+    }
+
+    private static long parseNumber(String option, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option " + option + " must be a number but was " + value);
+        }
+    }
+
+    private static RuleSet ruleSet(String value) {
+        return switch (value) {
+            case "classic" -> RuleSet.CLASSIC;
+            case "rpsls" -> RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+            default -> RuleSet.load(Path.of(value));
+        };
+    }
+
+    private static Output output(String value) {
+        return switch (value) {
+            case "full" -> Output.FULL;
+            case "summary" -> Output.SUMMARY;
+            case "csv" -> Output.CSV;
+            default -> throw new IllegalArgumentException("Unknown output " + value);
+        };
+    }
+
+    /**
+     * @return the name of the scenario, the names of the players if none was given
+     */
+    public String getName() {
+        return name != null ? name : player1Name + " vs " + player2Name;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    StrategySpec getPlayer1Strategy() {
+        return player1Strategy;
+    }
+
+    StrategySpec getPlayer2Strategy() {
+        return player2Strategy;
+    }
+
+    public int getNumberOfRounds() {
+        return numberOfRounds;
+    }
+
+    /**
+     * @return the seed the seeds of the random strategies of both players are derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    /**
+     * Builder class to create a Scenario instance.
+     * The strategies are parsed against the rule set when the scenario is built, so a strategy playing shapes of
+     * another rule set is rejected before any game is played.
+     */
+    public static class Builder {
+
+        private String name;
+
+        private String player1Name = "A";
+
+        private String player1Strategy = "one:PAPER";
+
+        private String player2Name = "B";
+
+        private String player2Strategy = "random";
+
+        private int numberOfRounds = 100;
+
+        private Long seed;
+
+        private RuleSet ruleSet = RuleSet.CLASSIC;
+
+        private Output output = Output.FULL;
+
+        public Builder name(String name) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Scenario name must not be null or blank");
+            }
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * @param name the name of the first player
+         * @param strategy the specification of the strategy of the first player, see {@link StrategySpec}
+         * @return this builder
+         */
+        public Builder player1(String name, String strategy) {
+            this.player1Name = requirePlayerName(name);
+            this.player1Strategy = requireStrategy(strategy);
+            return this;
+        }
+
+        /**
+         * @param name the name of the second player
+         * @param strategy the specification of the strategy of the second player, see {@link StrategySpec}
+         * @return this builder
+         */
+        public Builder player2(String name, String strategy) {
+            this.player2Name = requirePlayerName(name);
+            this.player2Strategy = requireStrategy(strategy);
+            return this;
+        }
+
+        private static String requirePlayerName(String name) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Player name must not be null or blank");
+            }
+            return name;
+        }
+
+        private static String requireStrategy(String strategy) {
+            if (strategy == null || strategy.isBlank()) {
+                throw new IllegalArgumentException("Strategy must not be null or blank");
+            }
+            return strategy;
+        }
+
+        public Builder numberOfRounds(int numberOfRounds) {
+            this.numberOfRounds = numberOfRounds;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder ruleSet(RuleSet ruleSet) {
+            if (ruleSet == null) {
+                throw new IllegalArgumentException("Rule set must not be null");
+            }
+            this.ruleSet = ruleSet;
+            return this;
+        }
+
+        public Builder output(Output output) {
+            if (output == null) {
+                throw new IllegalArgumentException("Output must not be null");
+            }
+            this.output = output;
+            return this;
+        }
+
+        public Scenario build() {
+            if (numberOfRounds <= 0) {
+                throw new IllegalArgumentException("Number of rounds must be greater than 0");
+            }
+            if (player1Name.equals(player2Name)) {
+                throw new IllegalStateException("Players must have different names but both are named "
+                                                        + player1Name);
+            }
+            return new Scenario(this, StrategySpec.parse(player1Strategy, ruleSet),
+                                StrategySpec.parse(player2Strategy, ruleSet));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.MarkovStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.domain.strategy.SequenceStrategy;
+
+import java.util.function.LongFunction;
+
+/**
+ * Strategy of a player of a {@link Scenario}, given on the command line as {@code random}, {@code one:SHAPE},
+ * {@code sequence:SHAPE,SHAPE,...}, {@code frequency} or {@code markov:ORDER}. Shapes are given by their name or an
+ * unambiguous prefix of it. The adaptive strategies {@code frequency} and {@code markov} only support the classic
+ * rule set. The specification is validated when it is parsed and creates a new strategy for every game, as strategies
+ * may keep state. Random strategies are seeded with the seed of the player in the scenario.
+ */
+final class StrategySpec {
+
+    private final String text;
+
+    private final LongFunction<PlayerStrategy> factory;
+
+    private StrategySpec(String text, LongFunction<PlayerStrategy> factory) {
+        this.text = text;
+        this.factory = factory;
+    }
+
+    /**
+     * @param text the specification of the strategy
+     * @param ruleSet the rule set the strategy plays with
+     * @return the parsed specification
+     */
+    static StrategySpec parse(String text, RuleSet ruleSet) {
+        int colon = text.indexOf(':');
+        String kind = colon < 0 ? text : text.substring(0, colon);
+        String argument = colon < 0 ? "" : text.substring(colon + 1);
+        LongFunction<PlayerStrategy> factory = switch (kind) {
+            case "random" -> seed -> RandomStrategy.seeded(seed, ruleSet);
+            case "one" -> {
+                OneShapeStrategy strategy = new OneShapeStrategy(ruleSet.findShape(argument));
+                yield seed -> strategy;
+            }
+            case "sequence" -> {
+                Shape[] sequence = SequenceStrategy.parseShapes(argument, ruleSet);
+                yield seed -> new SequenceStrategy(sequence);
+            }
+            case "frequency" -> {
+                requireClassic(text, ruleSet);
+                yield seed -> new FrequencyStrategy();
+            }
+            case "markov" -> {
+                requireClassic(text, ruleSet);
+                int order = parseOrder(argument);
+                yield seed -> new MarkovStrategy(order);
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy " + text);
+        };
+        return new StrategySpec(text, factory);
+    }
+
+    private static void requireClassic(String text, RuleSet ruleSet) {
+        if (ruleSet != RuleSet.CLASSIC) {
+            throw new IllegalArgumentException("Strategy " + text + " only supports the classic rule set");
+        }
+    }
+
+    private static int parseOrder(String argument) {
+        int order;
+        try {
+            order = Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Order of a Markov strategy must be a number but was " + argument);
+        }
+        if (order < 1 || order > MarkovStrategy.MAX_ORDER) {
+            throw new IllegalArgumentException("Order of a Markov strategy must be between 1 and "
+                                                       + MarkovStrategy.MAX_ORDER + " but was " + order);
+        }
+        return order;
+    }
+
+    /**
+     * @param seed the seed of the player
+     * @return a new strategy
+     */
+    PlayerStrategy create(long seed) {
+        return factory.apply(seed);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
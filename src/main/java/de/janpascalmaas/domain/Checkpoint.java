@@ -0,0 +1,190 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Snapshot of a game that is being played, holding everything needed to resume the game after the last completed
+ * round: the number of rounds played, the scores, the statistics and the states of both strategies. The rule set and
+ * the classes of the strategies are kept as well, so a checkpoint is never restored into another kind of game.
+ * Checkpoints are written to a temporary file that atomically replaces the previous checkpoint, so a crash while
+ * writing never destroys the last complete checkpoint.
+ */
+final class Checkpoint {
+
+    private static final int MAGIC = 0x52505343; // "RPSC"
+
+    private static final int VERSION = 2;
+
+    private final int numberOfRounds;
+
+    private final String player1Name;
+
+    private final String player2Name;
+
+    private final String ruleSetName;
+
+    private final String strategy1Class;
+
+    private final String strategy2Class;
+
+    private final int roundsPlayed;
+
+    private final long player1Score;
+
+    private final long player2Score;
+
+    private final long numberOfDraws;
+
+    private final long[] statistics;
+
+    private final long[] player1State;
+
+    private final long[] player2State;
+
+    Checkpoint(int numberOfRounds, String player1Name, String player2Name, String ruleSetName, String strategy1Class,
+               String strategy2Class, int roundsPlayed, long player1Score, long player2Score, long numberOfDraws,
+               long[] statistics, long[] player1State, long[] player2State) {
+        this.numberOfRounds = numberOfRounds;
+        this.player1Name = player1Name;
+        this.player2Name = player2Name;
+        this.ruleSetName = ruleSetName;
+        this.strategy1Class = strategy1Class;
+        this.strategy2Class = strategy2Class;
+        this.roundsPlayed = roundsPlayed;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.numberOfDraws = numberOfDraws;
+        this.statistics = statistics;
+        this.player1State = player1State;
+        this.player2State = player2State;
+    }
+
+    /**
+     * Reads the checkpoint from the file.
+     * @param file the checkpoint file
+     * @return the checkpoint
+     * @throws IllegalStateException if the file is no checkpoint
+     */
+    static Checkpoint read(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException(file + " is not a checkpoint");
+            }
+            return new Checkpoint(in.readInt(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                                  in.readInt(), in.readLong(), in.readLong(), in.readLong(), readLongs(in),
+                                  readLongs(in), readLongs(in));
+        } catch (EOFException e) {
+            throw new IllegalStateException(file + " is not a complete checkpoint", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint " + file + " could not be read", e);
+        }
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file, forces it to the storage device and moves it over the file.
+     * @param file the checkpoint file
+     */
+    void write(Path file) {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileOutputStream fileOut = new FileOutputStream(temporaryFile.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(numberOfRounds);
+            out.writeUTF(player1Name);
+            out.writeUTF(player2Name);
+            out.writeUTF(ruleSetName);
+            out.writeUTF(strategy1Class);
+            out.writeUTF(strategy2Class);
+            out.writeInt(roundsPlayed);
+            out.writeLong(player1Score);
+            out.writeLong(player2Score);
+            out.writeLong(numberOfDraws);
+            writeLongs(out, statistics);
+            writeLongs(out, player1State);
+            writeLongs(out, player2State);
+            out.flush();
+            fileOut.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint " + file + " could not be written", e);
+        }
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint " + file + " could not be replaced", e);
+        }
+    }
+
+    /**
+     * Verifies that this checkpoint has been written by a game like the one to be resumed: a game of the same number
+     * of rounds and rule set between players of the same names playing strategies of the same classes.
+     */
+    void verify(int numberOfRounds, RuleSet ruleSet, Player player1, Player player2) {
+        if (this.numberOfRounds != numberOfRounds
+                || !ruleSetName.equals(ruleSet.getName())
+                || !player1Name.equals(player1.getName())
+                || !player2Name.equals(player2.getName())
+                || !strategy1Class.equals(player1.getStrategy().getClass().getName())
+                || !strategy2Class.equals(player2.getStrategy().getClass().getName())) {
+            throw new IllegalStateException("Checkpoint belongs to a game of " + this.numberOfRounds + " rounds of "
+                                                    + ruleSetName + " between " + player1Name + " ("
+                                                    + strategy1Class + ") and " + player2Name + " ("
+                                                    + strategy2Class + ")");
+        }
+    }
+
+    int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+
+    long getPlayer1Score() {
+        return player1Score;
+    }
+
+    long getPlayer2Score() {
+        return player2Score;
+    }
+
+    long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+
+    long[] getStatistics() {
+        return statistics;
+    }
+
+    long[] getPlayer1State() {
+        return player1State;
+    }
+
+    long[] getPlayer2State() {
+        return player2State;
+    }
+
+    private static long[] readLongs(DataInputStream in) throws IOException {
+        long[] values = new long[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+}
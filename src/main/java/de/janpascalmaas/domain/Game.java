@@ -1,8 +1,27 @@
 package de.janpascalmaas.domain;
 
+import de.janpascalmaas.domain.round.CompactRoundHistory;
+import de.janpascalmaas.domain.round.DiscardingRoundHistory;
+import de.janpascalmaas.domain.round.ListRoundHistory;
 import de.janpascalmaas.domain.round.Round;
-import de.janpascalmaas.domain.round.RoundResult.Outcome;
+import de.janpascalmaas.domain.round.RoundBlock;
+import de.janpascalmaas.domain.round.RoundBlockListener;
+import de.janpascalmaas.domain.round.RoundHistory;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.round.RoundListener;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
+import de.janpascalmaas.domain.strategy.CheckpointableStrategy;
+import de.janpascalmaas.domain.strategy.PeriodicStrategy;
+import de.janpascalmaas.metrics.Counter;
+import de.janpascalmaas.metrics.LatencyHistogram;
+import de.janpascalmaas.metrics.Metrics;
+import jdk.jfr.FlightRecorder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,29 +30,60 @@ import java.util.List;
  * logic.
  * A game consists of two players, a number of rounds, and the winner of the game. All rounds that are played in the
  * game will be added on the fly. The game can be built using the Builder pattern.
+ * How the rounds are kept is defined by the {@link RoundHistoryMode}; long games should use the compact mode.
+ * Registered {@link RoundListener}s receive every round as soon as it is played, which together with
+ * {@link RoundHistoryMode#NONE} allows streaming games of any length in constant memory. {@link RoundBlockListener}s
+ * receive the rounds block by block without any round objects being created.
+ * Long games can write a checkpoint every few rounds. If the checkpoint file already exists when the game is built,
+ * the game resumes from it and ends with exactly the same result as a game that was never interrupted.
+ * Games between two {@link PeriodicStrategy periodic strategies} are fast-forwarded when no rounds have to be kept or
+ * reported: only one joint cycle of rounds is played and its results are extrapolated to the remaining rounds, with
+ * the same results as games played round by round.
  */
 public final class Game {
 
+    /**
+     * Number of rounds that are played at once, see {@link RoundBlock}.
+     */
+    static final int BLOCK_SIZE = 1024;
+
+    /**
+     * The maximum length of a joint cycle of two periodic strategies for which a game is fast-forwarded.
+     */
+    static final int MAX_CYCLE = 1 << 16;
+
+    private static final LatencyHistogram PLAY_LATENCY = Metrics.ENABLED
+            ? Metrics.registry().histogram("rps_game_play_seconds") : null;
+
+    private static final Counter GAMES_PLAYED = Metrics.ENABLED ? Metrics.registry().counter("rps_games_total") : null;
+
     private final Player player1;
 
     private final Player player2;
 
-    private final List<Round> rounds = new ArrayList<>();
+    private final RoundHistory rounds;
+
+    private final List<RoundListener> roundListeners;
+
+    private final List<RoundBlockListener> roundBlockListeners;
+
+    private final Scoreboard scoreboard;
+
+    private final GameStatistics statistics;
+
+    private final RuleSet ruleSet;
 
     private final int numberOfRounds;
 
-    private Player winner;
+    private final Path checkpointFile;
 
-    /**
-     * Testing constructor to create a game with two players and a default number of rounds.
-     * @param player1 the first player
-     * @param player2 the second player
-     */
-    Game(final Player player1, final Player player2) {
-        this.player1 = player1;
-        this.player2 = player2;
-        this.numberOfRounds = 0;
-    }
+    private final int checkpointInterval;
+
+    private final boolean fastForward;
+
+    private final int resumedRounds;
+
+    private Player winner;
 
     /**
      * Testing constructor to create a game with predefined rounds.
@@ -44,7 +94,16 @@ public final class Game {
         this.player1 = null;
         this.player2 = null;
         this.numberOfRounds = numberOfRounds;
-        this.rounds.addAll(rounds);
+        this.rounds = new ListRoundHistory(rounds);
+        this.roundListeners = List.of();
+        this.roundBlockListeners = List.of();
+        this.scoreboard = new Scoreboard(null, null);
+        this.ruleSet = RuleSet.CLASSIC;
+        this.statistics = new GameStatistics(ruleSet.size());
+        this.checkpointFile = null;
+        this.checkpointInterval = 0;
+        this.fastForward = false;
+        this.resumedRounds = 0;
     }
 
     /**
@@ -52,11 +111,48 @@ public final class Game {
      * @param numberOfRounds the number of rounds in the game
      * @param player1 the first player
      * @param player2 the second player
+     * @param ruleSet the rule set the rounds are played with
+     * @param roundHistoryMode defines how the played rounds are kept
+     * @param roundListeners the listeners to notify about every round played
+     * @param roundBlockListeners the listeners to notify about every block of rounds played
+     * @param checkpointFile the file to write checkpoints to and to resume from, or null
+     * @param checkpointInterval the minimum number of rounds between two checkpoints
+     * @param fastForward whether games between periodic strategies may be fast-forwarded
      */
-    private Game(final int numberOfRounds, final Player player1, final Player player2) {
+    private Game(final int numberOfRounds, final Player player1, final Player player2, final RuleSet ruleSet,
+                 final RoundHistoryMode roundHistoryMode, final List<RoundListener> roundListeners,
+                 final List<RoundBlockListener> roundBlockListeners, final Path checkpointFile,
+                 final int checkpointInterval, final boolean fastForward) {
         this.numberOfRounds = numberOfRounds;
         this.player1 = player1;
         this.player2 = player2;
+        this.ruleSet = ruleSet;
+        this.statistics = new GameStatistics(ruleSet.size());
+        this.roundListeners = List.copyOf(roundListeners);
+        this.roundBlockListeners = List.copyOf(roundBlockListeners);
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = checkpointInterval;
+        this.fastForward = fastForward;
+        Checkpoint checkpoint = checkpointFile != null && Files.exists(checkpointFile)
+                ? Checkpoint.read(checkpointFile) : null;
+        if (checkpoint == null) {
+            this.resumedRounds = 0;
+            this.rounds = switch (roundHistoryMode) {
+                case FULL -> new ListRoundHistory();
+                case COMPACT -> new CompactRoundHistory(player1, player2, numberOfRounds);
+                case NONE -> new DiscardingRoundHistory();
+            };
+            this.scoreboard = new Scoreboard(player1, player2);
+        } else {
+            checkpoint.verify(numberOfRounds, ruleSet, player1, player2);
+            this.resumedRounds = checkpoint.getRoundsPlayed();
+            this.rounds = new DiscardingRoundHistory(resumedRounds, checkpoint.getNumberOfDraws());
+            this.scoreboard = new Scoreboard(player1, player2, checkpoint.getPlayer1Score(),
+                                             checkpoint.getPlayer2Score());
+            this.statistics.restore(checkpoint.getStatistics());
+            ((CheckpointableStrategy) player1.getStrategy()).restoreState(checkpoint.getPlayer1State());
+            ((CheckpointableStrategy) player2.getStrategy()).restoreState(checkpoint.getPlayer2State());
+        }
         play();
     }
 
@@ -80,51 +176,222 @@ public final class Game {
         return player2;
     }
 
+    /**
+     * @return a read-only view of the rounds kept by the game, see {@link RoundHistoryMode}
+     */
     public List<Round> getRounds() {
-        return new ArrayList<>(rounds);
+        return rounds.getRounds();
     }
 
     public int getNumberOfRounds() {
         return numberOfRounds;
     }
 
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * @return the scores of the players in this game
+     */
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * @return the statistics of this game
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
     public Player getWinner() {
         return winner;
     }
 
     public long getNumberOfDraws() {
-        return rounds.stream()
-                .filter(round -> round.getRoundResult().getOutcome() == Outcome.DRAW)
-                .count();
+        return rounds.getNumberOfDraws();
     }
 
+    /**
+     * Plays the game, fast-forwarded if possible and block by block otherwise.
+     * The game and every {@link RoundBlockEvent#SAMPLE_INTERVAL}th block are recorded as flight recorder events.
+     * The events are only created once the flight recorder has been initialized, as loading an event class makes the
+     * flight recorder instrument it, which takes longer than starting the JVM and playing a short game.
+     */
     private void play() {
-        for (int i = 0; i < numberOfRounds; i++) {
-            rounds.add(
-                    Round.builder()
-                            .roundNumber(i + 1)
-                            .addPlayer1(player1)
-                            .addPlayer2(player2)
-                            .build());
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        GameEvent gameEvent = FlightRecorder.isInitialized() ? new GameEvent() : null;
+        if (gameEvent != null) {
+            gameEvent.begin();
+        }
+        int cycle = jointCycle();
+        if (cycle > 0) {
+            playFastForward(cycle);
+        } else {
+            playBlocks();
+        }
+        winner = scoreboard.getLeader();
+        player1.addToTotalScore(scoreboard.getPlayer1Score());
+        player2.addToTotalScore(scoreboard.getPlayer2Score());
+        if (checkpointFile != null) {
+            deleteCheckpoint();
+        }
+        if (gameEvent != null) {
+            commit(gameEvent);
+        }
+        if (Metrics.ENABLED) {
+            PLAY_LATENCY.recordSince(start);
+            GAMES_PLAYED.increment();
         }
-        winner = determineWinner(player1, player2);
     }
 
     /**
-     * Determines the winner of the game based on the scores of the players.
-     * The method is package-private for testing purposes only.
-     * @param player1 the first player of the game
-     * @param player2 the second player of the game
-     * @return the player with the higher score, or null if both players have the same score
+     * A game between two {@link PeriodicStrategy periodic strategies} repeats after a joint cycle of rounds, so it can
+     * be fast-forwarded if nobody needs to see the rounds themselves and the game is long enough to repeat the cycle.
+     * @return the length of the joint cycle, or 0 if the game has to be played round by round
      */
-    Player determineWinner(Player player1, Player player2) {
-        if (player1.getScore() > player2.getScore()) {
-            return player1;
+    private int jointCycle() {
+        if (!fastForward || !(rounds instanceof DiscardingRoundHistory) || !roundListeners.isEmpty()
+                || !roundBlockListeners.isEmpty()
+                || !(player1.getStrategy() instanceof PeriodicStrategy strategy1)
+                || !(player2.getStrategy() instanceof PeriodicStrategy strategy2)) {
+            return 0;
         }
-        if (player2.getScore() > player1.getScore()) {
-            return player2;
+        long period1 = strategy1.getPeriod();
+        long period2 = strategy2.getPeriod();
+        long cycle = period1 / gcd(period1, period2) * period2;
+        return cycle <= MAX_CYCLE && 2 * cycle <= numberOfRounds - resumedRounds ? (int) cycle : 0;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Plays one joint cycle of rounds and counts it for all complete cycles of the remaining rounds, so the time does
+     * not depend on the number of rounds. The cycle is a multiple of the periods of both strategies, so they play the
+     * same shapes in the rounds left over as if all cycles had been played. No checkpoints are written, as the game is
+     * finished at once.
+     */
+    private void playFastForward(int cycle) {
+        int remaining = numberOfRounds - resumedRounds;
+        int repetitions = remaining / cycle;
+        int played = repetitions * cycle;
+        RoundBlock block = new RoundBlock(player1, player2, cycle, ruleSet);
+        block.play(resumedRounds + 1, cycle);
+        scoreboard.record(block, repetitions);
+        statistics.record(block, repetitions);
+        ((DiscardingRoundHistory) rounds).add(played, (long) repetitions * block.count(RoundBlock.DRAW));
+        if (played < remaining) {
+            block.play(resumedRounds + played + 1, remaining - played);
+            scoreboard.record(block);
+            statistics.record(block);
+            rounds.add(block);
+        }
+    }
+
+    /**
+     * Plays the game block by block. Round objects are only created if the round history keeps them or listeners
+     * have to be notified; otherwise the rounds are taken from the columns of the block.
+     * Checkpoints are only written between two blocks, so the interval is rounded up to whole blocks.
+     */
+    private void playBlocks() {
+        boolean materialiseRounds = rounds instanceof ListRoundHistory || !roundListeners.isEmpty();
+        RoundBlock block = new RoundBlock(player1, player2, Math.min(BLOCK_SIZE, numberOfRounds), ruleSet);
+        int lastCheckpoint = resumedRounds;
+        int blockIndex = 0;
+        for (int played = resumedRounds; played < numberOfRounds; played += block.size(), blockIndex++) {
+            if (FlightRecorder.isInitialized() && RoundBlockEvent.isSampled(blockIndex)) {
+                playRecorded(block, played + 1, Math.min(BLOCK_SIZE, numberOfRounds - played));
+            } else {
+                block.play(played + 1, Math.min(BLOCK_SIZE, numberOfRounds - played));
+            }
+            scoreboard.record(block);
+            statistics.record(block);
+            // indexed loops, as an iterator per block or round would be the only allocation of the loop
+            for (int i = 0; i < roundBlockListeners.size(); i++) {
+                roundBlockListeners.get(i).onRoundBlock(block);
+            }
+            if (materialiseRounds) {
+                addRounds(block);
+            } else {
+                rounds.add(block);
+            }
+            int playedAfterBlock = played + block.size();
+            if (checkpointFile != null && playedAfterBlock < numberOfRounds
+                    && playedAfterBlock - lastCheckpoint >= checkpointInterval) {
+                writeCheckpoint(playedAfterBlock);
+                lastCheckpoint = playedAfterBlock;
+            }
+        }
+    }
+
+    /**
+     * Records the game if flight recording is on.
+     */
+    private void commit(GameEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.player1 = player1.getName();
+            event.strategy1 = player1.getStrategy().getClass().getName();
+            event.player2 = player2.getName();
+            event.strategy2 = player2.getStrategy().getClass().getName();
+            event.ruleSet = ruleSet.getName();
+            event.numberOfRounds = numberOfRounds;
+            event.resumedRounds = resumedRounds;
+            event.player1Score = scoreboard.getPlayer1Score();
+            event.player2Score = scoreboard.getPlayer2Score();
+            event.winner = winner == null ? null : winner.getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Plays the block and records it if flight recording is on. The event never escapes this method, so it is not
+     * allocated once the method is compiled.
+     */
+    private static void playRecorded(RoundBlock block, int firstRoundNumber, int length) {
+        RoundBlockEvent event = new RoundBlockEvent();
+        event.begin();
+        block.play(firstRoundNumber, length);
+        event.end();
+        if (event.shouldCommit()) {
+            event.firstRoundNumber = block.getFirstRoundNumber();
+            event.rounds = block.size();
+            event.player1Wins = block.count(RoundBlock.PLAYER1_WIN);
+            event.player2Wins = block.count(RoundBlock.PLAYER2_WIN);
+            event.draws = block.count(RoundBlock.DRAW);
+            event.commit();
+        }
+    }
+
+    private void writeCheckpoint(int roundsPlayed) {
+        new Checkpoint(numberOfRounds, player1.getName(), player2.getName(), ruleSet.getName(),
+                       player1.getStrategy().getClass().getName(), player2.getStrategy().getClass().getName(),
+                       roundsPlayed, scoreboard.getPlayer1Score(), scoreboard.getPlayer2Score(),
+                       rounds.getNumberOfDraws(), statistics.snapshot(),
+                       ((CheckpointableStrategy) player1.getStrategy()).saveState(),
+                       ((CheckpointableStrategy) player2.getStrategy()).saveState())
+                .write(checkpointFile);
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint " + checkpointFile + " could not be deleted", e);
+        }
+    }
+
+    private void addRounds(RoundBlock block) {
+        for (int i = 0; i < block.size(); i++) {
+            Round round = block.getRound(i);
+            rounds.add(round);
+            for (int j = 0; j < roundListeners.size(); j++) {
+                roundListeners.get(j).onRound(round);
+            }
         }
-        return null;
     }
 
     /**
@@ -140,6 +407,20 @@ public final class Game {
 
         private Player player2;
 
+        private RuleSet ruleSet = RuleSet.CLASSIC;
+
+        private RoundHistoryMode roundHistoryMode = RoundHistoryMode.FULL;
+
+        private final List<RoundListener> roundListeners = new ArrayList<>();
+
+        private final List<RoundBlockListener> roundBlockListeners = new ArrayList<>();
+
+        private Path checkpointFile;
+
+        private int checkpointInterval;
+
+        private boolean fastForward = true;
+
         public Builder numberOfRounds(int numberOfRounds) {
             this.numberOfRounds = numberOfRounds;
             return this;
@@ -161,6 +442,73 @@ public final class Game {
             return this;
         }
 
+        /**
+         * Plays the game with another rule set than the classic one. The strategies of the players have to choose
+         * from the shapes of the rule set; adaptive strategies, the compact round history and replay logs only
+         * support the classic rule set.
+         * @param ruleSet the rule set the rounds are played with
+         */
+        public Builder ruleSet(RuleSet ruleSet) {
+            if (ruleSet == null) {
+                throw new IllegalArgumentException("Rule set must not be null");
+            }
+            this.ruleSet = ruleSet;
+            return this;
+        }
+
+        public Builder roundHistory(RoundHistoryMode roundHistoryMode) {
+            if (roundHistoryMode == null) {
+                throw new IllegalArgumentException("Round history mode must not be null");
+            }
+            this.roundHistoryMode = roundHistoryMode;
+            return this;
+        }
+
+        public Builder addRoundListener(RoundListener roundListener) {
+            if (roundListener == null) {
+                throw new IllegalArgumentException("Round listener must not be null");
+            }
+            this.roundListeners.add(roundListener);
+            return this;
+        }
+
+        public Builder addRoundBlockListener(RoundBlockListener roundBlockListener) {
+            if (roundBlockListener == null) {
+                throw new IllegalArgumentException("Round block listener must not be null");
+            }
+            this.roundBlockListeners.add(roundBlockListener);
+            return this;
+        }
+
+        /**
+         * Writes a checkpoint of the game to the file after every interval of rounds and resumes the game from the
+         * file if it already exists. The file is deleted when the game is finished. Checkpoints require the
+         * {@link RoundHistoryMode#NONE} round history and strategies implementing {@link CheckpointableStrategy}.
+         * @param file the checkpoint file
+         * @param intervalRounds the minimum number of rounds between two checkpoints
+         */
+        public Builder checkpoint(Path file, int intervalRounds) {
+            if (file == null) {
+                throw new IllegalArgumentException("Checkpoint file must not be null");
+            }
+            if (intervalRounds <= 0) {
+                throw new IllegalArgumentException("Checkpoint interval must be greater than 0");
+            }
+            this.checkpointFile = file;
+            this.checkpointInterval = intervalRounds;
+            return this;
+        }
+
+        /**
+         * Games between two {@link PeriodicStrategy periodic strategies} are fast-forwarded by default if no rounds
+         * are kept or reported. Disabling the fast-forward plays every round, e.g. to measure the engine itself.
+         * @param enabled whether the game may be fast-forwarded
+         * @return this builder
+         */
+        public Builder fastForward(boolean enabled) {
+            this.fastForward = enabled;
+            return this;
+        }
 
         public Game play() {
             if (numberOfRounds <= 0) {
@@ -175,7 +523,47 @@ public final class Game {
             if (player2 == null) {
                 throw new IllegalStateException("Player 2 must be added to the game");
             }
-            return new Game(numberOfRounds, player1, player2);
+            validateRuleSet();
+            if (checkpointFile != null) {
+                validateCheckpoint();
+            }
+            return new Game(numberOfRounds, player1, player2, ruleSet, roundHistoryMode, roundListeners,
+                            roundBlockListeners, checkpointFile, checkpointInterval, fastForward);
+        }
+
+        /**
+         * The rounds are evaluated by the ordinals of the shapes, so shapes of another rule set would be scored
+         * wrongly or not at all.
+         */
+        private void validateRuleSet() {
+            if (ruleSet != RuleSet.CLASSIC) {
+                if (roundHistoryMode == RoundHistoryMode.COMPACT) {
+                    throw new IllegalStateException("Compact round history only supports the classic rule set");
+                }
+                for (Player player : List.of(player1, player2)) {
+                    if (player.getStrategy() instanceof AdaptiveStrategy) {
+                        throw new IllegalStateException("Strategy of player " + player.getName()
+                                                                + " only supports the classic rule set");
+                    }
+                }
+            }
+            for (Player player : List.of(player1, player2)) {
+                player.requireRuleSet(ruleSet);
+            }
+        }
+
+        private void validateCheckpoint() {
+            if (roundHistoryMode != RoundHistoryMode.NONE) {
+                throw new IllegalStateException("Checkpoints require round history mode NONE");
+            }
+            for (Player player : List.of(player1, player2)) {
+                if (!(player.getStrategy() instanceof CheckpointableStrategy strategy)) {
+                    throw new IllegalStateException("Strategy of player " + player.getName()
+                                                            + " does not support checkpoints");
+                }
+                // fail before the game is played if the state of the strategy can not be saved
+                strategy.saveState();
+            }
         }
     }
 
@@ -0,0 +1,49 @@
+package de.janpascalmaas.domain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning a game from its start to its end, so recordings show which game was played while
+ * the JVM was collecting garbage or sampling the CPU. The event is committed when the game ends.
+ */
+@Name("de.janpascalmaas.Game")
+@Label("Game")
+@Category("Rock Paper Scissors")
+@Description("A game of rock paper scissors from its first to its last round")
+final class GameEvent extends jdk.jfr.Event {
+
+    @Label("Player 1")
+    String player1;
+
+    @Label("Strategy 1")
+    String strategy1;
+
+    @Label("Player 2")
+    String player2;
+
+    @Label("Strategy 2")
+    String strategy2;
+
+    @Label("Rule Set")
+    String ruleSet;
+
+    @Label("Number of Rounds")
+    int numberOfRounds;
+
+    @Label("Resumed Rounds")
+    @Description("Rounds restored from a checkpoint instead of being played")
+    int resumedRounds;
+
+    @Label("Player 1 Score")
+    long player1Score;
+
+    @Label("Player 2 Score")
+    long player2Score;
+
+    @Label("Winner")
+    @Description("Name of the winner, or null if the game ended in a draw")
+    String winner;
+}
@@ -0,0 +1,182 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.RoundBlock;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+
+/**
+ * Statistics of a game that are maintained while the game is played, so every query is answered in constant time
+ * without looking at the rounds again. The statistics cover how often each player played each shape and the longest
+ * streaks of won rounds and draws. The number of won rounds is kept by the {@link Scoreboard} of the game.
+ * The statistics are only written by the thread playing the game.
+ */
+public final class GameStatistics {
+
+    private final long[] player1ShapeCounts;
+
+    private final long[] player2ShapeCounts;
+
+    private long player1Streak;
+
+    private long player2Streak;
+
+    private long drawStreak;
+
+    private long player1LongestStreak;
+
+    private long player2LongestStreak;
+
+    private long longestDrawStreak;
+
+    /**
+     * @param numberOfShapes the number of shapes of the rule set of the game
+     */
+    GameStatistics(int numberOfShapes) {
+        this.player1ShapeCounts = new long[numberOfShapes];
+        this.player2ShapeCounts = new long[numberOfShapes];
+    }
+
+    /**
+     * @return the counters of the statistics including the current streaks, to be stored in a checkpoint
+     */
+    long[] snapshot() {
+        int shapes = player1ShapeCounts.length;
+        long[] snapshot = new long[2 * shapes + 6];
+        System.arraycopy(player1ShapeCounts, 0, snapshot, 0, shapes);
+        System.arraycopy(player2ShapeCounts, 0, snapshot, shapes, shapes);
+        snapshot[2 * shapes] = player1Streak;
+        snapshot[2 * shapes + 1] = player2Streak;
+        snapshot[2 * shapes + 2] = drawStreak;
+        snapshot[2 * shapes + 3] = player1LongestStreak;
+        snapshot[2 * shapes + 4] = player2LongestStreak;
+        snapshot[2 * shapes + 5] = longestDrawStreak;
+        return snapshot;
+    }
+
+    /**
+     * Restores the counters of a {@link #snapshot()}.
+     */
+    void restore(long[] snapshot) {
+        int shapes = player1ShapeCounts.length;
+        if (snapshot.length != 2 * shapes + 6) {
+            throw new IllegalArgumentException("Snapshot does not contain game statistics");
+        }
+        System.arraycopy(snapshot, 0, player1ShapeCounts, 0, shapes);
+        System.arraycopy(snapshot, shapes, player2ShapeCounts, 0, shapes);
+        player1Streak = snapshot[2 * shapes];
+        player2Streak = snapshot[2 * shapes + 1];
+        drawStreak = snapshot[2 * shapes + 2];
+        player1LongestStreak = snapshot[2 * shapes + 3];
+        player2LongestStreak = snapshot[2 * shapes + 4];
+        longestDrawStreak = snapshot[2 * shapes + 5];
+    }
+
+    void record(RoundBlock block) {
+        for (int i = 0; i < block.size(); i++) {
+            player1ShapeCounts[block.getPlayer1Shape(i)]++;
+            player2ShapeCounts[block.getPlayer2Shape(i)]++;
+            switch (block.getOutcome(i)) {
+                case RoundBlock.PLAYER1_WIN -> {
+                    player1LongestStreak = Math.max(player1LongestStreak, ++player1Streak);
+                    player2Streak = 0;
+                    drawStreak = 0;
+                }
+                case RoundBlock.PLAYER2_WIN -> {
+                    player2LongestStreak = Math.max(player2LongestStreak, ++player2Streak);
+                    player1Streak = 0;
+                    drawStreak = 0;
+                }
+                default -> {
+                    longestDrawStreak = Math.max(longestDrawStreak, ++drawStreak);
+                    player1Streak = 0;
+                    player2Streak = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the rounds of a block that has been played several times in a row. Unless all rounds of the block have
+     * the same outcome, every streak ends within the block, so the streaks are the same after every repetition from
+     * the second on and only the shape counts keep growing. Otherwise, the one streak just grows by the block.
+     * @param block the block of rounds
+     * @param repetitions the number of times the block has been played
+     */
+    void record(RoundBlock block, long repetitions) {
+        for (long i = 0; i < Math.min(repetitions, 2); i++) {
+            record(block);
+        }
+        long remaining = repetitions - 2;
+        if (remaining <= 0) {
+            return;
+        }
+        for (int i = 0; i < block.size(); i++) {
+            player1ShapeCounts[block.getPlayer1Shape(i)] += remaining;
+            player2ShapeCounts[block.getPlayer2Shape(i)] += remaining;
+        }
+        long rounds = remaining * block.size();
+        if (block.count(RoundBlock.PLAYER1_WIN) == block.size()) {
+            player1Streak += rounds;
+            player1LongestStreak = Math.max(player1LongestStreak, player1Streak);
+        } else if (block.count(RoundBlock.PLAYER2_WIN) == block.size()) {
+            player2Streak += rounds;
+            player2LongestStreak = Math.max(player2LongestStreak, player2Streak);
+        } else if (block.count(RoundBlock.DRAW) == block.size()) {
+            drawStreak += rounds;
+            longestDrawStreak = Math.max(longestDrawStreak, drawStreak);
+        }
+    }
+
+    /**
+     * @param type the type of the shape
+     * @return how often the first player played the shape
+     */
+    public long getPlayer1ShapeCount(ShapeType type) {
+        return player1ShapeCounts[type.ordinal()];
+    }
+
+    /**
+     * @param type the type of the shape
+     * @return how often the second player played the shape
+     */
+    public long getPlayer2ShapeCount(ShapeType type) {
+        return player2ShapeCounts[type.ordinal()];
+    }
+
+    /**
+     * @param shape a shape of the rule set of the game
+     * @return how often the first player played the shape
+     */
+    public long getPlayer1ShapeCount(Shape shape) {
+        return player1ShapeCounts[shape.getOrdinal()];
+    }
+
+    /**
+     * @param shape a shape of the rule set of the game
+     * @return how often the second player played the shape
+     */
+    public long getPlayer2ShapeCount(Shape shape) {
+        return player2ShapeCounts[shape.getOrdinal()];
+    }
+
+    /**
+     * @return the highest number of consecutive rounds won by the first player
+     */
+    public long getPlayer1LongestWinningStreak() {
+        return player1LongestStreak;
+    }
+
+    /**
+     * @return the highest number of consecutive rounds won by the second player
+     */
+    public long getPlayer2LongestWinningStreak() {
+        return player2LongestStreak;
+    }
+
+    /**
+     * @return the highest number of consecutive rounds that ended in a draw
+     */
+    public long getLongestDrawStreak() {
+        return longestDrawStreak;
+    }
+}
@@ -0,0 +1,203 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.MultiPlayerRoundBlock;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Domain class to represent a free-for-all game of rock paper scissors between any number of players.
+ * All players play every round. The players of a shape win the round if the shape beats another shape played in the
+ * round and no shape played beats it, which is decided from the histogram of the shapes played instead of comparing
+ * all pairs of players, see {@link MultiPlayerRoundBlock}. The scores are kept in a primitive array indexed by the
+ * id of the player, which is the order in which the players were added. No rounds are kept, so games of thousands of
+ * players and any number of rounds run in memory linear in the number of players. The game can be built using the
+ * Builder pattern and is played on creation.
+ */
+public final class MultiPlayerGame {
+
+    /**
+     * Number of rounds that are played at once. The blocks are smaller than the blocks of a {@link Game}, as a block
+     * keeps the shapes of every player.
+     */
+    static final int BLOCK_SIZE = 256;
+
+    private final List<Player> players;
+
+    private final RuleSet ruleSet;
+
+    private final int numberOfRounds;
+
+    private final long[] scores;
+
+    private long numberOfDraws;
+
+    private List<Player> winners;
+
+    private MultiPlayerGame(int numberOfRounds, List<Player> players, RuleSet ruleSet) {
+        this.numberOfRounds = numberOfRounds;
+        this.players = List.copyOf(players);
+        this.ruleSet = ruleSet;
+        this.scores = new long[players.size()];
+        play();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private void play() {
+        MultiPlayerRoundBlock block = new MultiPlayerRoundBlock(players, Math.min(BLOCK_SIZE, numberOfRounds),
+                                                                ruleSet);
+        for (int played = 0; played < numberOfRounds; played += block.size()) {
+            block.play(played + 1, Math.min(BLOCK_SIZE, numberOfRounds - played));
+            block.addScores(scores);
+            numberOfDraws += block.getNumberOfDraws();
+        }
+        winners = leaders();
+        for (int id = 0; id < scores.length; id++) {
+            players.get(id).addToTotalScore(scores[id]);
+        }
+    }
+
+    private List<Player> leaders() {
+        long highScore = Long.MIN_VALUE;
+        long lowScore = Long.MAX_VALUE;
+        for (long score : scores) {
+            highScore = Math.max(highScore, score);
+            lowScore = Math.min(lowScore, score);
+        }
+        if (highScore == lowScore) {
+            return List.of();
+        }
+        List<Player> leaders = new ArrayList<>();
+        for (int id = 0; id < scores.length; id++) {
+            if (scores[id] == highScore) {
+                leaders.add(players.get(id));
+            }
+        }
+        return Collections.unmodifiableList(leaders);
+    }
+
+    /**
+     * @return the players of the game, ordered by their id
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public int getNumberOfPlayers() {
+        return players.size();
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public int getNumberOfRounds() {
+        return numberOfRounds;
+    }
+
+    /**
+     * @param playerId the id of the player, its position in {@link #getPlayers()}
+     * @return the number of rounds the player has won in the game
+     */
+    public long getScore(int playerId) {
+        return scores[playerId];
+    }
+
+    /**
+     * @return the scores of all players, indexed by their id
+     */
+    public long[] getScores() {
+        return scores.clone();
+    }
+
+    /**
+     * @return the number of rounds without a winner
+     */
+    public long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+
+    /**
+     * @return the players with the highest score, or an empty list if all players have the same score
+     */
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * Builder class to create a MultiPlayerGame instance.
+     * The builder ensures that the game has at least two distinct players and a positive number of rounds before the
+     * game is played. Adaptive strategies learn from a single opponent, so they can not take part in free-for-all
+     * games.
+     */
+    public static class Builder {
+        private int numberOfRounds;
+
+        private RuleSet ruleSet = RuleSet.CLASSIC;
+
+        private final List<Player> players = new ArrayList<>();
+
+        private final Set<Player> addedPlayers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        public Builder numberOfRounds(int numberOfRounds) {
+            this.numberOfRounds = numberOfRounds;
+            return this;
+        }
+
+        /**
+         * Adds a player to the game. The id of the player is the number of players added before.
+         * @param player the player to add
+         * @return this builder
+         */
+        public Builder addPlayer(Player player) {
+            if (player == null) {
+                throw new IllegalArgumentException("Player must not be null");
+            }
+            if (player.getStrategy() instanceof AdaptiveStrategy) {
+                throw new IllegalStateException("Strategy of player " + player.getName()
+                                                        + " does not support multi-player games");
+            }
+            if (!addedPlayers.add(player)) {
+                throw new IllegalStateException("Player " + player.getName() + " is already part of the game");
+            }
+            players.add(player);
+            return this;
+        }
+
+        public Builder addPlayers(List<Player> players) {
+            for (Player player : players) {
+                addPlayer(player);
+            }
+            return this;
+        }
+
+        public Builder ruleSet(RuleSet ruleSet) {
+            if (ruleSet == null) {
+                throw new IllegalArgumentException("Rule set must not be null");
+            }
+            this.ruleSet = ruleSet;
+            return this;
+        }
+
+        public MultiPlayerGame play() {
+            if (numberOfRounds <= 0) {
+                throw new IllegalArgumentException("Number of rounds must be greater than 0");
+            }
+            if (players.size() < 2) {
+                throw new IllegalStateException("At least 2 players must be added to the game");
+            }
+            for (Player player : players) {
+                player.requireRuleSet(ruleSet);
+            }
+            return new MultiPlayerGame(numberOfRounds, players, ruleSet);
+        }
+    }
+}
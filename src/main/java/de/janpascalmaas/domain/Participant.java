@@ -0,0 +1,42 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+
+import java.util.function.LongFunction;
+
+/**
+ * Definition of a player taking part in many games, e.g. the matches of a tournament or the games of a simulation.
+ * As strategies may keep state, every game of the participant gets a new {@link Player} with a new strategy created
+ * by the strategy factory. The factory receives a seed derived for the game, so seeded strategies are reproducible
+ * however the games are scheduled.
+ */
+public final class Participant {
+
+    private final String name;
+
+    private final LongFunction<? extends PlayerStrategy> strategyFactory;
+
+    /**
+     * @param name the name of the participant
+     * @param strategyFactory creates the strategy of the participant for every game from the seed of the game
+     */
+    public Participant(String name, LongFunction<? extends PlayerStrategy> strategyFactory) {
+        this.name = name;
+        this.strategyFactory = strategyFactory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param seed the seed of the game
+     * @return a new player with a new strategy
+     */
+    public Player newPlayer(long seed) {
+        return Player.builder()
+                .withName(name)
+                .withStrategy(strategyFactory.apply(seed))
+                .build();
+    }
+}
@@ -1,19 +1,49 @@
 package de.janpascalmaas.domain;
 
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 import de.janpascalmaas.domain.strategy.PlayerStrategy;
-
+import de.janpascalmaas.metrics.Counter;
+import de.janpascalmaas.metrics.LatencyHistogram;
+import de.janpascalmaas.metrics.Metrics;
+import jdk.jfr.FlightRecorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Domain class to represent a player of the game rock paper scissors.
+ * A player is represented by its name and its strategy. The score of a single game is kept by the
+ * {@link Scoreboard} of the game, so a player can take part in many games at the same time. The player only
+ * accumulates the total score of all its finished games, which is safe to update from concurrent games.
+ */
 public final class Player {
 
     private final PlayerStrategy strategy;
 
     private final String name;
 
-    private int score = 0;
+    private final LongAdder totalScore = new LongAdder();
+
+    private final LatencyHistogram nextShapeLatency;
+
+    private final LatencyHistogram fillLatency;
+
+    private final Counter shapesRequested;
 
     private Player(PlayerStrategy strategy, String name) {
         this.strategy = strategy;
         this.name = name;
+        if (Metrics.ENABLED) {
+            String strategyName = strategy.getClass().getSimpleName();
+            this.nextShapeLatency = Metrics.registry().histogram("rps_strategy_next_shape_seconds",
+                                                                 "strategy", strategyName);
+            this.fillLatency = Metrics.registry().histogram("rps_strategy_fill_seconds", "strategy", strategyName);
+            this.shapesRequested = Metrics.registry().counter("rps_strategy_shapes_total", "strategy", strategyName);
+        } else {
+            this.nextShapeLatency = null;
+            this.fillLatency = null;
+            this.shapesRequested = null;
+        }
     }
 
     public static Builder builder() {
@@ -28,16 +58,85 @@ public final class Player {
         return name;
     }
 
-    public int getScore() {
-        return score;
+    /**
+     * @return the number of rounds the player has won in all its finished games
+     */
+    public long getTotalScore() {
+        return totalScore.sum();
     }
 
-    public void incrementScore() {
-        this.score++;
+    void addToTotalScore(long score) {
+        totalScore.add(score);
+    }
+
+    /**
+     * @param ruleSet the rule set of the game the player takes part in
+     * @throws IllegalStateException if the strategy of the player plays the shapes of another rule set
+     */
+    void requireRuleSet(RuleSet ruleSet) {
+        if (strategy.getRuleSet() != ruleSet) {
+            throw new IllegalStateException("Strategy of player " + name + " plays shapes of rule set "
+                                                    + strategy.getRuleSet() + " instead of " + ruleSet);
+        }
     }
 
     public Shape getNextShape() {
-        return strategy.getNextShape();
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        Shape shape = FlightRecorder.isInitialized() ? getNextShapeRecorded() : strategy.getNextShape();
+        if (Metrics.ENABLED) {
+            nextShapeLatency.recordSince(start);
+            shapesRequested.increment();
+        }
+        return shape;
+    }
+
+    /**
+     * Writes the ordinals of the next shapes of the player into the buffer.
+     * @see PlayerStrategy#fillNextShapes(byte[], int, int)
+     */
+    public void fillNextShapes(byte[] buffer, int offset, int length) {
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        if (FlightRecorder.isInitialized()) {
+            fillNextShapesRecorded(buffer, offset, length);
+        } else {
+            strategy.fillNextShapes(buffer, offset, length);
+        }
+        if (Metrics.ENABLED) {
+            fillLatency.recordSince(start);
+            shapesRequested.add(length);
+        }
+    }
+
+    /**
+     * The decisions are only recorded once the flight recorder has been initialized, so the event class is not loaded
+     * and instrumented by short runs without a recording.
+     */
+    private Shape getNextShapeRecorded() {
+        StrategyDecisionEvent event = new StrategyDecisionEvent();
+        event.begin();
+        Shape shape = strategy.getNextShape();
+        commit(event, 1);
+        return shape;
+    }
+
+    private void fillNextShapesRecorded(byte[] buffer, int offset, int length) {
+        StrategyDecisionEvent event = new StrategyDecisionEvent();
+        event.begin();
+        strategy.fillNextShapes(buffer, offset, length);
+        commit(event, length);
+    }
+
+    /**
+     * Records the decision of the strategy if flight recording is on and the decision was slow.
+     */
+    private void commit(StrategyDecisionEvent event, int shapes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = name;
+            event.strategy = strategy.getClass().getName();
+            event.shapes = shapes;
+            event.commit();
+        }
     }
 
     public static class Builder {
@@ -0,0 +1,47 @@
+package de.janpascalmaas.domain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for playing a block of rounds. A long game plays hundreds of thousands of blocks, so only
+ * every {@link #SAMPLE_INTERVAL}th block of a game is recorded, which is enough to see the throughput of the game
+ * over time without flooding the recording. As sampled blocks are rare, the code recording them may run interpreted
+ * for a long time, so the event is only created at all once the flight recorder has been initialized.
+ */
+@Name("de.janpascalmaas.RoundBlock")
+@Label("Round Block")
+@Category("Rock Paper Scissors")
+@Description("A sampled block of rounds, filled by the strategies and evaluated at once")
+final class RoundBlockEvent extends jdk.jfr.Event {
+
+    /**
+     * Number of blocks per recorded block, a power of two.
+     */
+    static final int SAMPLE_INTERVAL = 16;
+
+    @Label("First Round")
+    int firstRoundNumber;
+
+    @Label("Rounds")
+    int rounds;
+
+    @Label("Player 1 Wins")
+    int player1Wins;
+
+    @Label("Player 2 Wins")
+    int player2Wins;
+
+    @Label("Draws")
+    int draws;
+
+    /**
+     * @param blockIndex the index of the block in the game
+     * @return true if the block has to be recorded if a recording is running
+     */
+    static boolean isSampled(int blockIndex) {
+        return (blockIndex & (SAMPLE_INTERVAL - 1)) == 0;
+    }
+}
@@ -0,0 +1,96 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.RoundBlock;
+import de.janpascalmaas.domain.round.RoundResult;
+
+/**
+ * Scores of the two players of a single game.
+ * The scoreboard belongs to exactly one game and is only written by the thread playing this game, so players can take
+ * part in any number of games, sequentially or in parallel, without their scores leaking between the games.
+ */
+public final class Scoreboard {
+
+    private final Player player1;
+
+    private final Player player2;
+
+    private long player1Score;
+
+    private long player2Score;
+
+    Scoreboard(Player player1, Player player2) {
+        this.player1 = player1;
+        this.player2 = player2;
+    }
+
+    /**
+     * Constructor to create a scoreboard with predefined scores, used by tests and to resume a game from a
+     * checkpoint.
+     */
+    Scoreboard(Player player1, Player player2, long player1Score, long player2Score) {
+        this(player1, player2);
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+    }
+
+    void record(RoundResult roundResult) {
+        if (roundResult.getOutcome() != RoundResult.Outcome.WIN) {
+            return;
+        }
+        if (roundResult.getWinner() == player1) {
+            player1Score++;
+        } else if (roundResult.getWinner() == player2) {
+            player2Score++;
+        }
+    }
+
+    void record(RoundBlock block) {
+        player1Score += block.count(RoundBlock.PLAYER1_WIN);
+        player2Score += block.count(RoundBlock.PLAYER2_WIN);
+    }
+
+    /**
+     * Records the rounds of a block that has been played several times in a row.
+     * @param block the block of rounds
+     * @param repetitions the number of times the block has been played
+     */
+    void record(RoundBlock block, long repetitions) {
+        player1Score += block.count(RoundBlock.PLAYER1_WIN) * repetitions;
+        player2Score += block.count(RoundBlock.PLAYER2_WIN) * repetitions;
+    }
+
+    public long getPlayer1Score() {
+        return player1Score;
+    }
+
+    public long getPlayer2Score() {
+        return player2Score;
+    }
+
+    /**
+     * @param player one of the players of the game
+     * @return the number of rounds the player has won in the game
+     */
+    public long getScore(Player player) {
+        if (player == player1) {
+            return player1Score;
+        }
+        if (player == player2) {
+            return player2Score;
+        }
+        throw new IllegalArgumentException("Player " + player.getName() + " is not part of the game");
+    }
+
+    /**
+     * @return the player with the higher score, or null if both players have the same score
+     */
+    public Player getLeader() {
+        if (player1Score > player2Score) {
+            return player1;
+        }
+        if (player2Score > player1Score) {
+            return player2;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package de.janpascalmaas.domain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a strategy deciding on one or more shapes. Only decisions taking longer than the
+ * threshold are recorded, 1 millisecond unless configured otherwise in the recording settings.
+ */
+@Name("de.janpascalmaas.StrategyDecision")
+@Label("Slow Strategy Decision")
+@Category("Rock Paper Scissors")
+@Description("A strategy taking longer than the threshold to decide on its next shapes")
+@Threshold("1 ms")
+final class StrategyDecisionEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Shapes")
+    @Description("Number of shapes decided on at once")
+    int shapes;
+}
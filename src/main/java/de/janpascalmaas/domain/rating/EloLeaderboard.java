@@ -0,0 +1,215 @@
+package de.janpascalmaas.domain.rating;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Elo ratings of the players of many matches, updated from the results of the matches as they finish.
+ * The leaderboard is lock-free: every player has its own entry whose rating is changed with a compare-and-set of its
+ * bits, so results of different matches can be recorded from any number of threads at the same time and no update is
+ * lost. New players are added to a {@link ConcurrentHashMap} on their first match. Both changes of a match are computed
+ * from the ratings before the match and have the same size, so the sum of all ratings stays the same.
+ * Leaderboards of the best players are read while results are still being recorded, with a single pass over all
+ * entries that keeps the best players in a bounded heap. They are weakly consistent: a result recorded during the
+ * pass may be contained for one of its players only.
+ * The leaderboard can be built using the Builder pattern.
+ */
+public final class EloLeaderboard {
+
+    /**
+     * The order of a leaderboard: highest rating first, players with the same rating ordered by name.
+     */
+    private static final Comparator<Rating> ORDER = Comparator.comparingDouble(Rating::getRating).reversed()
+            .thenComparing(Rating::getName);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final double kFactor;
+
+    private final double initialRating;
+
+    private EloLeaderboard(double kFactor, double initialRating) {
+        this.kFactor = kFactor;
+        this.initialRating = initialRating;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Updates the ratings of both players of a finished match.
+     * @param player1 the name of the first player
+     * @param player2 the name of the second player
+     * @param player1Score the score of the first player: 1 for a win, 0.5 for a draw and 0 for a loss
+     */
+    public void record(String player1, String player2, double player1Score) {
+        if (player1 == null || player2 == null) {
+            throw new IllegalArgumentException("Player names must not be null");
+        }
+        if (player1.equals(player2)) {
+            throw new IllegalArgumentException("Player " + player1 + " can not play against itself");
+        }
+        if (!(player1Score >= 0 && player1Score <= 1)) {
+            throw new IllegalArgumentException("Score must be between 0 and 1");
+        }
+        Entry entry1 = entries.computeIfAbsent(player1, name -> new Entry(name, initialRating));
+        Entry entry2 = entries.computeIfAbsent(player2, name -> new Entry(name, initialRating));
+        double change = kFactor * (player1Score - expectedScore(entry1.rating(), entry2.rating()));
+        entry1.add(change);
+        entry2.add(-change);
+    }
+
+    /**
+     * @param rating the rating of a player
+     * @param opponentRating the rating of its opponent
+     * @return the expected score of the player against the opponent
+     */
+    static double expectedScore(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+    }
+
+    /**
+     * @param name the name of the player
+     * @return the current rating of the player
+     */
+    public Rating get(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Player " + name + " has not played any rated match");
+        }
+        return entry.snapshot();
+    }
+
+    /**
+     * @return the number of rated players
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Reads the best players without blocking concurrent updates. The pass over all players keeps the best of them
+     * in a heap of the given size, so only players that enter the heap are copied.
+     * @param count the maximum number of players to return
+     * @return the ratings of the best players, best player first
+     */
+    public List<Rating> top(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be greater than 0");
+        }
+        PriorityQueue<Rating> best = new PriorityQueue<>(count, ORDER.reversed());
+        for (Entry entry : entries.values()) {
+            double rating = entry.rating();
+            if (best.size() == count) {
+                Rating worst = best.peek();
+                if (rating < worst.getRating()
+                        || rating == worst.getRating() && entry.name.compareTo(worst.getName()) > 0) {
+                    continue;
+                }
+                best.poll();
+            }
+            best.add(new Rating(entry.name, rating, entry.matches()));
+        }
+        List<Rating> top = new ArrayList<>(best);
+        top.sort(ORDER);
+        return List.copyOf(top);
+    }
+
+    /**
+     * Rating of a single player, kept as the bits of a double so it can be changed with a compare-and-set.
+     */
+    private static final class Entry {
+
+        private static final VarHandle RATING_BITS;
+
+        private static final VarHandle MATCHES;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                RATING_BITS = lookup.findVarHandle(Entry.class, "ratingBits", long.class);
+                MATCHES = lookup.findVarHandle(Entry.class, "matches", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final String name;
+
+        private volatile long ratingBits;
+
+        private volatile long matches;
+
+        Entry(String name, double rating) {
+            this.name = name;
+            this.ratingBits = Double.doubleToRawLongBits(rating);
+        }
+
+        double rating() {
+            return Double.longBitsToDouble(ratingBits);
+        }
+
+        long matches() {
+            return matches;
+        }
+
+        void add(double change) {
+            long bits;
+            long changedBits;
+            do {
+                bits = ratingBits;
+                changedBits = Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + change);
+            } while (!RATING_BITS.weakCompareAndSet(this, bits, changedBits));
+            MATCHES.getAndAdd(this, 1L);
+        }
+
+        Rating snapshot() {
+            return new Rating(name, rating(), matches);
+        }
+    }
+
+    /**
+     * Builder class to create an EloLeaderboard instance.
+     * By default, players start with a rating of 1500 and the ratings change by at most 32 points per match.
+     */
+    public static class Builder {
+
+        private double kFactor = 32;
+
+        private double initialRating = 1500;
+
+        /**
+         * @param kFactor the maximum change of a rating by a single match
+         * @return this builder
+         */
+        public Builder kFactor(double kFactor) {
+            if (!(kFactor > 0)) {
+                throw new IllegalArgumentException("K-factor must be greater than 0");
+            }
+            this.kFactor = kFactor;
+            return this;
+        }
+
+        /**
+         * @param initialRating the rating of a player before its first match
+         * @return this builder
+         */
+        public Builder initialRating(double initialRating) {
+            if (!Double.isFinite(initialRating)) {
+                throw new IllegalArgumentException("Initial rating must be finite");
+            }
+            this.initialRating = initialRating;
+            return this;
+        }
+
+        public EloLeaderboard build() {
+            return new EloLeaderboard(kFactor, initialRating);
+        }
+    }
+}
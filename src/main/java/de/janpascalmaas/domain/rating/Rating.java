@@ -0,0 +1,40 @@
+package de.janpascalmaas.domain.rating;
+
+/**
+ * Rating of a single player of an {@link EloLeaderboard} at the time it was read.
+ * The rating is immutable.
+ */
+public final class Rating {
+
+    private final String name;
+
+    private final double rating;
+
+    private final long matches;
+
+    Rating(String name, double rating, long matches) {
+        this.name = name;
+        this.rating = rating;
+        this.matches = matches;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    /**
+     * @return the number of matches the rating is based on
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + Math.round(rating) + " (" + matches + " matches)";
+    }
+}
@@ -0,0 +1,156 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Round history storing the rounds of a game between two players in packed primitive columns.
+ * Each round takes 2 bits for the shape of each player and 2 bits for the outcome, so a round needs less than one
+ * byte instead of the objects of a {@link Round}. The round number is implied by the position in the columns.
+ * Rounds are materialised as {@link Round} objects only when they are read.
+ */
+public final class CompactRoundHistory implements RoundHistory {
+
+    private static final int BITS_PER_ENTRY = 2;
+
+    private static final int ENTRIES_PER_WORD = Long.SIZE / BITS_PER_ENTRY;
+
+    private static final long ENTRY_MASK = (1L << BITS_PER_ENTRY) - 1;
+
+    private final Player player1;
+
+    private final Player player2;
+
+    private final long[] player1Shapes;
+
+    private final long[] player2Shapes;
+
+    private final long[] outcomes;
+
+    private final RoundResults results;
+
+    private final List<Round> view = new RoundView();
+
+    private int size;
+
+    private long numberOfDraws;
+
+    /**
+     * @param player1 the first player of the game
+     * @param player2 the second player of the game
+     * @param capacity the number of rounds the history can hold
+     */
+    public CompactRoundHistory(Player player1, Player player2, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.player1 = player1;
+        this.player2 = player2;
+        this.results = new RoundResults(player1, player2);
+        int words = (capacity + ENTRIES_PER_WORD - 1) / ENTRIES_PER_WORD;
+        this.player1Shapes = new long[words];
+        this.player2Shapes = new long[words];
+        this.outcomes = new long[words];
+    }
+
+    @Override
+    public void add(Round round) {
+        ensureCapacity(1);
+        set(player1Shapes, size, round.getPlayer1Shape().getOrdinal());
+        set(player2Shapes, size, round.getPlayer2Shape().getOrdinal());
+        int outcome = encodeOutcome(round.getRoundResult());
+        set(outcomes, size, outcome);
+        if (outcome == RoundBlock.DRAW) {
+            numberOfDraws++;
+        }
+        size++;
+    }
+
+    /**
+     * Packs the rounds of the block directly from its columns, without materialising them.
+     */
+    @Override
+    public void add(RoundBlock block) {
+        ensureCapacity(block.size());
+        for (int i = 0; i < block.size(); i++) {
+            set(player1Shapes, size, block.getPlayer1Shape(i));
+            set(player2Shapes, size, block.getPlayer2Shape(i));
+            set(outcomes, size, block.getOutcome(i));
+            size++;
+        }
+        numberOfDraws += block.count(RoundBlock.DRAW);
+    }
+
+    private void ensureCapacity(int additionalRounds) {
+        if (size + additionalRounds > player1Shapes.length * ENTRIES_PER_WORD) {
+            throw new IllegalStateException("Round history is full");
+        }
+    }
+
+    @Override
+    public List<Round> getRounds() {
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+
+    /**
+     * Materialises the round at the given position.
+     * @param index the zero based position of the round in the game
+     * @return the round with the round number {@code index + 1}
+     */
+    public Round getRound(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Round index " + index + " out of bounds for size " + size);
+        }
+        return new Round(index + 1,
+                         player1, Shape.of(get(player1Shapes, index)),
+                         player2, Shape.of(get(player2Shapes, index)),
+                         results.get(get(outcomes, index)));
+    }
+
+    private int encodeOutcome(RoundResult result) {
+        if (result.getOutcome() == RoundResult.Outcome.DRAW) {
+            return RoundBlock.DRAW;
+        }
+        return result.getWinner() == player1 ? RoundBlock.PLAYER1_WIN : RoundBlock.PLAYER2_WIN;
+    }
+
+    private static void set(long[] column, int index, int value) {
+        int shift = (index % ENTRIES_PER_WORD) * BITS_PER_ENTRY;
+        column[index / ENTRIES_PER_WORD] |= (value & ENTRY_MASK) << shift;
+    }
+
+    private static int get(long[] column, int index) {
+        int shift = (index % ENTRIES_PER_WORD) * BITS_PER_ENTRY;
+        return (int) ((column[index / ENTRIES_PER_WORD] >>> shift) & ENTRY_MASK);
+    }
+
+    /**
+     * Read-only list view materialising rounds on access.
+     */
+    private final class RoundView extends AbstractList<Round> implements RandomAccess {
+
+        @Override
+        public Round get(int index) {
+            return getRound(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package de.janpascalmaas.domain.round;
+
+import java.util.List;
+
+/**
+ * Round history that does not keep any rounds. Only the number of rounds and draws are counted, so a game of any
+ * length runs in constant memory. Rounds have to be consumed by a {@link RoundListener} while the game is played.
+ */
+public final class DiscardingRoundHistory implements RoundHistory {
+
+    private int size;
+
+    private long numberOfDraws;
+
+    public DiscardingRoundHistory() {
+    }
+
+    /**
+     * Constructor to continue counting, e.g. when a game is resumed from a checkpoint.
+     * @param size the number of rounds already played
+     * @param numberOfDraws the number of draws among them
+     */
+    public DiscardingRoundHistory(int size, long numberOfDraws) {
+        if (size < 0 || numberOfDraws < 0 || numberOfDraws > size) {
+            throw new IllegalArgumentException("Invalid number of rounds " + size + " or draws " + numberOfDraws);
+        }
+        this.size = size;
+        this.numberOfDraws = numberOfDraws;
+    }
+
+    @Override
+    public void add(Round round) {
+        size++;
+        if (round.getRoundResult().getOutcome() == RoundResult.Outcome.DRAW) {
+            numberOfDraws++;
+        }
+    }
+
+    @Override
+    public void add(RoundBlock block) {
+        size += block.size();
+        numberOfDraws += block.count(RoundBlock.DRAW);
+    }
+
+    /**
+     * Counts rounds whose outcome has been computed without playing them, e.g. for strategies that always play the
+     * same shape.
+     * @param numberOfRounds the number of rounds
+     * @param numberOfDraws the number of draws among them
+     */
+    public void add(int numberOfRounds, long numberOfDraws) {
+        size += numberOfRounds;
+        this.numberOfDraws += numberOfDraws;
+    }
+
+    /**
+     * @return an empty list, as the rounds are not kept
+     */
+    @Override
+    public List<Round> getRounds() {
+        return List.of();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+}
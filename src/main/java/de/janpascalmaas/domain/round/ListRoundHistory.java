@@ -0,0 +1,47 @@
+package de.janpascalmaas.domain.round;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Round history keeping every round as a {@link Round} object.
+ */
+public final class ListRoundHistory implements RoundHistory {
+
+    private final List<Round> rounds = new ArrayList<>();
+
+    private final List<Round> view = Collections.unmodifiableList(rounds);
+
+    private long numberOfDraws;
+
+    public ListRoundHistory() {
+    }
+
+    public ListRoundHistory(List<Round> rounds) {
+        rounds.forEach(this::add);
+    }
+
+    @Override
+    public void add(Round round) {
+        rounds.add(round);
+        if (round.getRoundResult().getOutcome() == RoundResult.Outcome.DRAW) {
+            numberOfDraws++;
+        }
+    }
+
+    @Override
+    public List<Round> getRounds() {
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return rounds.size();
+    }
+
+    @Override
+    public long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+}
@@ -0,0 +1,173 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.RuleSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A block of consecutive free-for-all rounds between any number of players, kept as one primitive column of shape
+ * ordinals per player. Every round is decided from its histogram of played shapes instead of comparing all pairs of
+ * players: the players of a shape win the round if the shape beats another shape played in the round and no shape
+ * played beats it, see {@link RuleSet#winners(long)}. Only whether a shape was played matters, not how often, so the
+ * histogram of a round is kept as a bitmask of the shapes played. Evaluating a block therefore takes one pass over
+ * the columns to build the histograms, one decision per round and one pass to score the players, which is linear in
+ * the number of players and shapes. For rule sets of up to {@link #LOOKUP_SHAPES} shapes the decisions are looked up
+ * in a table of all possible histograms. A block is reused for all rounds of a game and is not thread safe.
+ */
+public final class MultiPlayerRoundBlock {
+
+    /**
+     * The maximum number of shapes of a rule set whose decisions are precomputed for every possible histogram.
+     */
+    static final int LOOKUP_SHAPES = 10;
+
+    private final Player[] players;
+
+    private final RuleSet ruleSet;
+
+    private final long[] winnersByPlayed;
+
+    private final byte[][] shapes;
+
+    private final long[] played;
+
+    private final long[] winners;
+
+    private int firstRoundNumber;
+
+    private int size;
+
+    private int draws;
+
+    /**
+     * @param players the players of the game, identified by their position in the list
+     * @param capacity the maximum number of rounds in the block
+     * @param ruleSet the rule set the rounds are evaluated with
+     */
+    public MultiPlayerRoundBlock(List<Player> players, int capacity, RuleSet ruleSet) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.players = players.toArray(new Player[0]);
+        this.ruleSet = ruleSet;
+        this.winnersByPlayed = ruleSet.size() <= LOOKUP_SHAPES ? lookupTable(ruleSet) : null;
+        this.shapes = new byte[this.players.length][capacity];
+        this.played = new long[capacity];
+        this.winners = new long[capacity];
+    }
+
+    private static long[] lookupTable(RuleSet ruleSet) {
+        long[] table = new long[1 << ruleSet.size()];
+        for (int played = 0; played < table.length; played++) {
+            table[played] = ruleSet.winners(played);
+        }
+        return table;
+    }
+
+    /**
+     * Plays the next rounds of the game into this block, replacing the rounds played before.
+     * @param firstRoundNumber the number of the first round in the block
+     * @param length the number of rounds to play, at most the capacity of the block
+     */
+    public void play(int firstRoundNumber, int length) {
+        if (length <= 0 || length > played.length) {
+            throw new IllegalArgumentException("Length must be between 1 and " + played.length);
+        }
+        this.firstRoundNumber = firstRoundNumber;
+        this.size = length;
+        for (int player = 0; player < players.length; player++) {
+            players[player].fillNextShapes(shapes[player], 0, length);
+        }
+        evaluate();
+    }
+
+    private void evaluate() {
+        Arrays.fill(played, 0, size, 0);
+        for (byte[] column : shapes) {
+            for (int i = 0; i < size; i++) {
+                played[i] |= 1L << column[i];
+            }
+        }
+        draws = 0;
+        for (int i = 0; i < size; i++) {
+            winners[i] = winnersByPlayed != null ? winnersByPlayed[(int) played[i]] : ruleSet.winners(played[i]);
+            if (winners[i] == 0) {
+                draws++;
+            }
+        }
+    }
+
+    /**
+     * Adds the rounds won in this block to the scores of the players.
+     * @param scores the scores of the players, indexed by their position in the game
+     */
+    public void addScores(long[] scores) {
+        for (int player = 0; player < players.length; player++) {
+            byte[] column = shapes[player];
+            long won = 0;
+            for (int i = 0; i < size; i++) {
+                won += winners[i] >>> column[i] & 1;
+            }
+            scores[player] += won;
+        }
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public int getNumberOfPlayers() {
+        return players.length;
+    }
+
+    public int getFirstRoundNumber() {
+        return firstRoundNumber;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param player the position of the player in the game
+     * @param index the position of the round in the block
+     * @return the ordinal of the shape played by the player
+     */
+    public int getShape(int player, int index) {
+        return shapes[player][index];
+    }
+
+    /**
+     * @param index the position of the round in the block
+     * @return the bitmask of the ordinals of the shapes played in the round
+     */
+    public long getPlayedShapes(int index) {
+        return played[index];
+    }
+
+    /**
+     * @param index the position of the round in the block
+     * @return the bitmask of the ordinals of the shapes winning the round, 0 for a draw
+     */
+    public long getWinningShapes(int index) {
+        return winners[index];
+    }
+
+    /**
+     * @param player the position of the player in the game
+     * @param index the position of the round in the block
+     * @return true if the player has won the round
+     */
+    public boolean isWinner(int player, int index) {
+        return (winners[index] >>> shapes[player][index] & 1) != 0;
+    }
+
+    /**
+     * @return the number of rounds in the block without a winner
+     */
+    public int getNumberOfDraws() {
+        return draws;
+    }
+}
@@ -2,11 +2,13 @@ package de.janpascalmaas.domain.round;
 
 import de.janpascalmaas.domain.Player;
 import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
 
 /**
  * Domain class to represent a round in the game rock paper scissors.
  * A round is represented by its number in the game, two players, their shapes, and the result of the round.
- * The round is immutable and can be built using the Builder pattern.
+ * The round is immutable and can be built using the Builder pattern. Building a round tells
+ * {@link AdaptiveStrategy adaptive strategies} of the players which shapes have been played.
  */
 public final class Round {
 
@@ -29,22 +31,44 @@ public final class Round {
         this.player2 = player2;
         this.player2Shape = player2.getNextShape();
         this.roundResult = calculateRoundResult();
+        observe(player1, player1Shape, player2Shape);
+        observe(player2, player2Shape, player1Shape);
+    }
+
+    /**
+     * Constructor to restore a round that has already been played, e.g. from a compact round history.
+     */
+    Round(int roundNumber, Player player1, Shape player1Shape, Player player2, Shape player2Shape,
+          RoundResult roundResult) {
+        this.roundNumber = roundNumber;
+        this.player1 = player1;
+        this.player1Shape = player1Shape;
+        this.player2 = player2;
+        this.player2Shape = player2Shape;
+        this.roundResult = roundResult;
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Tells an adaptive strategy which shapes have been played in this round.
+     */
+    private static void observe(Player player, Shape ownShape, Shape opponentShape) {
+        if (player.getStrategy() instanceof AdaptiveStrategy strategy) {
+            strategy.observe(ownShape.getOrdinal(), opponentShape.getOrdinal());
+        }
+    }
+
     private RoundResult calculateRoundResult() {
         if (player1Shape.beats(player2Shape)) {
-            player1.incrementScore();
             return new RoundResult(RoundResult.Outcome.WIN, player1);
         }
         if (player2Shape.beats(player1Shape)) {
-            player2.incrementScore();
             return new RoundResult(RoundResult.Outcome.WIN, player2);
         }
-        return new RoundResult(RoundResult.Outcome.DRAW, null);
+        return RoundResult.DRAW;
     }
 
     public int getRoundNumber() {
@@ -0,0 +1,216 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
+import de.janpascalmaas.metrics.Counter;
+import de.janpascalmaas.metrics.LatencyHistogram;
+import de.janpascalmaas.metrics.Metrics;
+
+/**
+ * A block of consecutive rounds between two players, kept as primitive columns of shape ordinals and outcomes.
+ * Games play their rounds block by block: the strategies fill the shapes of the whole block at once and the outcomes
+ * are evaluated and counted by a {@link RoundEvaluator} over the columns, so no objects are created per round.
+ * {@link Round} objects are only materialised on request. {@link AdaptiveStrategy adaptive strategies} depend on the
+ * previous rounds, so they are asked for their shapes round by round and told the result of every round; the shapes
+ * of the other player are still filled at once. A block is reused for all rounds of a game and is not thread safe.
+ */
+public final class RoundBlock {
+
+    public static final int DRAW = 0;
+
+    public static final int PLAYER1_WIN = 1;
+
+    public static final int PLAYER2_WIN = 2;
+
+    private static final RoundEvaluator EVALUATOR = RoundEvaluator.create();
+
+    private static final LatencyHistogram EVALUATION_LATENCY = Metrics.ENABLED
+            ? Metrics.registry().histogram("rps_round_evaluation_seconds") : null;
+
+    private static final Counter ROUNDS_EVALUATED = Metrics.ENABLED
+            ? Metrics.registry().counter("rps_rounds_total") : null;
+
+    private final Player player1;
+
+    private final Player player2;
+
+    private final AdaptiveStrategy adaptiveStrategy1;
+
+    private final AdaptiveStrategy adaptiveStrategy2;
+
+    private final RuleSet ruleSet;
+
+    private final RoundEvaluator evaluator;
+
+    private final RoundResults results;
+
+    private final byte[] player1Shapes;
+
+    private final byte[] player2Shapes;
+
+    private final byte[] outcomes;
+
+    private final long[] counts = new long[3];
+
+    private int firstRoundNumber;
+
+    private int size;
+
+    /**
+     * @param player1 the first player of the game
+     * @param player2 the second player of the game
+     * @param capacity the maximum number of rounds in the block
+     */
+    public RoundBlock(Player player1, Player player2, int capacity) {
+        this(player1, player2, capacity, RuleSet.CLASSIC);
+    }
+
+    /**
+     * @param player1 the first player of the game
+     * @param player2 the second player of the game
+     * @param capacity the maximum number of rounds in the block
+     * @param ruleSet the rule set the rounds are evaluated with
+     */
+    public RoundBlock(Player player1, Player player2, int capacity, RuleSet ruleSet) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.player1 = player1;
+        this.player2 = player2;
+        this.adaptiveStrategy1 = player1.getStrategy() instanceof AdaptiveStrategy strategy ? strategy : null;
+        this.adaptiveStrategy2 = player2.getStrategy() instanceof AdaptiveStrategy strategy ? strategy : null;
+        this.ruleSet = ruleSet;
+        this.evaluator = ruleSet == RuleSet.CLASSIC ? EVALUATOR : RoundEvaluator.of(ruleSet);
+        this.results = new RoundResults(player1, player2);
+        this.player1Shapes = new byte[capacity];
+        this.player2Shapes = new byte[capacity];
+        this.outcomes = new byte[capacity];
+    }
+
+    /**
+     * Plays the next rounds of the game into this block, replacing the rounds played before.
+     * @param firstRoundNumber the number of the first round in the block
+     * @param length the number of rounds to play, at most the capacity of the block
+     */
+    public void play(int firstRoundNumber, int length) {
+        if (length <= 0 || length > outcomes.length) {
+            throw new IllegalArgumentException("Length must be between 1 and " + outcomes.length);
+        }
+        this.firstRoundNumber = firstRoundNumber;
+        this.size = length;
+        if (adaptiveStrategy1 == null && adaptiveStrategy2 == null) {
+            player1.fillNextShapes(player1Shapes, 0, length);
+            player2.fillNextShapes(player2Shapes, 0, length);
+        } else {
+            playAdaptive(length);
+        }
+        evaluate();
+    }
+
+    /**
+     * Adaptive strategies decide round by round after observing the previous round. Their shapes are requested from
+     * the players, so every decision is measured and recorded like the shapes of other strategies.
+     */
+    private void playAdaptive(int length) {
+        if (adaptiveStrategy1 == null) {
+            player1.fillNextShapes(player1Shapes, 0, length);
+        }
+        if (adaptiveStrategy2 == null) {
+            player2.fillNextShapes(player2Shapes, 0, length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (adaptiveStrategy1 != null) {
+                player1Shapes[i] = (byte) player1.getNextShape().getOrdinal();
+            }
+            if (adaptiveStrategy2 != null) {
+                player2Shapes[i] = (byte) player2.getNextShape().getOrdinal();
+            }
+            if (adaptiveStrategy1 != null) {
+                adaptiveStrategy1.observe(player1Shapes[i], player2Shapes[i]);
+            }
+            if (adaptiveStrategy2 != null) {
+                adaptiveStrategy2.observe(player2Shapes[i], player1Shapes[i]);
+            }
+        }
+    }
+
+    private void evaluate() {
+        counts[DRAW] = 0;
+        counts[PLAYER1_WIN] = 0;
+        counts[PLAYER2_WIN] = 0;
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        evaluator.evaluate(player1Shapes, player2Shapes, outcomes, size, counts);
+        if (Metrics.ENABLED) {
+            EVALUATION_LATENCY.recordSince(start);
+            ROUNDS_EVALUATED.add(size);
+        }
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public int getFirstRoundNumber() {
+        return firstRoundNumber;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the position of the round in the block
+     * @return the ordinal of the shape type played by the first player
+     */
+    public int getPlayer1Shape(int index) {
+        return player1Shapes[index];
+    }
+
+    /**
+     * @param index the position of the round in the block
+     * @return the ordinal of the shape type played by the second player
+     */
+    public int getPlayer2Shape(int index) {
+        return player2Shapes[index];
+    }
+
+    /**
+     * @param index the position of the round in the block
+     * @return the outcome of the round, one of {@link #DRAW}, {@link #PLAYER1_WIN} and {@link #PLAYER2_WIN}
+     */
+    public int getOutcome(int index) {
+        return outcomes[index];
+    }
+
+    /**
+     * @param outcome the outcome to count
+     * @return the number of rounds in the block with the given outcome
+     */
+    public int count(int outcome) {
+        return (int) counts[outcome];
+    }
+
+    /**
+     * Materialises a round of the block.
+     * @param index the position of the round in the block
+     * @return the round
+     */
+    public Round getRound(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Round index " + index + " out of bounds for size " + size);
+        }
+        return new Round(firstRoundNumber + index,
+                         player1, ruleSet.getShape(player1Shapes[index]),
+                         player2, ruleSet.getShape(player2Shapes[index]),
+                         results.get(outcomes[index]));
+    }
+}
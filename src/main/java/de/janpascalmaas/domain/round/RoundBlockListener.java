@@ -0,0 +1,13 @@
+package de.janpascalmaas.domain.round;
+
+/**
+ * Listener that is notified about every block of rounds of a game as soon as it has been played.
+ * In contrast to a {@link RoundListener}, no {@link Round} objects are created for block listeners; they read the
+ * rounds from the columns of the block. The block is reused for the next rounds after the listener returns.
+ */
+@FunctionalInterface
+public interface RoundBlockListener {
+
+    void onRoundBlock(RoundBlock block);
+
+}
@@ -0,0 +1,76 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+
+/**
+ * Evaluates the outcomes of many rounds at once from the ordinals of the shapes played, see {@link RoundBlock}.
+ * The outcome of a round is one of {@link RoundBlock#DRAW}, {@link RoundBlock#PLAYER1_WIN} and
+ * {@link RoundBlock#PLAYER2_WIN}. Two implementations exist: a scalar one that works everywhere, and one built on the
+ * incubating Vector API that evaluates as many rounds per instruction as the SIMD registers of the processor hold. The
+ * vectorised evaluator is only available if the module {@code jdk.incubator.vector} has been added to the JVM with
+ * {@code --add-modules jdk.incubator.vector}. Both evaluate the classic game; rounds of other {@link RuleSet}s are
+ * evaluated from the bitmasks of the rule set, see {@link #of(RuleSet)}. Evaluators are stateless and thread safe.
+ */
+public interface RoundEvaluator {
+
+    /**
+     * Evaluates the outcomes of rounds and counts them.
+     * @param player1Shapes the ordinals of the shapes played by the first player
+     * @param player2Shapes the ordinals of the shapes played by the second player
+     * @param outcomes the array to write the outcome of every round to
+     * @param length the number of rounds, starting at index 0 of all arrays
+     * @param counts the array the number of rounds of every outcome is added to, indexed by outcome
+     */
+    void evaluate(byte[] player1Shapes, byte[] player2Shapes, byte[] outcomes, int length, long[] counts);
+
+    /**
+     * Counts the outcomes of rounds without keeping the outcome of every round.
+     * @param player1Shapes the ordinals of the shapes played by the first player
+     * @param player2Shapes the ordinals of the shapes played by the second player
+     * @param length the number of rounds, starting at index 0 of both arrays
+     * @param counts the array the number of rounds of every outcome is added to, indexed by outcome
+     */
+    void count(byte[] player1Shapes, byte[] player2Shapes, int length, long[] counts);
+
+    /**
+     * @return the vectorised evaluator if it is available, the scalar evaluator otherwise
+     */
+    static RoundEvaluator create() {
+        return isVectorised() ? vectorised() : scalar();
+    }
+
+    /**
+     * @param ruleSet the rule set of the rounds
+     * @return the evaluator created by {@link #create()} for the classic game, an evaluator using the bitmasks of the
+     *         rule set otherwise
+     */
+    static RoundEvaluator of(RuleSet ruleSet) {
+        return ruleSet == RuleSet.CLASSIC ? create() : new RuleSetRoundEvaluator(ruleSet);
+    }
+
+    /**
+     * @return the scalar evaluator
+     */
+    static RoundEvaluator scalar() {
+        return ScalarRoundEvaluator.INSTANCE;
+    }
+
+    /**
+     * @return the vectorised evaluator
+     * @throws IllegalStateException if the module {@code jdk.incubator.vector} has not been added to the JVM
+     */
+    static RoundEvaluator vectorised() {
+        if (!isVectorised()) {
+            throw new IllegalStateException("Module jdk.incubator.vector is not available, "
+                                                    + "add it with --add-modules jdk.incubator.vector");
+        }
+        return VectorRoundEvaluator.INSTANCE;
+    }
+
+    /**
+     * @return true if the vectorised evaluator can be used
+     */
+    static boolean isVectorised() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,37 @@
+package de.janpascalmaas.domain.round;
+
+import java.util.List;
+
+/**
+ * Storage for the rounds played in a game.
+ * Implementations decide how rounds are kept in memory, e.g. as full {@link Round} objects or in a compact encoding
+ * from which rounds are materialised on demand.
+ */
+public interface RoundHistory {
+
+    void add(Round round);
+
+    /**
+     * Adds all rounds of the block. By default, every round of the block is materialised and added on its own;
+     * implementations that do not keep {@link Round} objects should take the rounds from the columns of the block.
+     * @param block the block of rounds that has just been played
+     */
+    default void add(RoundBlock block) {
+        for (int i = 0; i < block.size(); i++) {
+            add(block.getRound(i));
+        }
+    }
+
+    /**
+     * @return a read-only view of the rounds in the order they have been played
+     */
+    List<Round> getRounds();
+
+    int size();
+
+    /**
+     * @return the number of rounds that ended in a draw, maintained while the rounds are added
+     */
+    long getNumberOfDraws();
+
+}
@@ -0,0 +1,20 @@
+package de.janpascalmaas.domain.round;
+
+/**
+ * Defines how a game keeps the rounds it has played.
+ */
+public enum RoundHistoryMode {
+
+    /**
+     * Every round is kept as a {@link Round} object.
+     */
+    FULL,
+    /**
+     * Rounds are packed into primitive columns and only materialised as {@link Round} objects when they are read.
+     */
+    COMPACT,
+    /**
+     * Rounds are not kept at all and can only be consumed by a {@link RoundListener} while the game is played.
+     */
+    NONE;
+}
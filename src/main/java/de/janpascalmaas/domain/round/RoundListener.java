@@ -0,0 +1,13 @@
+package de.janpascalmaas.domain.round;
+
+/**
+ * Listener that is notified about every round of a game as soon as it has been played.
+ * Listeners are called on the thread playing the game, in the order of the rounds, and allow consumers such as
+ * console output, statistics or file writers to process a game while it is running.
+ */
+@FunctionalInterface
+public interface RoundListener {
+
+    void onRound(Round round);
+
+}
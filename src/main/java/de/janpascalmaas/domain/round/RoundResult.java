@@ -5,10 +5,16 @@ import de.janpascalmaas.domain.Player;
 /**
  * Domain class to represent the result of a round in the game rock paper scissors.
  * A round result is represented by its outcome (WIN or DRAW) and the winner of the round.
- * The round result is immutable.
+ * The round result is immutable, so all rounds that ended in a draw share {@link #DRAW} and the rounds of a game share
+ * one result per winner.
  */
 public final class RoundResult {
 
+    /**
+     * The result of every round that ended in a draw.
+     */
+    public static final RoundResult DRAW = new RoundResult(Outcome.DRAW, null);
+
     private final Outcome outcome;
 
     private final Player winner;
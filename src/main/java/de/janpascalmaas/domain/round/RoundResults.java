@@ -0,0 +1,31 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+
+/**
+ * The results a round between two players can have. As round results are immutable, all rounds of a match share the
+ * same three instances, so materialising a round does not create a new result.
+ */
+final class RoundResults {
+
+    private final RoundResult player1Win;
+
+    private final RoundResult player2Win;
+
+    RoundResults(Player player1, Player player2) {
+        this.player1Win = new RoundResult(RoundResult.Outcome.WIN, player1);
+        this.player2Win = new RoundResult(RoundResult.Outcome.WIN, player2);
+    }
+
+    /**
+     * @param outcome one of {@link RoundBlock#DRAW}, {@link RoundBlock#PLAYER1_WIN} and {@link RoundBlock#PLAYER2_WIN}
+     * @return the shared result of the outcome
+     */
+    RoundResult get(int outcome) {
+        return switch (outcome) {
+            case RoundBlock.PLAYER1_WIN -> player1Win;
+            case RoundBlock.PLAYER2_WIN -> player2Win;
+            default -> RoundResult.DRAW;
+        };
+    }
+}
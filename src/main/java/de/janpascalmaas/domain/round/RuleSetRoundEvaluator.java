@@ -0,0 +1,51 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+
+/**
+ * Evaluator for rounds of any {@link RuleSet}. The outcome of every round is computed without branches from the
+ * bitmasks of the shapes: the bit of the shape of the second player in the bitmask of the first player says whether
+ * the first player wins, and vice versa.
+ */
+final class RuleSetRoundEvaluator implements RoundEvaluator {
+
+    private final long[] beats;
+
+    RuleSetRoundEvaluator(RuleSet ruleSet) {
+        this.beats = new long[ruleSet.size()];
+        for (int i = 0; i < beats.length; i++) {
+            beats[i] = ruleSet.getBeats(i);
+        }
+    }
+
+    @Override
+    public void evaluate(byte[] player1Shapes, byte[] player2Shapes, byte[] outcomes, int length, long[] counts) {
+        int draws = 0;
+        int player1Wins = 0;
+        for (int i = 0; i < length; i++) {
+            int outcome = outcome(player1Shapes[i], player2Shapes[i]);
+            outcomes[i] = (byte) outcome;
+            draws += outcome == RoundBlock.DRAW ? 1 : 0;
+            player1Wins += outcome == RoundBlock.PLAYER1_WIN ? 1 : 0;
+        }
+        ScalarRoundEvaluator.addCounts(counts, length, draws, player1Wins);
+    }
+
+    @Override
+    public void count(byte[] player1Shapes, byte[] player2Shapes, int length, long[] counts) {
+        int draws = 0;
+        int player1Wins = 0;
+        for (int i = 0; i < length; i++) {
+            int outcome = outcome(player1Shapes[i], player2Shapes[i]);
+            draws += outcome == RoundBlock.DRAW ? 1 : 0;
+            player1Wins += outcome == RoundBlock.PLAYER1_WIN ? 1 : 0;
+        }
+        ScalarRoundEvaluator.addCounts(counts, length, draws, player1Wins);
+    }
+
+    private int outcome(int player1Shape, int player2Shape) {
+        int player1Wins = (int) (beats[player1Shape] >>> player2Shape) & 1;
+        int player2Wins = (int) (beats[player2Shape] >>> player1Shape) & 1;
+        return player1Wins * RoundBlock.PLAYER1_WIN + player2Wins * RoundBlock.PLAYER2_WIN;
+    }
+}
@@ -0,0 +1,82 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+
+/**
+ * Evaluator looking up the outcome of every round in a table of all pairs of shapes, which is derived from
+ * {@link Shape#beats(Shape)}.
+ */
+final class ScalarRoundEvaluator implements RoundEvaluator {
+
+    static final ScalarRoundEvaluator INSTANCE = new ScalarRoundEvaluator();
+
+    private static final int NUMBER_OF_SHAPES = ShapeType.values().length;
+
+    /**
+     * Outcomes of all pairs of shapes, indexed by {@code player1Ordinal * number of shapes + player2Ordinal}.
+     */
+    private static final byte[] OUTCOMES = createOutcomes();
+
+    private ScalarRoundEvaluator() {
+    }
+
+    @Override
+    public void evaluate(byte[] player1Shapes, byte[] player2Shapes, byte[] outcomes, int length, long[] counts) {
+        int draws = 0;
+        int player1Wins = 0;
+        for (int i = 0; i < length; i++) {
+            byte outcome = OUTCOMES[player1Shapes[i] * NUMBER_OF_SHAPES + player2Shapes[i]];
+            outcomes[i] = outcome;
+            draws += outcome == RoundBlock.DRAW ? 1 : 0;
+            player1Wins += outcome == RoundBlock.PLAYER1_WIN ? 1 : 0;
+        }
+        addCounts(counts, length, draws, player1Wins);
+    }
+
+    @Override
+    public void count(byte[] player1Shapes, byte[] player2Shapes, int length, long[] counts) {
+        int draws = 0;
+        int player1Wins = 0;
+        for (int i = 0; i < length; i++) {
+            byte outcome = OUTCOMES[player1Shapes[i] * NUMBER_OF_SHAPES + player2Shapes[i]];
+            draws += outcome == RoundBlock.DRAW ? 1 : 0;
+            player1Wins += outcome == RoundBlock.PLAYER1_WIN ? 1 : 0;
+        }
+        addCounts(counts, length, draws, player1Wins);
+    }
+
+    static void addCounts(long[] counts, long length, long draws, long player1Wins) {
+        counts[RoundBlock.DRAW] += draws;
+        counts[RoundBlock.PLAYER1_WIN] += player1Wins;
+        counts[RoundBlock.PLAYER2_WIN] += length - draws - player1Wins;
+    }
+
+    /**
+     * @param player1Shape the ordinal of the shape played by the first player
+     * @param player2Shape the ordinal of the shape played by the second player
+     * @return the outcome of the round
+     */
+    static int outcome(int player1Shape, int player2Shape) {
+        return OUTCOMES[player1Shape * NUMBER_OF_SHAPES + player2Shape];
+    }
+
+    private static byte[] createOutcomes() {
+        ShapeType[] types = ShapeType.values();
+        byte[] outcomes = new byte[types.length * types.length];
+        for (ShapeType type1 : types) {
+            for (ShapeType type2 : types) {
+                Shape shape1 = Shape.of(type1);
+                Shape shape2 = Shape.of(type2);
+                int outcome = RoundBlock.DRAW;
+                if (shape1.beats(shape2)) {
+                    outcome = RoundBlock.PLAYER1_WIN;
+                } else if (shape2.beats(shape1)) {
+                    outcome = RoundBlock.PLAYER2_WIN;
+                }
+                outcomes[type1.ordinal() * types.length + type2.ordinal()] = (byte) outcome;
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,103 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.shape.ShapeType;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Evaluator built on the incubating Vector API. As every shape beats the shape with the next lower ordinal, the
+ * outcome of a round is {@code (player1Ordinal - player2Ordinal + 3) % 3}, which maps a draw to 0, a win of the first
+ * player to 1 and a win of the second player to 2, the constants of {@link RoundBlock}. The arithmetic is applied to
+ * whole vectors of byte ordinals, and the draws and wins of the first player are accumulated in byte lanes that are
+ * widened and reduced before they can overflow. Rounds that do not fill a whole vector are evaluated by the scalar
+ * evaluator.
+ * This class must only be loaded if the module {@code jdk.incubator.vector} is available.
+ */
+final class VectorRoundEvaluator implements RoundEvaluator {
+
+    static final VectorRoundEvaluator INSTANCE = new VectorRoundEvaluator();
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private static final byte NUMBER_OF_SHAPES = (byte) ShapeType.values().length;
+
+    /**
+     * Number of vectors whose counts fit into the byte lanes of the accumulators.
+     */
+    private static final int VECTORS_PER_REDUCTION = Byte.MAX_VALUE;
+
+    private VectorRoundEvaluator() {
+        for (int shape1 = 0; shape1 < NUMBER_OF_SHAPES; shape1++) {
+            for (int shape2 = 0; shape2 < NUMBER_OF_SHAPES; shape2++) {
+                if ((shape1 - shape2 + NUMBER_OF_SHAPES) % NUMBER_OF_SHAPES
+                        != ScalarRoundEvaluator.outcome(shape1, shape2)) {
+                    throw new IllegalStateException("Outcomes of the shapes can not be calculated from the ordinals");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void evaluate(byte[] player1Shapes, byte[] player2Shapes, byte[] outcomes, int length, long[] counts) {
+        evaluate(player1Shapes, player2Shapes, outcomes, length, counts, true);
+    }
+
+    @Override
+    public void count(byte[] player1Shapes, byte[] player2Shapes, int length, long[] counts) {
+        evaluate(player1Shapes, player2Shapes, null, length, counts, false);
+    }
+
+    private static void evaluate(byte[] player1Shapes, byte[] player2Shapes, byte[] outcomes, int length,
+                                 long[] counts, boolean keepOutcomes) {
+        int upperBound = SPECIES.loopBound(length);
+        long draws = 0;
+        long player1Wins = 0;
+        ByteVector drawLanes = ByteVector.zero(SPECIES);
+        ByteVector player1WinLanes = ByteVector.zero(SPECIES);
+        int accumulated = 0;
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            ByteVector difference = ByteVector.fromArray(SPECIES, player1Shapes, i)
+                    .sub(ByteVector.fromArray(SPECIES, player2Shapes, i))
+                    .add(NUMBER_OF_SHAPES);
+            VectorMask<Byte> overflow = difference.compare(VectorOperators.GE, NUMBER_OF_SHAPES);
+            ByteVector outcome = difference.sub(NUMBER_OF_SHAPES, overflow);
+            if (keepOutcomes) {
+                outcome.intoArray(outcomes, i);
+            }
+            drawLanes = drawLanes.add((byte) 1, outcome.compare(VectorOperators.EQ, (byte) RoundBlock.DRAW));
+            player1WinLanes = player1WinLanes.add((byte) 1,
+                                                  outcome.compare(VectorOperators.EQ, (byte) RoundBlock.PLAYER1_WIN));
+            if (++accumulated == VECTORS_PER_REDUCTION) {
+                draws += sum(drawLanes);
+                player1Wins += sum(player1WinLanes);
+                drawLanes = ByteVector.zero(SPECIES);
+                player1WinLanes = ByteVector.zero(SPECIES);
+                accumulated = 0;
+            }
+        }
+        draws += sum(drawLanes);
+        player1Wins += sum(player1WinLanes);
+        for (; i < length; i++) {
+            int outcome = ScalarRoundEvaluator.outcome(player1Shapes[i], player2Shapes[i]);
+            if (keepOutcomes) {
+                outcomes[i] = (byte) outcome;
+            }
+            draws += outcome == RoundBlock.DRAW ? 1 : 0;
+            player1Wins += outcome == RoundBlock.PLAYER1_WIN ? 1 : 0;
+        }
+        ScalarRoundEvaluator.addCounts(counts, length, draws, player1Wins);
+    }
+
+    /**
+     * Sums the lanes of an accumulator. The lanes are widened to shorts first, as the reduction of a byte vector
+     * would overflow like a byte.
+     */
+    private static long sum(ByteVector lanes) {
+        return ((ShortVector) lanes.convert(VectorOperators.B2S, 0)).reduceLanesToLong(VectorOperators.ADD)
+                + ((ShortVector) lanes.convert(VectorOperators.B2S, 1)).reduceLanesToLong(VectorOperators.ADD);
+    }
+}
@@ -0,0 +1,325 @@
+package de.janpascalmaas.domain.shape;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Rules of a variant of rock paper scissors: the shapes that can be played and which shapes beat which other shapes.
+ * A rule set has up to {@link #MAX_SHAPES} shapes. For every shape, the shapes it beats are stored as a bitmask of
+ * their ordinals, so deciding whether one shape beats another is a single bitwise AND. Rule sets are validated for
+ * balance when they are created: no shape beats itself, no two shapes beat each other and every shape beats exactly
+ * as many shapes as it loses to, which requires an odd number of shapes. The rule set is immutable and can be built
+ * using the Builder pattern, created with {@link #balanced(String, String...)} or loaded from a text file.
+ */
+public final class RuleSet {
+
+    /**
+     * The maximum number of shapes of a rule set, one per bit of the bitmask.
+     */
+    public static final int MAX_SHAPES = Long.SIZE;
+
+    private static final Pattern SHAPE_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+    /**
+     * The classic game of rock, paper and scissors. Its shapes are the shapes of the {@link ShapeType}s.
+     */
+    public static final RuleSet CLASSIC = builder("Rock Paper Scissors")
+            .shape(ShapeType.ROCK.name(), ShapeType.SCISSORS.name())
+            .shape(ShapeType.PAPER.name(), ShapeType.ROCK.name())
+            .shape(ShapeType.SCISSORS.name(), ShapeType.PAPER.name())
+            .build();
+
+    /**
+     * The classic game extended by lizard and Spock.
+     */
+    public static final RuleSet ROCK_PAPER_SCISSORS_LIZARD_SPOCK = builder("Rock Paper Scissors Lizard Spock")
+            .shape("ROCK", "SCISSORS", "LIZARD")
+            .shape("PAPER", "ROCK", "SPOCK")
+            .shape("SCISSORS", "PAPER", "LIZARD")
+            .shape("LIZARD", "PAPER", "SPOCK")
+            .shape("SPOCK", "ROCK", "SCISSORS")
+            .build();
+
+    private final String name;
+
+    private final long[] beats;
+
+    private final long[] beatenBy;
+
+    private final Shape[] shapes;
+
+    private final Map<String, Shape> shapesByName = new HashMap<>();
+
+    private RuleSet(String name, List<String> shapeNames, long[] beats) {
+        this.name = name;
+        this.beats = beats;
+        this.beatenBy = new long[beats.length];
+        this.shapes = new Shape[shapeNames.size()];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = new Shape(this, i, shapeNames.get(i), beats[i]);
+            shapesByName.put(shapeNames.get(i), shapes[i]);
+            for (int j = 0; j < beats.length; j++) {
+                beatenBy[i] |= (beats[j] >>> i & 1) << j;
+            }
+        }
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Creates a balanced rule set from shapes arranged in a circle, in which every shape beats the half of the other
+     * shapes preceding it. For rock, paper and scissors in this order, this is the classic game.
+     * @param name the name of the rule set
+     * @param shapeNames the names of the shapes in the order of the circle, an odd number of them
+     * @return the rule set
+     */
+    public static RuleSet balanced(String name, String... shapeNames) {
+        Builder builder = builder(name);
+        int n = shapeNames.length;
+        for (int i = 0; i < n; i++) {
+            String[] beaten = new String[(n - 1) / 2];
+            for (int j = 0; j < beaten.length; j++) {
+                beaten[j] = shapeNames[Math.floorMod(i - 1 - j, n)];
+            }
+            builder.shape(shapeNames[i], beaten);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads a rule set from a text file, named after the file without its extension, see
+     * {@link #parse(String, List)}.
+     * @param file the file to load
+     * @return the rule set
+     */
+    public static RuleSet load(Path file) {
+        String fileName = file.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        try {
+            return parse(extension > 0 ? fileName.substring(0, extension) : fileName, Files.readAllLines(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Rule set " + file + " could not be read", e);
+        }
+    }
+
+    /**
+     * Parses a rule set with one shape per line, in the format {@code SHAPE beats SHAPE SHAPE ...}. Empty lines and
+     * lines starting with {@code #} are ignored. The ordinals of the shapes follow the order of the lines.
+     * @param name the name of the rule set
+     * @param lines the lines to parse
+     * @return the rule set
+     */
+    public static RuleSet parse(String name, List<String> lines) {
+        Builder builder = builder(name);
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] words = trimmed.split("\\s+");
+            if (words.length < 2 || !words[1].equals("beats")) {
+                throw new IllegalArgumentException("Expected <shape> beats <shapes> but found: " + trimmed);
+            }
+            builder.shape(words[0], Arrays.copyOfRange(words, 2, words.length));
+        }
+        return builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of shapes
+     */
+    public int size() {
+        return shapes.length;
+    }
+
+    /**
+     * @param ordinal the ordinal of the shape
+     * @return the shape with the given ordinal
+     */
+    public Shape getShape(int ordinal) {
+        return shapes[ordinal];
+    }
+
+    /**
+     * @param name the name of the shape
+     * @return the shape with the given name
+     */
+    public Shape getShape(String name) {
+        Shape shape = shapesByName.get(name);
+        if (shape == null) {
+            throw new IllegalArgumentException("Rule set " + this.name + " has no shape " + name);
+        }
+        return shape;
+    }
+
+    /**
+     * Finds a shape by its name or by an unambiguous prefix of its name, ignoring case, so "r" and "Rock" both find
+     * the rock of the classic game.
+     * @param nameOrPrefix the name of the shape or a prefix of it
+     * @return the shape
+     */
+    public Shape findShape(String nameOrPrefix) {
+        Shape match = null;
+        boolean ambiguous = false;
+        for (Shape shape : shapes) {
+            if (shape.getName().equalsIgnoreCase(nameOrPrefix)) {
+                return shape;
+            }
+            if (!nameOrPrefix.isEmpty()
+                    && shape.getName().regionMatches(true, 0, nameOrPrefix, 0, nameOrPrefix.length())) {
+                ambiguous = match != null;
+                match = shape;
+            }
+        }
+        if (ambiguous) {
+            throw new IllegalArgumentException("Shape " + nameOrPrefix + " is ambiguous in rule set " + name);
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Rule set " + name + " has no shape " + nameOrPrefix);
+        }
+        return match;
+    }
+
+    /**
+     * @return all shapes ordered by their ordinal
+     */
+    public Shape[] getShapes() {
+        return shapes.clone();
+    }
+
+    /**
+     * @param ordinal the ordinal of the shape
+     * @return the bitmask of the ordinals of the shapes beaten by the shape
+     */
+    public long getBeats(int ordinal) {
+        return beats[ordinal];
+    }
+
+    /**
+     * @param ordinal the ordinal of the shape
+     * @return the bitmask of the ordinals of the shapes beating the shape
+     */
+    public long getBeatenBy(int ordinal) {
+        return beatenBy[ordinal];
+    }
+
+    /**
+     * Decides a round with any number of players from the shapes that were played, regardless of how often. A shape
+     * wins if it beats at least one of the other shapes played and is beaten by none of them, so the round is a draw
+     * if only one shape or shapes beating each other in a circle were played.
+     * @param played the bitmask of the ordinals of the shapes played in the round
+     * @return the bitmask of the ordinals of the winning shapes, 0 for a draw
+     */
+    public long winners(long played) {
+        long winners = 0;
+        for (long remaining = played; remaining != 0; remaining &= remaining - 1) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            if ((beats[ordinal] & played) != 0 && (beatenBy[ordinal] & played) == 0) {
+                winners |= 1L << ordinal;
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * @param ordinal the ordinal of the shape
+     * @param otherOrdinal the ordinal of the other shape
+     * @return true if the shape beats the other shape
+     */
+    public boolean beats(int ordinal, int otherOrdinal) {
+        return (beats[ordinal] & 1L << otherOrdinal) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Builder class to create a RuleSet instance.
+     * Shapes are added in the order of their ordinals, each with the names of the shapes it beats. Beaten shapes may
+     * be added after the shapes beating them. The builder validates the balance of the rule set before it is built.
+     */
+    public static class Builder {
+
+        private final String name;
+
+        private final Map<String, String[]> shapes = new LinkedHashMap<>();
+
+        private Builder(String name) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Rule set name must not be null or blank");
+            }
+            this.name = name;
+        }
+
+        /**
+         * @param name the name of the shape, a letter followed by letters, digits or underscores
+         * @param beaten the names of the shapes beaten by the shape
+         * @return this builder
+         */
+        public Builder shape(String name, String... beaten) {
+            if (name == null || !SHAPE_NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid shape name " + name);
+            }
+            if (shapes.containsKey(name)) {
+                throw new IllegalArgumentException("Shape " + name + " is defined twice");
+            }
+            shapes.put(name, beaten.clone());
+            return this;
+        }
+
+        public RuleSet build() {
+            int n = shapes.size();
+            if (n < 3 || n > MAX_SHAPES) {
+                throw new IllegalArgumentException("Rule set must have between 3 and " + MAX_SHAPES + " shapes");
+            }
+            if (n % 2 == 0) {
+                throw new IllegalArgumentException("Rule set must have an odd number of shapes to be balanced");
+            }
+            List<String> names = new ArrayList<>(shapes.keySet());
+            long[] beats = new long[n];
+            for (int i = 0; i < n; i++) {
+                for (String beaten : shapes.get(names.get(i))) {
+                    int j = names.indexOf(beaten);
+                    if (j < 0) {
+                        throw new IllegalArgumentException("Shape " + names.get(i) + " beats unknown shape " + beaten);
+                    }
+                    if (j == i) {
+                        throw new IllegalArgumentException("Shape " + beaten + " must not beat itself");
+                    }
+                    beats[i] |= 1L << j;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if ((beats[i] & 1L << j) != 0 && (beats[j] & 1L << i) != 0) {
+                        throw new IllegalArgumentException("Shapes " + names.get(i) + " and " + names.get(j)
+                                                                   + " must not beat each other");
+                    }
+                }
+                if (Long.bitCount(beats[i]) != (n - 1) / 2) {
+                    throw new IllegalArgumentException("Rule set is not balanced: shape " + names.get(i) + " beats "
+                                                               + Long.bitCount(beats[i]) + " shapes instead of "
+                                                               + (n - 1) / 2);
+                }
+            }
+            return new RuleSet(name, names, beats);
+        }
+    }
+}
@@ -1,47 +1,104 @@
 package de.janpascalmaas.domain.shape;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-
 /**
  * Domain class to represent a shape in the game rock paper scissors.
- * A shape is represented by its type (ROCK, PAPER, SCISSORS) and can determine if it beats another shape.
+ * A shape belongs to a {@link RuleSet} and is represented by its ordinal and name within the rule set. It keeps the
+ * bitmask of the shapes it beats, so it can determine if it beats another shape of the same rule set with a single
+ * bitwise AND. The shapes of the classic game additionally have a {@link ShapeType}.
  */
 public final class Shape {
 
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private final RuleSet ruleSet;
+
+    private final int ordinal;
+
+    private final String name;
+
+    private final long beats;
+
+    /**
+     * Creates a shape of the classic game, equal to its canonical instance {@link #of(ShapeType)}.
+     * @param type the type of the shape
+     * @deprecated use {@link #of(ShapeType)}, which returns the canonical flyweight instance
+     */
+    @Deprecated
+    public Shape(ShapeType type) {
+        this(RuleSet.CLASSIC, type.ordinal(), type.name(), RuleSet.CLASSIC.getBeats(type.ordinal()));
+    }
+
+    Shape(RuleSet ruleSet, int ordinal, String name, long beats) {
+        this.ruleSet = ruleSet;
+        this.ordinal = ordinal;
+        this.name = name;
+        this.beats = beats;
+    }
+
     /**
-     * Map defining which shapes beat which other shapes.
+     * @param type the type of the shape
+     * @return the canonical shape of the classic game of the given type
      */
-    private static final Map<ShapeType, Set<ShapeType>> BEATS = Map.of(
-            ShapeType.ROCK, Set.of(ShapeType.SCISSORS),
-            ShapeType.PAPER, Set.of(ShapeType.ROCK),
-            ShapeType.SCISSORS, Set.of(ShapeType.PAPER)
-    );
+    public static Shape of(ShapeType type) {
+        return RuleSet.CLASSIC.getShape(type.ordinal());
+    }
 
+    /**
+     * @param ordinal the ordinal of the type of the shape
+     * @return the canonical shape of the classic game of the type with the given ordinal
+     */
+    public static Shape of(int ordinal) {
+        return RuleSet.CLASSIC.getShape(ordinal);
+    }
+
+    /**
+     * @return the type of the shape
+     * @throws IllegalStateException if the shape does not belong to the classic game
+     */
     public ShapeType getType() {
-        return type;
+        if (ruleSet != RuleSet.CLASSIC) {
+            throw new IllegalStateException("Shape " + name + " of rule set " + ruleSet + " has no classic type");
+        }
+        return TYPES[ordinal];
     }
 
-    private final ShapeType type;
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
 
-    public Shape(ShapeType type) {
-        this.type = type;
+    /**
+     * @return the position of the shape in its rule set, which is the ordinal of its type in the classic game
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param other another shape of the same rule set
+     * @return true if this shape beats the other shape
+     */
     public boolean beats(Shape other) {
-        return BEATS.get(type).contains(other.type);
+        return (beats & 1L << other.ordinal) != 0;
     }
 
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Shape shape = (Shape) o;
-        return type == shape.type;
+        return ruleSet == shape.ruleSet && ordinal == shape.ordinal;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(type);
+        return 31 * System.identityHashCode(ruleSet) + ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
     }
 }
@@ -0,0 +1,77 @@
+package de.janpascalmaas.domain.simulation;
+
+/**
+ * Confidence interval of an estimated rate. The confidence interval is immutable.
+ */
+public final class ConfidenceInterval {
+
+    private final double lower;
+
+    private final double upper;
+
+    private final double confidenceLevel;
+
+    ConfidenceInterval(double lower, double upper, double confidenceLevel) {
+        this.lower = lower;
+        this.upper = upper;
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    /**
+     * @return the probability that an interval created like this one contains the true rate
+     */
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    /**
+     * @return half of the width of the interval, which is the precision of the estimate
+     */
+    public double getHalfWidth() {
+        return (upper - lower) / 2;
+    }
+
+    public boolean contains(double rate) {
+        return lower <= rate && rate <= upper;
+    }
+
+    /**
+     * Calculates the quantile of the standard normal distribution that encloses the given probability symmetrically
+     * around zero, using the rational approximation of Acklam with a relative error below 1.2e-9.
+     * @param confidenceLevel the probability, between 0 and 1 exclusive
+     * @return the z-score of the confidence level
+     */
+    static double zScore(double confidenceLevel) {
+        if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+            throw new IllegalArgumentException("Confidence level must be between 0 and 1 exclusive");
+        }
+        double p = 0.5 + confidenceLevel / 2;
+        double q;
+        if (p > 0.97575) {
+            q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((-7.784894002430293e-03 * q - 3.223964580411365e-01) * q - 2.400758277161838e+00) * q
+                    - 2.549732539343734e+00) * q + 4.374664141464968e+00) * q + 2.938163982698783e+00)
+                    / ((((7.784695709041462e-03 * q + 3.224671290700398e-01) * q + 2.445134137142996e+00) * q
+                    + 3.754408661907416e+00) * q + 1);
+        }
+        q = p - 0.5;
+        double r = q * q;
+        return (((((-3.969683028665376e+01 * r + 2.209460984245205e+02) * r - 2.759285104469687e+02) * r
+                + 1.383577518672690e+02) * r - 3.066479806614716e+01) * r + 2.506628277459239e+00) * q
+                / (((((-5.447609879822406e+01 * r + 1.615858368580409e+02) * r - 1.556989798598866e+02) * r
+                + 6.680131188771972e+01) * r - 1.328068155288572e+01) * r + 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%.4f, %.4f] (%.0f%%)", lower, upper, confidenceLevel * 100);
+    }
+}
@@ -0,0 +1,89 @@
+package de.janpascalmaas.domain.simulation;
+
+/**
+ * Online estimate of the rate of an outcome, e.g. how often the first player wins a game. The estimate is updated
+ * with the counts of every batch of games and merges them into the running mean and sum of squared deviations
+ * (Welford's algorithm in the variant of Chan et al. for combining samples), so it never has to look at a single game
+ * again. The estimate is only written by the thread running the simulation.
+ */
+public final class Estimate {
+
+    private long count;
+
+    private double mean;
+
+    private double sumOfSquaredDeviations;
+
+    Estimate() {
+    }
+
+    /**
+     * Adds a batch of games to the estimate.
+     * @param games the number of games in the batch
+     * @param occurrences the number of games in the batch with the outcome
+     */
+    void add(long games, long occurrences) {
+        if (games == 0) {
+            return;
+        }
+        double batchMean = (double) occurrences / games;
+        double batchSumOfSquaredDeviations = occurrences * (1 - batchMean);
+        long total = count + games;
+        double delta = batchMean - mean;
+        mean += delta * games / total;
+        sumOfSquaredDeviations += batchSumOfSquaredDeviations + delta * delta * count * games / total;
+        count = total;
+    }
+
+    /**
+     * @return the number of games the estimate is based on
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the estimated rate
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the sample variance of the outcome of a single game
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : sumOfSquaredDeviations / (count - 1);
+    }
+
+    /**
+     * @return the standard error of the estimated rate
+     */
+    public double getStandardError() {
+        return count == 0 ? 0 : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Calculates the Wilson score interval of the rate. Unlike the normal approximation it stays within 0 and 1 and
+     * does not collapse to a single point if the outcome occurred in none or all of the games.
+     * @param confidenceLevel the confidence level, between 0 and 1 exclusive
+     * @return the confidence interval, from 0 to 1 if no game has been added
+     */
+    public ConfidenceInterval getConfidenceInterval(double confidenceLevel) {
+        double z = ConfidenceInterval.zScore(confidenceLevel);
+        if (count == 0) {
+            return new ConfidenceInterval(0, 1, confidenceLevel);
+        }
+        double zSquaredPerGame = z * z / count;
+        double centre = (mean + zSquaredPerGame / 2) / (1 + zSquaredPerGame);
+        double halfWidth = z / (1 + zSquaredPerGame)
+                * Math.sqrt(mean * (1 - mean) / count + zSquaredPerGame / (4 * count));
+        return new ConfidenceInterval(Math.max(0, centre - halfWidth), Math.min(1, centre + halfWidth),
+                                      confidenceLevel);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.4f ± %.4f", mean, getStandardError());
+    }
+}
@@ -0,0 +1,87 @@
+package de.janpascalmaas.domain.simulation;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.strategy.Seeds;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task playing a range of the games of a simulation. The range is split in halves until at most
+ * {@link #GAMES_PER_LEAF} games are left, so idle workers can steal the remaining games while a leaf counts all of its
+ * games in a single array. The task returns how many games of its range were won by the first player, ended in a draw
+ * and were won by the second player.
+ */
+@SuppressWarnings("serial")
+final class GameBatchTask extends RecursiveTask<long[]> {
+
+    /**
+     * Maximum number of games played by a task without splitting its range.
+     */
+    static final int GAMES_PER_LEAF = 16;
+
+    static final int PLAYER1_WINS = 0;
+
+    static final int DRAWS = 1;
+
+    static final int PLAYER2_WINS = 2;
+
+    private final Participant player1;
+
+    private final Participant player2;
+
+    private final int numberOfRounds;
+
+    private final long seed;
+
+    private final long from;
+
+    private final long to;
+
+    GameBatchTask(Participant player1, Participant player2, int numberOfRounds, long seed, long from,
+                  long to) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.numberOfRounds = numberOfRounds;
+        this.seed = seed;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected long[] compute() {
+        if (to - from <= GAMES_PER_LEAF) {
+            long[] counts = new long[3];
+            for (long game = from; game < to; game++) {
+                counts[playGame(game)]++;
+            }
+            return counts;
+        }
+        long middle = (from + to) >>> 1;
+        GameBatchTask left = new GameBatchTask(player1, player2, numberOfRounds, seed, from, middle);
+        GameBatchTask right = new GameBatchTask(player1, player2, numberOfRounds, seed, middle, to);
+        left.fork();
+        long[] counts = right.compute();
+        long[] leftCounts = left.join();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += leftCounts[i];
+        }
+        return counts;
+    }
+
+    private int playGame(long game) {
+        Game result = Game.builder()
+                .addPlayer1(player1.newPlayer(Seeds.derive(seed, 2 * game)))
+                .addPlayer2(player2.newPlayer(Seeds.derive(seed, 2 * game + 1)))
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.NONE)
+                .play();
+        long player1Score = result.getScoreboard().getPlayer1Score();
+        long player2Score = result.getScoreboard().getPlayer2Score();
+        if (player1Score > player2Score) {
+            return PLAYER1_WINS;
+        }
+        return player2Score > player1Score ? PLAYER2_WINS : DRAWS;
+    }
+}
@@ -0,0 +1,282 @@
+package de.janpascalmaas.domain.simulation;
+
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+/**
+ * Monte Carlo simulation estimating how often each of two strategies wins a game against the other.
+ * The simulation plays independent games in batches. The games of a batch are scheduled as fork-join tasks, so they
+ * are played in parallel on all workers of the pool. After every batch the counts of won, drawn and lost games are
+ * added to an {@link Estimate} per outcome. The simulation stops as soon as the confidence intervals of all outcomes
+ * are at least as narrow as the target precision, or when the maximum number of games has been played. As the
+ * decision to stop is only taken between batches and every game gets its own seeds derived from the simulation seed,
+ * a simulation of seeded strategies is reproducible whatever the number of workers. The simulation can be built using
+ * the Builder pattern and is played on creation.
+ */
+public final class Simulation {
+
+    private final long seed;
+
+    private final double confidenceLevel;
+
+    private final Estimate player1WinRate = new Estimate();
+
+    private final Estimate drawRate = new Estimate();
+
+    private final Estimate player2WinRate = new Estimate();
+
+    private long player1Wins;
+
+    private long draws;
+
+    private long player2Wins;
+
+    private int numberOfBatches;
+
+    private boolean stoppedEarly;
+
+    private Simulation(Participant player1, Participant player2, int numberOfRoundsPerGame, long maxGames,
+                       int batchSize, double confidenceLevel, double targetPrecision, long seed, ForkJoinPool pool) {
+        this.seed = seed;
+        this.confidenceLevel = confidenceLevel;
+        long played = 0;
+        while (played < maxGames) {
+            long batchEnd = Math.min(maxGames, played + batchSize);
+            long[] counts = pool.invoke(new GameBatchTask(player1, player2, numberOfRoundsPerGame, seed, played,
+                                                          batchEnd));
+            addBatch(batchEnd - played, counts);
+            played = batchEnd;
+            if (targetPrecision > 0 && played < maxGames && getPrecision() <= targetPrecision) {
+                stoppedEarly = true;
+                break;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private void addBatch(long games, long[] counts) {
+        numberOfBatches++;
+        player1Wins += counts[GameBatchTask.PLAYER1_WINS];
+        draws += counts[GameBatchTask.DRAWS];
+        player2Wins += counts[GameBatchTask.PLAYER2_WINS];
+        player1WinRate.add(games, counts[GameBatchTask.PLAYER1_WINS]);
+        drawRate.add(games, counts[GameBatchTask.DRAWS]);
+        player2WinRate.add(games, counts[GameBatchTask.PLAYER2_WINS]);
+    }
+
+    /**
+     * @return the seed the seeds of the games have been derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getNumberOfGames() {
+        return player1Wins + draws + player2Wins;
+    }
+
+    public int getNumberOfBatches() {
+        return numberOfBatches;
+    }
+
+    public long getPlayer1Wins() {
+        return player1Wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getPlayer2Wins() {
+        return player2Wins;
+    }
+
+    /**
+     * @return the estimated rate of games won by the first player
+     */
+    public Estimate getPlayer1WinRate() {
+        return player1WinRate;
+    }
+
+    /**
+     * @return the estimated rate of games ending in a draw
+     */
+    public Estimate getDrawRate() {
+        return drawRate;
+    }
+
+    /**
+     * @return the estimated rate of games won by the second player
+     */
+    public Estimate getPlayer2WinRate() {
+        return player2WinRate;
+    }
+
+    /**
+     * @return the confidence level of the intervals used to decide whether to stop
+     */
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    /**
+     * @return the largest half-width of the confidence intervals of the three outcomes
+     */
+    public double getPrecision() {
+        return Math.max(player1WinRate.getConfidenceInterval(confidenceLevel).getHalfWidth(),
+                        Math.max(drawRate.getConfidenceInterval(confidenceLevel).getHalfWidth(),
+                                 player2WinRate.getConfidenceInterval(confidenceLevel).getHalfWidth()));
+    }
+
+    /**
+     * @return true if the target precision has been reached before the maximum number of games was played
+     */
+    public boolean isStoppedEarly() {
+        return stoppedEarly;
+    }
+
+    /**
+     * Builder class to create a Simulation instance.
+     * The builder ensures that the simulation is valid before it is played. By default, the games are played on the
+     * common fork-join pool in batches of 1000 games, the confidence level is 95 percent, the simulation seed is
+     * chosen randomly and no target precision is set, so all games are played.
+     */
+    public static class Builder {
+
+        private Participant player1;
+
+        private Participant player2;
+
+        private int numberOfRoundsPerGame;
+
+        private long maxGames;
+
+        private int batchSize = 1_000;
+
+        private double confidenceLevel = 0.95;
+
+        private double targetPrecision;
+
+        private long seed = ThreadLocalRandom.current().nextLong();
+
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        /**
+         * Sets the first player of every game.
+         * @param name the name of the player
+         * @param strategyFactory creates the strategy of the player for every game from the seed of the game
+         * @return this builder
+         */
+        public Builder player1(String name, LongFunction<? extends PlayerStrategy> strategyFactory) {
+            if (this.player1 != null) {
+                throw new IllegalStateException("Player 1 is already set");
+            }
+            this.player1 = createParticipant(name, strategyFactory);
+            return this;
+        }
+
+        /**
+         * Sets the second player of every game.
+         * @param name the name of the player
+         * @param strategyFactory creates the strategy of the player for every game from the seed of the game
+         * @return this builder
+         */
+        public Builder player2(String name, LongFunction<? extends PlayerStrategy> strategyFactory) {
+            if (this.player2 != null) {
+                throw new IllegalStateException("Player 2 is already set");
+            }
+            this.player2 = createParticipant(name, strategyFactory);
+            return this;
+        }
+
+        public Builder numberOfRoundsPerGame(int numberOfRoundsPerGame) {
+            this.numberOfRoundsPerGame = numberOfRoundsPerGame;
+            return this;
+        }
+
+        public Builder maxGames(long maxGames) {
+            this.maxGames = maxGames;
+            return this;
+        }
+
+        /**
+         * @param batchSize the number of games played before the estimates are updated and the precision is checked
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be greater than 0");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder confidenceLevel(double confidenceLevel) {
+            if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+                throw new IllegalArgumentException("Confidence level must be between 0 and 1 exclusive");
+            }
+            this.confidenceLevel = confidenceLevel;
+            return this;
+        }
+
+        /**
+         * @param targetPrecision the half-width of the confidence intervals at which the simulation stops early
+         * @return this builder
+         */
+        public Builder targetPrecision(double targetPrecision) {
+            if (!(targetPrecision > 0 && targetPrecision < 1)) {
+                throw new IllegalArgumentException("Target precision must be between 0 and 1 exclusive");
+            }
+            this.targetPrecision = targetPrecision;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder pool(ForkJoinPool pool) {
+            if (pool == null) {
+                throw new IllegalArgumentException("Pool must not be null");
+            }
+            this.pool = pool;
+            return this;
+        }
+
+        public Simulation play() {
+            if (numberOfRoundsPerGame <= 0) {
+                throw new IllegalArgumentException("Number of rounds per game must be greater than 0");
+            }
+            if (maxGames <= 0) {
+                throw new IllegalArgumentException("Maximum number of games must be greater than 0");
+            }
+            if (player1 == null) {
+                throw new IllegalStateException("Player 1 must be added to the simulation");
+            }
+            if (player2 == null) {
+                throw new IllegalStateException("Player 2 must be added to the simulation");
+            }
+            return new Simulation(player1, player2, numberOfRoundsPerGame, maxGames, batchSize, confidenceLevel,
+                                  targetPrecision, seed, pool);
+        }
+
+        private static Participant createParticipant(String name,
+                                                     LongFunction<? extends PlayerStrategy> strategyFactory) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Player name must not be null or blank");
+            }
+            if (strategyFactory == null) {
+                throw new IllegalArgumentException("Strategy factory must not be null");
+            }
+            return new Participant(name, strategyFactory);
+        }
+    }
+}
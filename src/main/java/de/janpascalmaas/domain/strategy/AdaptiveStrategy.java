@@ -0,0 +1,17 @@
+package de.janpascalmaas.domain.strategy;
+
+/**
+ * A strategy that learns from the rounds played. After every round the strategy is told which shapes have been
+ * played, so its next shape may depend on all previous moves of the opponent. Games play adaptive strategies round by
+ * round instead of filling the shapes of a whole block at once.
+ */
+public interface AdaptiveStrategy extends PlayerStrategy {
+
+    /**
+     * Called after every round with the ordinals of the shape types played.
+     * @param ownShape the ordinal of the type of the shape played by this strategy
+     * @param opponentShape the ordinal of the type of the shape played by the opponent
+     */
+    void observe(int ownShape, int opponentShape);
+
+}
@@ -0,0 +1,22 @@
+package de.janpascalmaas.domain.strategy;
+
+/**
+ * A strategy whose state can be saved and restored, so a game can be resumed from a checkpoint and continue exactly
+ * as if it had never been interrupted.
+ */
+public interface CheckpointableStrategy extends PlayerStrategy {
+
+    /**
+     * @return the current state of the strategy
+     * @throws IllegalStateException if the state of this strategy instance can not be saved
+     */
+    long[] saveState();
+
+    /**
+     * Restores a state that has been saved by a strategy created in the same way as this one.
+     * @param state the saved state
+     * @throws IllegalArgumentException if the state does not belong to a strategy like this one
+     */
+    void restoreState(long[] state);
+
+}
@@ -0,0 +1,45 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.Shape;
+
+/**
+ * An adaptive strategy that counts how often the opponent played each shape and plays the shape beating the
+ * opponent's most frequent shape. The counts are kept in a primitive array indexed by the ordinal of the shape type,
+ * so every move takes constant time and creates no objects. Ties are resolved in favour of the lower ordinal, so
+ * until the opponent has played a round, the strategy expects rock and plays paper.
+ */
+public final class FrequencyStrategy implements AdaptiveStrategy, CheckpointableStrategy {
+
+    private final long[] counts = new long[Predictions.NUMBER_OF_SHAPES];
+
+    @Override
+    public Shape getNextShape() {
+        return Shape.of(Predictions.counter(Predictions.mostFrequent(counts, 0)));
+    }
+
+    @Override
+    public void observe(int ownShape, int opponentShape) {
+        counts[opponentShape]++;
+    }
+
+    /**
+     * @return the counts of the opponent's shapes
+     */
+    @Override
+    public long[] saveState() {
+        return counts.clone();
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != counts.length) {
+            throw new IllegalArgumentException("State does not belong to a frequency strategy");
+        }
+        System.arraycopy(state, 0, counts, 0, counts.length);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Frequency Strategy";
+    }
+}
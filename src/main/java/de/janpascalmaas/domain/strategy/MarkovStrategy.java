@@ -0,0 +1,101 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.Shape;
+
+/**
+ * An adaptive strategy that predicts the next shape of the opponent from the opponent's last k shapes, an order-k
+ * Markov chain learned while playing. The last k shapes form the context, kept as a number in base 3 that is updated
+ * in constant time after every round. For every context the strategy counts which shape the opponent played next in a
+ * flat primitive table indexed by {@code context * 3 + ordinal}, and plays the shape beating the most frequent one.
+ * Contexts that have not been seen yet, including the first k rounds, fall back to the overall frequency of the
+ * opponent's shapes.
+ */
+public final class MarkovStrategy implements AdaptiveStrategy, CheckpointableStrategy {
+
+    /**
+     * Highest supported order, limiting the transition table to 3^10 * 3 counts.
+     */
+    public static final int MAX_ORDER = 10;
+
+    private final int order;
+
+    private final int numberOfContexts;
+
+    private final long[] transitions;
+
+    private final long[] frequencies = new long[Predictions.NUMBER_OF_SHAPES];
+
+    private int context;
+
+    private long observed;
+
+    /**
+     * @param order the number of previous shapes of the opponent the prediction is based on
+     */
+    public MarkovStrategy(int order) {
+        if (order < 1 || order > MAX_ORDER) {
+            throw new IllegalArgumentException("Order must be between 1 and " + MAX_ORDER);
+        }
+        int contexts = 1;
+        for (int i = 0; i < order; i++) {
+            contexts *= Predictions.NUMBER_OF_SHAPES;
+        }
+        this.order = order;
+        this.numberOfContexts = contexts;
+        this.transitions = new long[contexts * Predictions.NUMBER_OF_SHAPES];
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    @Override
+    public Shape getNextShape() {
+        int row = context * Predictions.NUMBER_OF_SHAPES;
+        int predicted = Predictions.mostFrequent(transitions, row);
+        if (observed >= order && transitions[row + predicted] != 0) {
+            return Shape.of(Predictions.counter(predicted));
+        }
+        return Shape.of(Predictions.counter(Predictions.mostFrequent(frequencies, 0)));
+    }
+
+    @Override
+    public void observe(int ownShape, int opponentShape) {
+        if (observed >= order) {
+            transitions[context * Predictions.NUMBER_OF_SHAPES + opponentShape]++;
+        }
+        frequencies[opponentShape]++;
+        context = (context * Predictions.NUMBER_OF_SHAPES + opponentShape) % numberOfContexts;
+        observed++;
+    }
+
+    /**
+     * @return the order, the context, the number of observed rounds, the frequencies and the transition table
+     */
+    @Override
+    public long[] saveState() {
+        long[] state = new long[3 + frequencies.length + transitions.length];
+        state[0] = order;
+        state[1] = context;
+        state[2] = observed;
+        System.arraycopy(frequencies, 0, state, 3, frequencies.length);
+        System.arraycopy(transitions, 0, state, 3 + frequencies.length, transitions.length);
+        return state;
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != 3 + frequencies.length + transitions.length || state[0] != order) {
+            throw new IllegalArgumentException("State does not belong to a Markov strategy of order " + order);
+        }
+        context = (int) state[1];
+        observed = state[2];
+        System.arraycopy(state, 3, frequencies, 0, frequencies.length);
+        System.arraycopy(state, 3 + frequencies.length, transitions, 0, transitions.length);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Markov Strategy of order " + order;
+    }
+}
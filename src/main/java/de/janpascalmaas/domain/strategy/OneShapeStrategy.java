@@ -1,12 +1,17 @@
 package de.janpascalmaas.domain.strategy;
 
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 
+import java.util.Arrays;
+
 /**
  * A strategy for a player that always plays the same shape.
- * The strategy is immutable and always returns the same shape handed over in the constructor.
+ * The strategy is immutable and always returns the same shape handed over in the constructor, so its state in a
+ * checkpoint is empty. Its period is a single shape, so games against other periodic strategies are fast-forwarded
+ * and games between two one shape strategies take constant time.
  */
-public final class OneShapeStrategy implements PlayerStrategy {
+public final class OneShapeStrategy implements PeriodicStrategy, CheckpointableStrategy {
 
     private final Shape shape;
 
@@ -19,8 +24,35 @@ public final class OneShapeStrategy implements PlayerStrategy {
         return shape;
     }
 
+    @Override
+    public void fillNextShapes(byte[] buffer, int offset, int length) {
+        Arrays.fill(buffer, offset, offset + length, (byte) shape.getOrdinal());
+    }
+
+    @Override
+    public int getPeriod() {
+        return 1;
+    }
+
+    @Override
+    public long[] saveState() {
+        return new long[0];
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != 0) {
+            throw new IllegalArgumentException("State does not belong to a one shape strategy");
+        }
+    }
+
+    @Override
+    public RuleSet getRuleSet() {
+        return shape.getRuleSet();
+    }
+
     @Override
     public String getStrategyName() {
-        return shape.getType().name() + " Strategy";
+        return shape.getName() + " Strategy";
     }
 }
@@ -0,0 +1,15 @@
+package de.janpascalmaas.domain.strategy;
+
+/**
+ * A deterministic strategy whose shapes repeat after a fixed number of shapes, whatever its opponent plays.
+ * Games between two periodic strategies repeat after the least common multiple of their periods, so a game only has
+ * to play one joint cycle and can extrapolate the remaining cycles.
+ */
+public interface PeriodicStrategy extends PlayerStrategy {
+
+    /**
+     * @return the number of shapes after which the strategy plays the same shapes again, at least 1
+     */
+    int getPeriod();
+
+}
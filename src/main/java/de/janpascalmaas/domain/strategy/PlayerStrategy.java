@@ -1,15 +1,41 @@
 package de.janpascalmaas.domain.strategy;
 
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 
 /**
  * Interface representing a strategy for a player in the game rock paper scissors.
  * A player strategy defines how a player will choose their next shape to play.
+ * Unless stated otherwise, a strategy may keep state between its moves, so it must not be used by more than one game
+ * or thread at a time.
  */
 public interface PlayerStrategy {
 
     Shape getNextShape();
 
+    /**
+     * Writes the ordinals of the types of the next shapes into the buffer, in the order they would be returned by
+     * {@link #getNextShape()}. Strategies should override this method if they can produce many shapes at once more
+     * efficiently than one by one.
+     * @param buffer the buffer to write the ordinals to
+     * @param offset the position of the first shape in the buffer
+     * @param length the number of shapes to write
+     */
+    default void fillNextShapes(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = (byte) getNextShape().getOrdinal();
+        }
+    }
+
     String getStrategyName();
 
+    /**
+     * Games only accept strategies whose shapes belong to the rule set the game is played with. Strategies choosing
+     * from the shapes of another rule set than the classic one have to override this method.
+     * @return the rule set of the shapes played by this strategy
+     */
+    default RuleSet getRuleSet() {
+        return RuleSet.CLASSIC;
+    }
+
 }
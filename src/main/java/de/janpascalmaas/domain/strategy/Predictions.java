@@ -0,0 +1,56 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+
+/**
+ * Lookups shared by the adaptive strategies, working on the ordinals of the shape types.
+ */
+final class Predictions {
+
+    static final int NUMBER_OF_SHAPES = ShapeType.values().length;
+
+    /**
+     * Ordinal of the shape type beating the shape type with the index as ordinal.
+     */
+    private static final int[] COUNTERS = createCounters();
+
+    private Predictions() {
+    }
+
+    /**
+     * @param shape the ordinal of the type of a shape
+     * @return the ordinal of the type of the shape beating it
+     */
+    static int counter(int shape) {
+        return COUNTERS[shape];
+    }
+
+    /**
+     * @param counts the counts of the shape types, indexed by ordinal starting at the offset
+     * @param offset the position of the count of the first shape type
+     * @return the ordinal of the shape type with the highest count, the lowest ordinal if several have the same count
+     */
+    static int mostFrequent(long[] counts, int offset) {
+        int mostFrequent = 0;
+        for (int shape = 1; shape < NUMBER_OF_SHAPES; shape++) {
+            if (counts[offset + shape] > counts[offset + mostFrequent]) {
+                mostFrequent = shape;
+            }
+        }
+        return mostFrequent;
+    }
+
+    private static int[] createCounters() {
+        ShapeType[] types = ShapeType.values();
+        int[] counters = new int[types.length];
+        for (ShapeType type : types) {
+            for (ShapeType counter : types) {
+                if (Shape.of(counter).beats(Shape.of(type))) {
+                    counters[type.ordinal()] = counter.ordinal();
+                }
+            }
+        }
+        return counters;
+    }
+}
@@ -1,50 +1,198 @@
 package de.janpascalmaas.domain.strategy;
 
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 
-import java.util.List;
-import java.util.function.Supplier;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import java.util.stream.Collectors;
 
 /**
- * A strategy for a player that selects one of the provided shapes based on a randomizing function. By default, it uses
- * `Math.random()` to generate a random double between 0.0 (inclusive) and 1.0 (exclusive) to select a shape from a list
- * of shapes.
- * The strategy is immutable.
+ * A strategy for a player that selects one of the provided shapes based on a random number generator. The shapes may
+ * belong to any {@link RuleSet}, as long as they all belong to the same one.
+ * By default, the random numbers are taken from the {@link ThreadLocalRandom} of the calling thread, so the strategy
+ * can be used from many threads without contention, but its moves can not be reproduced. A seeded strategy uses its
+ * own generator and always plays the same sequence of moves for the same seed; use {@link #split()} to derive an
+ * independent strategy for another game or thread.
+ * A seeded strategy derives its random numbers from its seed and their index, so its state is its seed and the number
+ * of random numbers drawn so far. The state can be saved in a checkpoint and is restored in constant time, however
+ * many numbers have been drawn.
  */
-public final class RandomStrategy implements PlayerStrategy {
+public final class RandomStrategy implements CheckpointableStrategy {
 
-    private final List<Shape> shapes;
+    private final Shape[] shapes;
 
-    private final Supplier<Double> randomizer;
+    private final byte[] shapeOrdinals;
+
+    private final boolean seeded;
+
+    private final long seed;
+
+    private final RandomGenerator randomGenerator;
+
+    private long splits;
 
     public RandomStrategy(Shape... shapes) {
+        this(null, shapes);
+    }
+
+    /**
+     * Constructor to select all shapes of a rule set with equal probability.
+     * @param ruleSet the rule set to take the shapes from
+     */
+    public RandomStrategy(RuleSet ruleSet) {
+        this(null, shapesOf(ruleSet));
+    }
+
+    /**
+     * Constructor to use a custom random number generator.
+     * @param randomGenerator the generator to select the shapes with, or null to use the {@link ThreadLocalRandom}
+     *                        of the calling thread
+     * @param shapes the shapes to choose from
+     */
+    public RandomStrategy(RandomGenerator randomGenerator, Shape... shapes) {
+        this(randomGenerator, false, 0, shapes);
+    }
+
+    private RandomStrategy(RandomGenerator randomGenerator, boolean seeded, long seed, Shape... shapes) {
         if (shapes == null || shapes.length == 0) {
             throw new IllegalArgumentException("RandomStrategy requires at least one shape");
         }
-        this.shapes = List.of(shapes);
-        this.randomizer = Math::random;
+        this.shapes = shapes.clone();
+        this.shapeOrdinals = new byte[shapes.length];
+        for (int i = 0; i < shapes.length; i++) {
+            if (shapes[i].getRuleSet() != shapes[0].getRuleSet()) {
+                throw new IllegalArgumentException("All shapes of a RandomStrategy must belong to the same rule set");
+            }
+            shapeOrdinals[i] = (byte) shapes[i].getOrdinal();
+        }
+        this.randomGenerator = randomGenerator;
+        this.seeded = seeded;
+        this.seed = seed;
     }
 
     /**
-     * Constructor for testing purposes, allowing a custom randomizer.
-     * @param shapes the list of shapes to choose from
-     * @param randomizer a supplier that provides a random double between 0.0 (inclusive) and 1.0 (exclusive)
+     * Creates a strategy whose moves are fully determined by the given seed.
+     * @param seed the seed of the random number generator
+     * @param shapes the shapes to choose from
+     * @return a new seeded strategy
      */
-    RandomStrategy(Supplier<Double> randomizer, Shape... shapes) {
-        this.shapes = List.of(shapes);
-        this.randomizer = randomizer;
+    public static RandomStrategy seeded(long seed, Shape... shapes) {
+        return new RandomStrategy(new SeededGenerator(seed), true, seed, shapes);
+    }
+
+    /**
+     * Creates a strategy selecting all shapes of a rule set with equal probability, whose moves are fully determined
+     * by the given seed.
+     * @param seed the seed of the random number generator
+     * @param ruleSet the rule set to take the shapes from
+     * @return a new seeded strategy
+     */
+    public static RandomStrategy seeded(long seed, RuleSet ruleSet) {
+        return seeded(seed, shapesOf(ruleSet));
+    }
+
+    private static Shape[] shapesOf(RuleSet ruleSet) {
+        if (ruleSet == null) {
+            throw new IllegalArgumentException("Rule set must not be null");
+        }
+        return ruleSet.getShapes();
+    }
+
+    /**
+     * Creates a new strategy with the same shapes and a statistically independent stream of random numbers. A seeded
+     * strategy derives the seeds of its split strategies from its own seed, so the split strategies are reproducible
+     * and seeded as well.
+     * @return the new strategy
+     * @throws IllegalStateException if the generator of this strategy can not be split
+     */
+    public RandomStrategy split() {
+        if (seeded) {
+            return seeded(Seeds.derive(seed, splits++), shapes);
+        }
+        if (randomGenerator == null) {
+            return new RandomStrategy(null, shapes);
+        }
+        if (randomGenerator instanceof SplittableGenerator splittableGenerator) {
+            return new RandomStrategy(splittableGenerator.split(), shapes);
+        }
+        throw new IllegalStateException("Random generator " + randomGenerator.getClass().getSimpleName()
+                                                + " can not be split");
     }
 
     @Override
     public Shape getNextShape() {
-        int randomIndex = (int) (randomizer.get() * shapes.size());
-        return shapes.get(randomIndex);
+        if (randomGenerator == null) {
+            return shapes[ThreadLocalRandom.current().nextInt(shapes.length)];
+        }
+        return shapes[randomGenerator.nextInt(shapes.length)];
+    }
+
+    @Override
+    public void fillNextShapes(byte[] buffer, int offset, int length) {
+        RandomGenerator generator = randomGenerator == null ? ThreadLocalRandom.current() : randomGenerator;
+        byte[] ordinals = shapeOrdinals;
+        int bound = ordinals.length;
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = ordinals[generator.nextInt(bound)];
+        }
+    }
+
+    /**
+     * @return the seed, the number of random numbers drawn and the number of strategies split off
+     * @throws IllegalStateException if the strategy is not seeded
+     */
+    @Override
+    public long[] saveState() {
+        if (!seeded) {
+            throw new IllegalStateException("Only seeded random strategies support checkpoints");
+        }
+        return new long[]{seed, ((SeededGenerator) randomGenerator).draws, splits};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        if (!seeded) {
+            throw new IllegalStateException("Only seeded random strategies support checkpoints");
+        }
+        if (state.length != 3 || state[0] != seed) {
+            throw new IllegalArgumentException("State does not belong to a random strategy with seed " + seed);
+        }
+        ((SeededGenerator) randomGenerator).draws = state[1];
+        this.splits = state[2];
+    }
+
+    @Override
+    public RuleSet getRuleSet() {
+        return shapes[0].getRuleSet();
     }
 
     @Override
     public String getStrategyName() {
         return "Random Strategy with shapes: "
-                + shapes.stream().map(shape -> shape.getType().name()).collect(Collectors.joining(","));
+                + Arrays.stream(shapes).map(Shape::getName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Counter-based generator of seeded strategies: the random number with index i is derived from a key and i by the
+     * SplitMix64 finaliser of {@link Seeds#derive(long, long)}. The key is derived from the seed, so the numbers differ
+     * from the seeds of split strategies, which are derived from the seed itself.
+     */
+    private static final class SeededGenerator implements RandomGenerator {
+
+        private final long key;
+
+        private long draws;
+
+        private SeededGenerator(long seed) {
+            this.key = Seeds.derive(seed, -1);
+        }
+
+        @Override
+        public long nextLong() {
+            return Seeds.derive(key, draws++);
+        }
     }
 }
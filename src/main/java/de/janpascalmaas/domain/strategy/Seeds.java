@@ -0,0 +1,26 @@
+package de.janpascalmaas.domain.strategy;
+
+/**
+ * Utility to derive seeds for random number generators from other seeds.
+ */
+public final class Seeds {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Seeds() {
+    }
+
+    /**
+     * Derives a seed from a parent seed and an index using the SplitMix64 finaliser, so the seeds derived for
+     * neighbouring indexes are statistically independent.
+     * @param seed the parent seed
+     * @param index the index of the derived seed
+     * @return the derived seed
+     */
+    public static long derive(long seed, long index) {
+        long z = seed + GOLDEN_GAMMA * (index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
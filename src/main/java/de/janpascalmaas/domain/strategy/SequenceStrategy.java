@@ -0,0 +1,152 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A scripted strategy that plays a fixed sequence of shapes over and over again, e.g. rock, rock, paper, scissors.
+ * The period of the strategy is the shortest part of the sequence that it repeats, so "R,P,R,P" has a period of 2.
+ * The state of the strategy is its position within the period, so it can be saved in a checkpoint and is the same
+ * after any number of shapes that differ by a multiple of the period.
+ */
+public final class SequenceStrategy implements PeriodicStrategy, CheckpointableStrategy {
+
+    private final Shape[] sequence;
+
+    private final byte[] ordinals;
+
+    private final int period;
+
+    /**
+     * The position of the next shape, always less than the period.
+     */
+    private int position;
+
+    public SequenceStrategy(Shape... sequence) {
+        if (sequence.length == 0) {
+            throw new IllegalArgumentException("Sequence must contain at least one shape");
+        }
+        for (Shape shape : sequence) {
+            if (shape.getRuleSet() != sequence[0].getRuleSet()) {
+                throw new IllegalArgumentException("All shapes of a SequenceStrategy must belong to the same rule set");
+            }
+        }
+        this.sequence = sequence.clone();
+        this.ordinals = new byte[sequence.length];
+        for (int i = 0; i < sequence.length; i++) {
+            ordinals[i] = (byte) sequence[i].getOrdinal();
+        }
+        this.period = shortestPeriod(ordinals);
+    }
+
+    /**
+     * Parses a sequence of shapes of the classic game, see {@link #parse(String, RuleSet)}.
+     * @param sequence the comma separated shapes, e.g. "R,R,P,S"
+     * @return the strategy
+     */
+    public static SequenceStrategy parse(String sequence) {
+        return parse(sequence, RuleSet.CLASSIC);
+    }
+
+    /**
+     * Parses a comma separated sequence of shapes. Every shape is given by its name or by an unambiguous prefix of
+     * it, see {@link RuleSet#findShape(String)}, so "R,R,P,S" and "rock,rock,paper,scissors" are the same sequence
+     * of the classic game.
+     * @param sequence the comma separated shapes
+     * @param ruleSet the rule set of the shapes
+     * @return the strategy
+     */
+    public static SequenceStrategy parse(String sequence, RuleSet ruleSet) {
+        return new SequenceStrategy(parseShapes(sequence, ruleSet));
+    }
+
+    /**
+     * Parses a comma separated sequence of shapes like {@link #parse(String, RuleSet)}, so many strategies can be
+     * created from the same sequence without parsing it again.
+     * @param sequence the comma separated shapes
+     * @param ruleSet the rule set of the shapes
+     * @return the shapes of the sequence
+     */
+    public static Shape[] parseShapes(String sequence, RuleSet ruleSet) {
+        if (sequence == null || sequence.isBlank()) {
+            throw new IllegalArgumentException("Sequence must contain at least one shape");
+        }
+        String[] names = sequence.split(",");
+        Shape[] shapes = new Shape[names.length];
+        for (int i = 0; i < names.length; i++) {
+            shapes[i] = ruleSet.findShape(names[i].strip());
+        }
+        return shapes;
+    }
+
+    private static int shortestPeriod(byte[] ordinals) {
+        int n = ordinals.length;
+        for (int period = 1; period < n; period++) {
+            if (n % period != 0) {
+                continue;
+            }
+            int i = period;
+            while (i < n && ordinals[i] == ordinals[i - period]) {
+                i++;
+            }
+            if (i == n) {
+                return period;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public Shape getNextShape() {
+        Shape shape = sequence[position];
+        position = position + 1 == period ? 0 : position + 1;
+        return shape;
+    }
+
+    @Override
+    public void fillNextShapes(byte[] buffer, int offset, int length) {
+        int filled = 0;
+        while (filled < length) {
+            int chunk = Math.min(length - filled, ordinals.length - position);
+            System.arraycopy(ordinals, position, buffer, offset + filled, chunk);
+            filled += chunk;
+            // the sequence repeats its period, so the chunk may run past the period but not past the sequence
+            position = (position + chunk) % period;
+        }
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return the position of the next shape within the period of the sequence
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{position};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != 1 || state[0] < 0 || state[0] >= sequence.length) {
+            throw new IllegalArgumentException("State does not belong to a sequence strategy of length "
+                                                       + sequence.length);
+        }
+        this.position = (int) (state[0] % period);
+    }
+
+    @Override
+    public RuleSet getRuleSet() {
+        return sequence[0].getRuleSet();
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Sequence Strategy: " + Arrays.stream(sequence).map(Shape::getName).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,59 @@
+package de.janpascalmaas.domain.tournament;
+
+/**
+ * Result of a single match between two participants of a tournament.
+ * The match result is immutable.
+ */
+public final class MatchResult {
+
+    private final String player1;
+
+    private final String player2;
+
+    private final long player1Score;
+
+    private final long player2Score;
+
+    private final long numberOfDraws;
+
+    MatchResult(String player1, String player2, long player1Score, long player2Score, long numberOfDraws) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.numberOfDraws = numberOfDraws;
+    }
+
+    public String getPlayer1() {
+        return player1;
+    }
+
+    public String getPlayer2() {
+        return player2;
+    }
+
+    public long getPlayer1Score() {
+        return player1Score;
+    }
+
+    public long getPlayer2Score() {
+        return player2Score;
+    }
+
+    public long getNumberOfDraws() {
+        return numberOfDraws;
+    }
+
+    /**
+     * @return the name of the player who won more rounds, or null if both won the same number of rounds
+     */
+    public String getWinner() {
+        if (player1Score > player2Score) {
+            return player1;
+        }
+        if (player2Score > player1Score) {
+            return player2;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.rating.EloLeaderboard;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.strategy.Seeds;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task playing a range of the pairings of a tournament. The range is split in halves until a single match
+ * is left, so idle workers can steal the remaining matches. Every match writes its result into its own slot of the
+ * result array, so no synchronisation between the matches is needed. If the tournament is rated, every match
+ * publishes its result to the lock-free leaderboard as soon as it is finished.
+ */
+@SuppressWarnings("serial")
+final class MatchTask extends RecursiveAction {
+
+    private final Participant[] participants;
+
+    private final int[][] pairings;
+
+    private final MatchResult[] results;
+
+    private final int numberOfRounds;
+
+    private final long seed;
+
+    private final EloLeaderboard leaderboard;
+
+    private final int from;
+
+    private final int to;
+
+    MatchTask(Participant[] participants, int[][] pairings, MatchResult[] results, int numberOfRounds, long seed,
+              EloLeaderboard leaderboard, int from, int to) {
+        this.participants = participants;
+        this.pairings = pairings;
+        this.results = results;
+        this.numberOfRounds = numberOfRounds;
+        this.seed = seed;
+        this.leaderboard = leaderboard;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            results[from] = playMatch(from);
+            if (leaderboard != null) {
+                rate(results[from]);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new MatchTask(participants, pairings, results, numberOfRounds, seed, leaderboard, from, middle),
+                  new MatchTask(participants, pairings, results, numberOfRounds, seed, leaderboard, middle, to));
+    }
+
+    private MatchResult playMatch(int match) {
+        int[] pairing = pairings[match];
+        Player player1 = participants[pairing[0]].newPlayer(matchSeed(match, 0));
+        Player player2 = participants[pairing[1]].newPlayer(matchSeed(match, 1));
+        Game game = Game.builder()
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.NONE)
+                .play();
+        return new MatchResult(player1.getName(), player2.getName(), game.getScoreboard().getPlayer1Score(),
+                               game.getScoreboard().getPlayer2Score(), game.getNumberOfDraws());
+    }
+
+    private void rate(MatchResult result) {
+        double player1Score = result.getWinner() == null ? 0.5 : result.getWinner().equals(result.getPlayer1()) ? 1 : 0;
+        leaderboard.record(result.getPlayer1(), result.getPlayer2(), player1Score);
+    }
+
+    /**
+     * Derives the seed of one side of a match from the tournament seed.
+     */
+    private long matchSeed(int match, int side) {
+        return Seeds.derive(seed, 2L * match + side);
+    }
+}
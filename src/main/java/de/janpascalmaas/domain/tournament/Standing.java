@@ -0,0 +1,53 @@
+package de.janpascalmaas.domain.tournament;
+
+/**
+ * Accumulated results of one participant over all matches of a tournament.
+ * The standing is immutable.
+ */
+public final class Standing {
+
+    private final String name;
+
+    private final int matchesWon;
+
+    private final int matchesDrawn;
+
+    private final int matchesLost;
+
+    private final long roundsWon;
+
+    private final long roundsLost;
+
+    Standing(String name, int matchesWon, int matchesDrawn, int matchesLost, long roundsWon, long roundsLost) {
+        this.name = name;
+        this.matchesWon = matchesWon;
+        this.matchesDrawn = matchesDrawn;
+        this.matchesLost = matchesLost;
+        this.roundsWon = roundsWon;
+        this.roundsLost = roundsLost;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMatchesWon() {
+        return matchesWon;
+    }
+
+    public int getMatchesDrawn() {
+        return matchesDrawn;
+    }
+
+    public int getMatchesLost() {
+        return matchesLost;
+    }
+
+    public long getRoundsWon() {
+        return roundsWon;
+    }
+
+    public long getRoundsLost() {
+        return roundsLost;
+    }
+}
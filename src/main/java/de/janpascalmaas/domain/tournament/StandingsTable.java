@@ -0,0 +1,79 @@
+package de.janpascalmaas.domain.tournament;
+
+/**
+ * Running totals of the matches and rounds won, drawn and lost by every participant of a tournament, kept in primitive
+ * arrays indexed by the position of the participant. The table is not thread safe; results are recorded after the
+ * matches have been played.
+ */
+final class StandingsTable {
+
+    private final int[] won;
+
+    private final int[] drawn;
+
+    private final int[] lost;
+
+    private final long[] roundsWon;
+
+    private final long[] roundsLost;
+
+    StandingsTable(int numberOfParticipants) {
+        this.won = new int[numberOfParticipants];
+        this.drawn = new int[numberOfParticipants];
+        this.lost = new int[numberOfParticipants];
+        this.roundsWon = new long[numberOfParticipants];
+        this.roundsLost = new long[numberOfParticipants];
+    }
+
+    /**
+     * @param player1 the position of the first player of the match
+     * @param player2 the position of the second player of the match
+     * @param result the result of the match
+     */
+    void record(int player1, int player2, MatchResult result) {
+        roundsWon[player1] += result.getPlayer1Score();
+        roundsLost[player1] += result.getPlayer2Score();
+        roundsWon[player2] += result.getPlayer2Score();
+        roundsLost[player2] += result.getPlayer1Score();
+        if (result.getPlayer1Score() > result.getPlayer2Score()) {
+            won[player1]++;
+            lost[player2]++;
+        } else if (result.getPlayer2Score() > result.getPlayer1Score()) {
+            won[player2]++;
+            lost[player1]++;
+        } else {
+            drawn[player1]++;
+            drawn[player2]++;
+        }
+    }
+
+    /**
+     * Awards a won match without rounds to a participant sitting a stage out.
+     * @param participant the position of the participant
+     */
+    void recordBye(int participant) {
+        won[participant]++;
+    }
+
+    int getMatchesWon(int participant) {
+        return won[participant];
+    }
+
+    int getMatchesDrawn(int participant) {
+        return drawn[participant];
+    }
+
+    long getRoundsWon(int participant) {
+        return roundsWon[participant];
+    }
+
+    /**
+     * @param participant the position of the participant
+     * @param name the name of the participant
+     * @return the standing of the participant
+     */
+    Standing toStanding(int participant, String name) {
+        return new Standing(name, won[participant], drawn[participant], lost[participant], roundsWon[participant],
+                            roundsLost[participant]);
+    }
+}
@@ -0,0 +1,271 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.rating.EloLeaderboard;
+import de.janpascalmaas.domain.strategy.Seeds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Swiss-system tournament for pools of participants too large for a round-robin {@link Tournament}.
+ * The tournament is played in stages. In every stage the participants are ranked by their standings so far and every
+ * participant is paired with the next participant in the ranking it has not played yet, so participants with similar
+ * standings meet. If the number of participants is odd, the lowest ranked participant without a bye sits the stage
+ * out and is awarded a won match. The matches of a stage are played in parallel as fork-join tasks like the matches of
+ * a round-robin tournament. By default, the tournament has as many stages as needed to separate the participants by
+ * halving, the binary logarithm of their number rounded up, so it needs O(n log n) matches instead of O(n²).
+ * The standings are updated from the results of each stage only, and the ranking of the previous stage is sorted
+ * again. The state of the participants is kept in primitive arrays: the ranking is an array of positions, and the
+ * pairs that have played are kept as a sorted array of pair keys, which grows by one key per match and is searched
+ * by binary search. Participants are ranked by their points, two for a won match and one for a drawn match, then by
+ * the rounds they won and their name. The tournament can be built using the Builder pattern and is played on
+ * creation.
+ */
+public final class SwissTournament {
+
+    /**
+     * Length of the ranges that are sorted by insertion instead of being split further.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final Participant[] participants;
+
+    private final int numberOfRoundsPerMatch;
+
+    private final long seed;
+
+    private final int numberOfStages;
+
+    private final ForkJoinPool pool;
+
+    private final EloLeaderboard leaderboard;
+
+    private final StandingsTable table;
+
+    private final boolean[] hadBye;
+
+    /**
+     * Keys of the pairs that have played each other, sorted ascending.
+     */
+    private long[] playedPairs = new long[0];
+
+    private final int[] ranking;
+
+    private final int[] sortBuffer;
+
+    private final List<MatchResult> matchResults = new ArrayList<>();
+
+    private final List<Standing> standings;
+
+    private SwissTournament(List<Participant> participants, int numberOfRoundsPerMatch, long seed, int numberOfStages,
+                            ForkJoinPool pool, EloLeaderboard leaderboard) {
+        this.participants = participants.toArray(new Participant[0]);
+        this.numberOfRoundsPerMatch = numberOfRoundsPerMatch;
+        this.seed = seed;
+        this.numberOfStages = numberOfStages;
+        this.pool = pool;
+        this.leaderboard = leaderboard;
+        int n = this.participants.length;
+        this.table = new StandingsTable(n);
+        this.hadBye = new boolean[n];
+        this.ranking = new int[n];
+        this.sortBuffer = new int[n];
+        Arrays.setAll(ranking, i -> i);
+        for (int stage = 0; stage < numberOfStages; stage++) {
+            playStage(stage);
+        }
+        sortRanking(0, n);
+        List<Standing> result = new ArrayList<>(n);
+        for (int participant : ranking) {
+            result.add(table.toStanding(participant, this.participants[participant].getName()));
+        }
+        this.standings = List.copyOf(result);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the seed the seeds of the matches have been derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumberOfStages() {
+        return numberOfStages;
+    }
+
+    /**
+     * @return the results of all matches, stage by stage and in the order of the pairings within a stage
+     */
+    public List<MatchResult> getMatchResults() {
+        return List.copyOf(matchResults);
+    }
+
+    /**
+     * @return the standings of all participants, best participant first
+     */
+    public List<Standing> getStandings() {
+        return standings;
+    }
+
+    private void playStage(int stage) {
+        sortRanking(0, ranking.length);
+        int[][] pairings = pair();
+        MatchResult[] results = new MatchResult[pairings.length];
+        pool.invoke(new MatchTask(participants, pairings, results, numberOfRoundsPerMatch, Seeds.derive(seed, stage),
+                                  leaderboard, 0, pairings.length));
+        for (int i = 0; i < pairings.length; i++) {
+            table.record(pairings[i][0], pairings[i][1], results[i]);
+        }
+        matchResults.addAll(Arrays.asList(results));
+    }
+
+    /**
+     * Pairs every participant with the next participant in the ranking it has not played yet. A participant has
+     * played at most one opponent per stage, so the search only skips a few participants. A rematch is only
+     * scheduled if all remaining participants have been played before. The pairs of the stage are added to the
+     * played pairs when the stage is paired, as no participant can meet an opponent of the same stage again.
+     */
+    private int[][] pair() {
+        int n = ranking.length;
+        boolean[] paired = new boolean[n];
+        if (n % 2 == 1) {
+            int bye = n - 1;
+            while (bye > 0 && hadBye[ranking[bye]]) {
+                bye--;
+            }
+            paired[bye] = true;
+            hadBye[ranking[bye]] = true;
+            table.recordBye(ranking[bye]);
+        }
+        int[][] pairings = new int[n / 2][];
+        long[] stagePairs = new long[n / 2];
+        int count = 0;
+        for (int position = 0; position < n; position++) {
+            if (paired[position]) {
+                continue;
+            }
+            paired[position] = true;
+            int participant = ranking[position];
+            int opponentPosition = -1;
+            for (int candidate = position + 1; candidate < n; candidate++) {
+                if (paired[candidate]) {
+                    continue;
+                }
+                if (opponentPosition < 0) {
+                    opponentPosition = candidate;
+                }
+                if (Arrays.binarySearch(playedPairs, pairKey(participant, ranking[candidate])) < 0) {
+                    opponentPosition = candidate;
+                    break;
+                }
+            }
+            paired[opponentPosition] = true;
+            int opponent = ranking[opponentPosition];
+            stagePairs[count] = pairKey(participant, opponent);
+            pairings[count++] = new int[]{participant, opponent};
+        }
+        addPlayedPairs(stagePairs);
+        return pairings;
+    }
+
+    /**
+     * Merges the sorted pairs of a stage into the played pairs.
+     */
+    private void addPlayedPairs(long[] stagePairs) {
+        Arrays.sort(stagePairs);
+        long[] merged = new long[playedPairs.length + stagePairs.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            merged[k] = j == stagePairs.length || i < playedPairs.length && playedPairs[i] <= stagePairs[j]
+                    ? playedPairs[i++] : stagePairs[j++];
+        }
+        playedPairs = merged;
+    }
+
+    private static long pairKey(int participant, int opponent) {
+        return (long) Math.min(participant, opponent) << 32 | Math.max(participant, opponent);
+    }
+
+    /**
+     * Sorts a range of the ranking by the standings with a stable merge sort on the primitive positions. Halves that
+     * are already in order are not merged, so ranges in which most participants keep their position are sorted in
+     * almost linear time.
+     */
+    private void sortRanking(int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int participant = ranking[i];
+                int j = i - 1;
+                while (j >= from && compareStandings(ranking[j], participant) > 0) {
+                    ranking[j + 1] = ranking[j];
+                    j--;
+                }
+                ranking[j + 1] = participant;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortRanking(from, middle);
+        sortRanking(middle, to);
+        if (compareStandings(ranking[middle - 1], ranking[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(ranking, from, sortBuffer, from, to - from);
+        int i = from;
+        int j = middle;
+        for (int k = from; k < to; k++) {
+            ranking[k] = j == to || i < middle && compareStandings(sortBuffer[i], sortBuffer[j]) <= 0
+                    ? sortBuffer[i++] : sortBuffer[j++];
+        }
+    }
+
+    private int compareStandings(int participant, int other) {
+        int byPoints = Integer.compare(points(other), points(participant));
+        if (byPoints != 0) {
+            return byPoints;
+        }
+        int byRounds = Long.compare(table.getRoundsWon(other), table.getRoundsWon(participant));
+        if (byRounds != 0) {
+            return byRounds;
+        }
+        return participants[participant].getName().compareTo(participants[other].getName());
+    }
+
+    private int points(int participant) {
+        return 2 * table.getMatchesWon(participant) + table.getMatchesDrawn(participant);
+    }
+
+    /**
+     * Builder class to create a SwissTournament instance.
+     * The builder ensures that the tournament is valid before it is played. By default, the matches are played on
+     * the common fork-join pool, the tournament seed is chosen randomly and the number of stages is the binary
+     * logarithm of the number of participants rounded up.
+     */
+    public static class Builder extends TournamentBuilder<Builder> {
+
+        private int numberOfStages;
+
+        public Builder numberOfStages(int numberOfStages) {
+            if (numberOfStages <= 0) {
+                throw new IllegalArgumentException("Number of stages must be greater than 0");
+            }
+            this.numberOfStages = numberOfStages;
+            return this;
+        }
+
+        public SwissTournament play() {
+            validate();
+            int stages = numberOfStages > 0 ? numberOfStages
+                    : Integer.SIZE - Integer.numberOfLeadingZeros(participants.size() - 1);
+            return new SwissTournament(participants, numberOfRoundsPerMatch, seed, stages, pool, leaderboard);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.rating.EloLeaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Round-robin tournament in which every participant plays one match against every other participant.
+ * The matches are scheduled as fork-join tasks, so they are played in parallel on all workers of the pool. The match
+ * results are merged into the standings in the order of the pairings, so the standings do not depend on the order in
+ * which the matches finished and are identical to a sequential run. Participants with seeded strategies receive a seed
+ * per match derived from the tournament seed, so their results are reproducible whatever the number of workers.
+ * A rated tournament updates the Elo ratings of an {@link EloLeaderboard} from the workers as the matches finish, so
+ * the ratings depend on the order of the matches while the leaderboard can be read during the tournament. The
+ * tournament can be built using the Builder pattern and is played on creation.
+ */
+public final class Tournament {
+
+    private static final Comparator<Standing> STANDINGS_ORDER = Comparator
+            .comparingInt(Standing::getMatchesWon).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::getMatchesDrawn).reversed())
+            .thenComparing(Comparator.comparingLong(Standing::getRoundsWon).reversed())
+            .thenComparing(Standing::getName);
+
+    private final List<MatchResult> matchResults;
+
+    private final List<Standing> standings;
+
+    private final long seed;
+
+    private Tournament(List<Participant> participants, int numberOfRoundsPerMatch, long seed, ForkJoinPool pool,
+                       EloLeaderboard leaderboard) {
+        this.seed = seed;
+        Participant[] participantArray = participants.toArray(new Participant[0]);
+        int[][] pairings = createPairings(participantArray.length);
+        MatchResult[] results = new MatchResult[pairings.length];
+        pool.invoke(new MatchTask(participantArray, pairings, results, numberOfRoundsPerMatch, seed, leaderboard,
+                                  0, pairings.length));
+        this.matchResults = List.of(results);
+        this.standings = createStandings(participantArray, pairings, results);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the seed the seeds of the matches have been derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the results of all matches in the order of the pairings
+     */
+    public List<MatchResult> getMatchResults() {
+        return matchResults;
+    }
+
+    /**
+     * @return the standings of all participants, best participant first
+     */
+    public List<Standing> getStandings() {
+        return standings;
+    }
+
+    /**
+     * @param numberOfParticipants the number of participants of the tournament
+     * @return the number of matches of a round-robin tournament, which exceeds an int from 65,537 participants
+     */
+    static long numberOfPairings(int numberOfParticipants) {
+        return (long) numberOfParticipants * (numberOfParticipants - 1) / 2;
+    }
+
+    private static int[][] createPairings(int numberOfParticipants) {
+        int[][] pairings = new int[(int) numberOfPairings(numberOfParticipants)][];
+        int index = 0;
+        for (int i = 0; i < numberOfParticipants; i++) {
+            for (int j = i + 1; j < numberOfParticipants; j++) {
+                pairings[index++] = new int[]{i, j};
+            }
+        }
+        return pairings;
+    }
+
+    private static List<Standing> createStandings(Participant[] participants, int[][] pairings,
+                                                  MatchResult[] results) {
+        StandingsTable table = new StandingsTable(participants.length);
+        for (int i = 0; i < pairings.length; i++) {
+            table.record(pairings[i][0], pairings[i][1], results[i]);
+        }
+        List<Standing> standings = new ArrayList<>(participants.length);
+        for (int i = 0; i < participants.length; i++) {
+            standings.add(table.toStanding(i, participants[i].getName()));
+        }
+        standings.sort(STANDINGS_ORDER);
+        return List.copyOf(standings);
+    }
+
+    /**
+     * Builder class to create a Tournament instance.
+     * The builder ensures that the tournament is valid before it is played. By default, the matches are played on
+     * the common fork-join pool and the tournament seed is chosen randomly. The matches of a tournament are kept in
+     * arrays, so a tournament can have at most {@link Integer#MAX_VALUE} matches.
+     */
+    public static class Builder extends TournamentBuilder<Builder> {
+
+        public Tournament play() {
+            validate();
+            long numberOfPairings = numberOfPairings(participants.size());
+            if (numberOfPairings > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("A tournament of " + participants.size() + " participants has "
+                                                           + numberOfPairings + " matches, but at most "
+                                                           + Integer.MAX_VALUE + " matches are supported");
+            }
+            return new Tournament(participants, numberOfRoundsPerMatch, seed, pool, leaderboard);
+        }
+    }
+}
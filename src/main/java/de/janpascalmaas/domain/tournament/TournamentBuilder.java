@@ -0,0 +1,115 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.Participant;
+import de.janpascalmaas.domain.rating.EloLeaderboard;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Participants and settings shared by the builders of all kinds of tournaments.
+ * By default, the matches are played on the common fork-join pool and the tournament seed is chosen randomly.
+ * @param <B> the type of the concrete builder, returned by every setter
+ */
+abstract class TournamentBuilder<B extends TournamentBuilder<B>> {
+
+    final List<Participant> participants = new ArrayList<>();
+
+    private final Set<String> names = new HashSet<>();
+
+    int numberOfRoundsPerMatch;
+
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    long seed = ThreadLocalRandom.current().nextLong();
+
+    EloLeaderboard leaderboard;
+
+    /**
+     * Adds a participant to the tournament.
+     * @param name the unique name of the participant
+     * @param strategyFactory creates the strategy of the participant for every match
+     * @return this builder
+     */
+    public B addParticipant(String name, Supplier<? extends PlayerStrategy> strategyFactory) {
+        if (strategyFactory == null) {
+            throw new IllegalArgumentException("Strategy factory must not be null");
+        }
+        return addSeededParticipant(name, seed -> strategyFactory.get());
+    }
+
+    /**
+     * Adds a participant with a seeded strategy to the tournament.
+     * @param name the unique name of the participant
+     * @param strategyFactory creates the strategy of the participant for every match from the seed of the match
+     * @return this builder
+     */
+    public B addSeededParticipant(String name, LongFunction<? extends PlayerStrategy> strategyFactory) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Participant name must not be null or blank");
+        }
+        if (strategyFactory == null) {
+            throw new IllegalArgumentException("Strategy factory must not be null");
+        }
+        if (!names.add(name)) {
+            throw new IllegalStateException("Participant " + name + " is already added");
+        }
+        participants.add(new Participant(name, strategyFactory));
+        return self();
+    }
+
+    public B numberOfRoundsPerMatch(int numberOfRoundsPerMatch) {
+        this.numberOfRoundsPerMatch = numberOfRoundsPerMatch;
+        return self();
+    }
+
+    public B seed(long seed) {
+        this.seed = seed;
+        return self();
+    }
+
+    public B pool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        this.pool = pool;
+        return self();
+    }
+
+    /**
+     * Rates the participants by the results of their matches. The leaderboard can be shared by many tournaments.
+     * @param leaderboard the leaderboard to publish the match results to
+     * @return this builder
+     */
+    public B leaderboard(EloLeaderboard leaderboard) {
+        if (leaderboard == null) {
+            throw new IllegalArgumentException("Leaderboard must not be null");
+        }
+        this.leaderboard = leaderboard;
+        return self();
+    }
+
+    /**
+     * Ensures that the tournament is valid before it is played.
+     */
+    void validate() {
+        if (numberOfRoundsPerMatch <= 0) {
+            throw new IllegalArgumentException("Number of rounds per match must be greater than 0");
+        }
+        if (participants.size() < 2) {
+            throw new IllegalStateException("At least two participants must be added to the tournament");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private B self() {
+        return (B) this;
+    }
+}
@@ -0,0 +1,27 @@
+package de.janpascalmaas.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter of a {@link MetricsRegistry}. The counter is lock-free; concurrent updates go to separate cells
+ * that are summed on read.
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
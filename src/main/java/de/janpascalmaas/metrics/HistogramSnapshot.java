@@ -0,0 +1,95 @@
+package de.janpascalmaas.metrics;
+
+/**
+ * Merged state of a {@link LatencyHistogram} at the time the snapshot was taken. The snapshot is immutable.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] buckets;
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    private final int subBucketBits;
+
+    HistogramSnapshot(long[] buckets, long sum, long max, int subBucketBits) {
+        this.buckets = buckets;
+        this.sum = sum;
+        this.max = max;
+        this.subBucketBits = subBucketBits;
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        this.count = total;
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of all recorded latencies in nanoseconds
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the highest recorded latency in nanoseconds, 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean latency in nanoseconds, 0 if nothing has been recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @param index the index of the bucket
+     * @return the number of latencies in the bucket
+     */
+    public long getBucketCount(int index) {
+        return buckets[index];
+    }
+
+    /**
+     * @param index the index of the bucket
+     * @return the highest latency in nanoseconds counted by the bucket
+     */
+    public long getBucketUpperBound(int index) {
+        return LatencyHistogram.upperBound(index, subBucketBits);
+    }
+
+    /**
+     * @param percentile the percentile between 0 and 100
+     * @return the upper bound of the bucket containing the percentile in nanoseconds, 0 if nothing has been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= rank) {
+                return getBucketUpperBound(i);
+            }
+        }
+        return getBucketUpperBound(buckets.length - 1);
+    }
+}
@@ -0,0 +1,150 @@
+package de.janpascalmaas.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds with logarithmic buckets: bucket {@code i} counts the latencies greater than
+ * {@code 2^(i-1)} and at most {@code 2^i} nanoseconds, so the relative error of a percentile is at most a factor of two
+ * over the whole range of a long. A histogram created {@link #withSubBuckets(int) with sub-buckets} splits every power
+ * of two into {@code 2^subBucketBits} buckets of equal width instead, which bounds the relative error by
+ * {@code 2^-subBucketBits} at the cost of as many times more buckets. The maximum latency is kept exactly.
+ * Recording is lock-free: every thread records into one of several stripes chosen by its thread id, so concurrent
+ * threads rarely touch the same memory. The stripes are merged when a snapshot is taken.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets of a histogram without sub-buckets.
+     */
+    static final int NUMBER_OF_BUCKETS = 64;
+
+    /**
+     * The maximum number of sub-bucket bits, which already makes every stripe take 25 MB.
+     */
+    static final int MAX_SUB_BUCKET_BITS = 16;
+
+    /**
+     * Position of the sum of all latencies in a stripe.
+     */
+    private static final int SUM = 0;
+
+    /**
+     * Position of the maximum latency in a stripe.
+     */
+    private static final int MAX = 1;
+
+    /**
+     * Position of the first bucket in a stripe.
+     */
+    private static final int FIRST_BUCKET = 2;
+
+    private final int subBucketBits;
+
+    private final int numberOfBuckets;
+
+    private final AtomicLongArray[] stripes;
+
+    private final int stripeMask;
+
+    LatencyHistogram() {
+        this(0);
+    }
+
+    private LatencyHistogram(int subBucketBits) {
+        this.subBucketBits = subBucketBits;
+        this.numberOfBuckets = (Long.SIZE - subBucketBits) << subBucketBits;
+        // the next power of two of twice the number of processors
+        int numberOfStripes = Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+        this.stripes = new AtomicLongArray[numberOfStripes];
+        for (int i = 0; i < numberOfStripes; i++) {
+            stripes[i] = new AtomicLongArray(FIRST_BUCKET + numberOfBuckets);
+        }
+        this.stripeMask = numberOfStripes - 1;
+    }
+
+    /**
+     * Creates a histogram that splits every power of two into sub-buckets, e.g. with 6 bits into 64 sub-buckets, which
+     * counts latencies of up to 64 nanoseconds exactly and reports higher percentiles with a relative error of less
+     * than 2%.
+     * @param subBucketBits the number of bits of the sub-bucket index, between 0 and {@link #MAX_SUB_BUCKET_BITS}
+     * @return the new histogram
+     */
+    public static LatencyHistogram withSubBuckets(int subBucketBits) {
+        if (subBucketBits < 0 || subBucketBits > MAX_SUB_BUCKET_BITS) {
+            throw new IllegalArgumentException("Sub-bucket bits must be between 0 and " + MAX_SUB_BUCKET_BITS);
+        }
+        return new LatencyHistogram(subBucketBits);
+    }
+
+    /**
+     * @param nanos the latency to record, negative latencies are recorded as 0
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        AtomicLongArray stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        stripe.getAndIncrement(FIRST_BUCKET + bucket(latency, subBucketBits));
+        stripe.getAndAdd(SUM, latency);
+        // the maximum rarely changes, so it is only written if the latency exceeds it
+        if (latency > stripe.get(MAX)) {
+            stripe.accumulateAndGet(MAX, latency, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since the start.
+     * @param startNanos the start as returned by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return the merged counts of all stripes
+     */
+    public HistogramSnapshot snapshot() {
+        long[] buckets = new long[numberOfBuckets];
+        long sum = 0;
+        long max = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < numberOfBuckets; i++) {
+                buckets[i] += stripe.get(FIRST_BUCKET + i);
+            }
+            sum += stripe.get(SUM);
+            max = Math.max(max, stripe.get(MAX));
+        }
+        return new HistogramSnapshot(buckets, sum, max, subBucketBits);
+    }
+
+    static int bucket(long nanos) {
+        return bucket(nanos, 0);
+    }
+
+    /**
+     * The buckets include their upper bound, so the bucket is determined by the latency minus one: below the number of
+     * sub-buckets it is the bucket itself, above it the power of two selects the group of sub-buckets and the bits
+     * following the highest one bit select the sub-bucket within the group.
+     */
+    static int bucket(long nanos, int subBucketBits) {
+        long exclusive = nanos - 1;
+        int subBuckets = 1 << subBucketBits;
+        if (exclusive < subBuckets) {
+            return (int) Math.max(0, exclusive);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(exclusive);
+        int subBucket = (int) (exclusive >>> (exponent - subBucketBits)) - subBuckets;
+        return (exponent - subBucketBits + 1) * subBuckets + subBucket;
+    }
+
+    /**
+     * @return the highest latency counted by the bucket
+     */
+    static long upperBound(int bucket, int subBucketBits) {
+        int subBuckets = 1 << subBucketBits;
+        if (bucket < subBuckets) {
+            return bucket + 1;
+        }
+        int shift = bucket / subBuckets - 1;
+        long highestExclusive = ((long) (subBuckets + bucket % subBuckets) << shift) + (1L << shift) - 1;
+        return highestExclusive == Long.MAX_VALUE ? Long.MAX_VALUE : highestExclusive + 1;
+    }
+}
@@ -0,0 +1,66 @@
+package de.janpascalmaas.metrics;
+
+import java.util.Objects;
+
+/**
+ * Identifies a metric of a {@link MetricsRegistry} by its name and labels. The labels are kept in the Prometheus text
+ * format, e.g. {@code strategy="RandomStrategy"}.
+ */
+final class MetricId {
+
+    private final String name;
+
+    private final String labels;
+
+    MetricId(String name, String... labels) {
+        if (name == null || !name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name " + name);
+        }
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as pairs of name and value");
+        }
+        StringBuilder rendered = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                rendered.append(',');
+            }
+            rendered.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        this.name = name;
+        this.labels = rendered.toString();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the labels in the Prometheus text format without braces, empty if the metric has no labels
+     */
+    String getLabels() {
+        return labels;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MetricId other)) {
+            return false;
+        }
+        return name.equals(other.name) && labels.equals(other.labels);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, labels);
+    }
+
+    @Override
+    public String toString() {
+        return labels.isEmpty() ? name : name + "{" + labels + "}";
+    }
+}
@@ -0,0 +1,33 @@
+package de.janpascalmaas.metrics;
+
+/**
+ * Access to the metrics the engine records about itself. Metrics are disabled by default and enabled by starting the
+ * JVM with {@code -Dde.janpascalmaas.metrics=true}. As the flag is a constant, the JIT compiler removes the
+ * instrumentation completely when metrics are disabled, so it costs nothing. Instrumented code follows the pattern
+ * <pre>
+ * long start = Metrics.ENABLED ? System.nanoTime() : 0;
+ * ...
+ * if (Metrics.ENABLED) {
+ *     HISTOGRAM.recordSince(start);
+ * }
+ * </pre>
+ */
+public final class Metrics {
+
+    /**
+     * True if the engine records metrics.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("de.janpascalmaas.metrics");
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    private Metrics() {
+    }
+
+    /**
+     * @return the registry of the metrics recorded by the engine
+     */
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+}
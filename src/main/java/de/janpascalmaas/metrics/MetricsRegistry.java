@@ -0,0 +1,106 @@
+package de.janpascalmaas.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of counters and latency histograms. Metrics are created on first use and identified by their name and
+ * labels, so the same metric is returned for the same name and labels. The registry can be read at any time with
+ * {@link #snapshot()} or in the Prometheus text format with {@link #writePrometheus(StringBuilder)}.
+ * The registry is thread safe.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * Every second bucket of the histograms is exposed to Prometheus, from 1 nanosecond to about 18 minutes.
+     */
+    private static final int EXPOSED_BUCKET_STEP = 2;
+
+    private static final int EXPOSED_BUCKETS = 40;
+
+    private final Map<MetricId, Counter> counters = new ConcurrentHashMap<>();
+
+    private final Map<MetricId, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * @param name the name of the counter, by convention ending with {@code _total}
+     * @param labels pairs of label names and values
+     * @return the counter
+     */
+    public Counter counter(String name, String... labels) {
+        return counters.computeIfAbsent(new MetricId(name, labels), id -> new Counter());
+    }
+
+    /**
+     * @param name the name of the histogram, by convention ending with {@code _seconds}; latencies are recorded in
+     *             nanoseconds and exposed to Prometheus in seconds
+     * @param labels pairs of label names and values
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(String name, String... labels) {
+        return histograms.computeIfAbsent(new MetricId(name, labels), id -> new LatencyHistogram());
+    }
+
+    /**
+     * @return the current values of all metrics
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((id, counter) -> counterValues.put(id.toString(), counter.get()));
+        Map<String, HistogramSnapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((id, histogram) -> histogramValues.put(id.toString(), histogram.snapshot()));
+        return new MetricsSnapshot(counterValues, histogramValues);
+    }
+
+    /**
+     * Writes the current values of all metrics in the Prometheus text exposition format.
+     * @param out the builder to write to
+     */
+    public void writePrometheus(StringBuilder out) {
+        String lastName = null;
+        for (Map.Entry<MetricId, Counter> entry : sorted(counters).entrySet()) {
+            MetricId id = entry.getKey();
+            if (!id.getName().equals(lastName)) {
+                out.append("# TYPE ").append(id.getName()).append(" counter\n");
+                lastName = id.getName();
+            }
+            out.append(id).append(' ').append(entry.getValue().get()).append('\n');
+        }
+        for (Map.Entry<MetricId, LatencyHistogram> entry : sorted(histograms).entrySet()) {
+            MetricId id = entry.getKey();
+            if (!id.getName().equals(lastName)) {
+                out.append("# TYPE ").append(id.getName()).append(" histogram\n");
+                lastName = id.getName();
+            }
+            writeHistogram(out, id, entry.getValue().snapshot());
+        }
+    }
+
+    private static void writeHistogram(StringBuilder out, MetricId id, HistogramSnapshot snapshot) {
+        String labelPrefix = id.getLabels().isEmpty() ? "" : id.getLabels() + ",";
+        long cumulative = 0;
+        int bucket = 0;
+        for (int exposed = 0; exposed <= EXPOSED_BUCKETS; exposed += EXPOSED_BUCKET_STEP) {
+            for (; bucket <= exposed; bucket++) {
+                cumulative += snapshot.getBucketCount(bucket);
+            }
+            out.append(id.getName()).append("_bucket{").append(labelPrefix).append("le=\"")
+                    .append(snapshot.getBucketUpperBound(exposed) / 1e9).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        out.append(id.getName()).append("_bucket{").append(labelPrefix).append("le=\"+Inf\"} ")
+                .append(snapshot.getCount()).append('\n');
+        String labels = id.getLabels().isEmpty() ? "" : "{" + id.getLabels() + "}";
+        out.append(id.getName()).append("_sum").append(labels).append(' ').append(snapshot.getSum() / 1e9)
+                .append('\n');
+        out.append(id.getName()).append("_count").append(labels).append(' ').append(snapshot.getCount())
+                .append('\n');
+    }
+
+    private static <T> Map<MetricId, T> sorted(Map<MetricId, T> metrics) {
+        Map<MetricId, T> sorted = new TreeMap<>((id1, id2) -> id1.toString().compareTo(id2.toString()));
+        sorted.putAll(metrics);
+        return sorted;
+    }
+}
@@ -0,0 +1,123 @@
+package de.janpascalmaas.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP endpoint exposing a {@link MetricsRegistry} in the Prometheus text format under {@code /metrics}, built on the
+ * HTTP server of the JDK. Every request is handled on its own virtual thread. By default, the endpoint listens on the
+ * loopback address only. The server can be built using the Builder pattern and is started on creation.
+ */
+public final class MetricsServer implements Closeable {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executor;
+
+    private MetricsServer(HttpServer httpServer, MetricsRegistry registry) {
+        this.httpServer = httpServer;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer.createContext("/metrics", exchange -> handle(exchange, registry));
+        httpServer.setExecutor(executor);
+        httpServer.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static void handle(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder();
+            registry.writePrometheus(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * @return the address the endpoint is listening on
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Stops the endpoint immediately.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Builder class to create a MetricsServer instance.
+     * By default, the endpoint exposes the metrics of the engine, see {@link Metrics#registry()}, on an ephemeral
+     * port of the loopback address.
+     */
+    public static class Builder {
+
+        private MetricsRegistry registry = Metrics.registry();
+
+        private InetAddress bindAddress = InetAddress.getLoopbackAddress();
+
+        private int port;
+
+        public Builder registry(MetricsRegistry registry) {
+            if (registry == null) {
+                throw new IllegalArgumentException("Registry must not be null");
+            }
+            this.registry = registry;
+            return this;
+        }
+
+        public Builder bindAddress(InetAddress bindAddress) {
+            if (bindAddress == null) {
+                throw new IllegalArgumentException("Bind address must not be null");
+            }
+            this.bindAddress = bindAddress;
+            return this;
+        }
+
+        /**
+         * @param port the port to listen on, or 0 for an ephemeral port
+         * @return this builder
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port must be between 0 and 65535");
+            }
+            this.port = port;
+            return this;
+        }
+
+        public MetricsServer start() {
+            try {
+                return new MetricsServer(HttpServer.create(new InetSocketAddress(bindAddress, port), 0), registry);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Metrics endpoint could not listen on " + bindAddress + ":" + port, e);
+            }
+        }
+    }
+}
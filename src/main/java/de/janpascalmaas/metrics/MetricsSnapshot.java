@@ -0,0 +1,51 @@
+package de.janpascalmaas.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values of all metrics of a {@link MetricsRegistry} at the time the snapshot was taken. Metrics are looked up by
+ * their name followed by their labels in the Prometheus text format, e.g.
+ * {@code rps_strategy_fill_seconds{strategy="RandomStrategy"}}. The snapshot is immutable.
+ */
+public final class MetricsSnapshot {
+
+    private final Map<String, Long> counters;
+
+    private final Map<String, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(Map<String, Long> counters, Map<String, HistogramSnapshot> histograms) {
+        this.counters = Collections.unmodifiableMap(counters);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @return the values of all counters, sorted by name and labels
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @return the snapshots of all histograms, sorted by name and labels
+     */
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * @param name the name and labels of the counter
+     * @return the value of the counter, 0 if it does not exist
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    /**
+     * @param name the name and labels of the histogram
+     * @return the snapshot of the histogram, or null if it does not exist
+     */
+    public HistogramSnapshot getHistogram(String name) {
+        return histograms.get(name);
+    }
+}
@@ -0,0 +1,38 @@
+package de.janpascalmaas.replay;
+
+/**
+ * Layout of a binary replay log.
+ * The log starts with a header of fixed fields followed by the names of the players and their strategies, each as an
+ * unsigned short length and the UTF-8 bytes. The rounds follow the header as 4 bit records, two rounds per byte with
+ * the earlier round in the low nibble. A record holds the shape ordinal of the first player in its high two bits and
+ * the one of the second player in its low two bits; the outcome is derived from the shapes.
+ */
+final class ReplayLogFormat {
+
+    static final int MAGIC = 0x52505352; // "RPSR"
+
+    static final short VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+
+    static final int VERSION_OFFSET = 4;
+
+    static final int CAPACITY_OFFSET = 6;
+
+    static final int ROUND_COUNT_OFFSET = 10;
+
+    static final int SEED_OFFSET = 14;
+
+    static final int NAMES_OFFSET = 22;
+
+    static final int BITS_PER_SHAPE = 2;
+
+    static final int SHAPE_MASK = (1 << BITS_PER_SHAPE) - 1;
+
+    private ReplayLogFormat() {
+    }
+
+    static long dataSize(long numberOfRounds) {
+        return (numberOfRounds + 1) / 2;
+    }
+}
@@ -0,0 +1,188 @@
+package de.janpascalmaas.replay;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.service.ConsoleOutputService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a binary replay log written by the {@link ReplayLogWriter}.
+ * The file is memory-mapped, so any round can be read in constant time without decoding the rounds before it. A log
+ * can also be replayed as a new {@link Game} whose players repeat the recorded shapes, which reproduces the scores and
+ * the winner of the recorded game.
+ */
+public final class ReplayLogReader implements Closeable {
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int roundCount;
+
+    private final long seed;
+
+    private final String player1Name;
+
+    private final String player1StrategyName;
+
+    private final String player2Name;
+
+    private final String player2StrategyName;
+
+    private final int dataOffset;
+
+    public ReplayLogReader(Path path) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Replay log " + path + " could not be opened", e);
+        }
+        if (buffer.capacity() < ReplayLogFormat.NAMES_OFFSET
+                || buffer.getInt(ReplayLogFormat.MAGIC_OFFSET) != ReplayLogFormat.MAGIC) {
+            close();
+            throw new IllegalArgumentException(path + " is not a replay log");
+        }
+        if (buffer.getShort(ReplayLogFormat.VERSION_OFFSET) != ReplayLogFormat.VERSION) {
+            close();
+            throw new IllegalArgumentException("Unsupported replay log version "
+                                                       + buffer.getShort(ReplayLogFormat.VERSION_OFFSET));
+        }
+        this.roundCount = buffer.getInt(ReplayLogFormat.ROUND_COUNT_OFFSET);
+        this.seed = buffer.getLong(ReplayLogFormat.SEED_OFFSET);
+        buffer.position(ReplayLogFormat.NAMES_OFFSET);
+        this.player1Name = readName();
+        this.player1StrategyName = readName();
+        this.player2Name = readName();
+        this.player2StrategyName = readName();
+        this.dataOffset = buffer.position();
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public String getPlayer1StrategyName() {
+        return player1StrategyName;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public String getPlayer2StrategyName() {
+        return player2StrategyName;
+    }
+
+    /**
+     * @param roundNumber the number of the round, starting at 1
+     * @return the shape played by the first player in the round
+     */
+    public ShapeType getPlayer1Shape(int roundNumber) {
+        return ShapeType.values()[getPlayer1ShapeOrdinal(roundNumber)];
+    }
+
+    /**
+     * @param roundNumber the number of the round, starting at 1
+     * @return the shape played by the second player in the round
+     */
+    public ShapeType getPlayer2Shape(int roundNumber) {
+        return ShapeType.values()[getPlayer2ShapeOrdinal(roundNumber)];
+    }
+
+    /**
+     * @param roundNumber the number of the round, starting at 1
+     * @return the name of the player who won the round, or null if the round ended in a draw
+     */
+    public String getWinnerName(int roundNumber) {
+        Shape shape1 = Shape.of(getPlayer1ShapeOrdinal(roundNumber));
+        Shape shape2 = Shape.of(getPlayer2ShapeOrdinal(roundNumber));
+        if (shape1.beats(shape2)) {
+            return player1Name;
+        }
+        if (shape2.beats(shape1)) {
+            return player2Name;
+        }
+        return null;
+    }
+
+    /**
+     * Replays the recorded game with players repeating the recorded shapes.
+     * @param roundHistoryMode defines how the replayed game keeps its rounds
+     * @return the replayed game
+     */
+    public Game replay(RoundHistoryMode roundHistoryMode) {
+        return Game.builder()
+                .addPlayer1(Player.builder()
+                                    .withName(player1Name)
+                                    .withStrategy(new ReplayStrategy(this, true, player1StrategyName))
+                                    .build())
+                .addPlayer2(Player.builder()
+                                    .withName(player2Name)
+                                    .withStrategy(new ReplayStrategy(this, false, player2StrategyName))
+                                    .build())
+                .numberOfRounds(roundCount)
+                .roundHistory(roundHistoryMode)
+                .play();
+    }
+
+    /**
+     * Replays the recorded game and prints it. The replayed rounds are kept in the compact history, so only the round
+     * being printed exists as an object.
+     * @param outputService the service to print the game with
+     */
+    public void replayInto(ConsoleOutputService outputService) {
+        outputService.printGame(replay(RoundHistoryMode.COMPACT));
+    }
+
+    int getPlayer1ShapeOrdinal(int roundNumber) {
+        return record(roundNumber) >>> ReplayLogFormat.BITS_PER_SHAPE & ReplayLogFormat.SHAPE_MASK;
+    }
+
+    int getPlayer2ShapeOrdinal(int roundNumber) {
+        return record(roundNumber) & ReplayLogFormat.SHAPE_MASK;
+    }
+
+    private int record(int roundNumber) {
+        if (roundNumber < 1 || roundNumber > roundCount) {
+            throw new IndexOutOfBoundsException("Round " + roundNumber + " is not part of the replay log");
+        }
+        int index = roundNumber - 1;
+        int bits = buffer.get(dataOffset + index / 2);
+        return index % 2 == 0 ? bits & 0xF : bits >>> 4 & 0xF;
+    }
+
+    private String readName() {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Replay log could not be closed", e);
+        }
+    }
+}
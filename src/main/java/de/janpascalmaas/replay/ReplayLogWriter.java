@@ -0,0 +1,125 @@
+package de.janpascalmaas.replay;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundBlock;
+import de.janpascalmaas.domain.round.RoundBlockListener;
+import de.janpascalmaas.domain.shape.RuleSet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the rounds of a game into a binary replay log while the game is played.
+ * The writer is registered as a {@link RoundBlockListener} of the game and packs the shapes of every round into 4 bits
+ * of a memory-mapped file, so writing the log needs neither round objects nor write calls per round. The number of
+ * rounds in the header is updated after every block, so the log of an interrupted game can still be read up to the
+ * last complete block. See {@link ReplayLogFormat} for the layout of the file. Only games of the classic
+ * {@link RuleSet} can be logged.
+ */
+public final class ReplayLogWriter implements RoundBlockListener, Closeable {
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int dataOffset;
+
+    private final int capacity;
+
+    private int roundCount;
+
+    /**
+     * Creates the replay log file, replacing an existing file.
+     * @param path the path of the replay log
+     * @param player1 the first player of the game
+     * @param player2 the second player of the game
+     * @param numberOfRounds the number of rounds of the game
+     * @param seed the seed the strategies of the game were created with, for reference only
+     */
+    public ReplayLogWriter(Path path, Player player1, Player player2, int numberOfRounds, long seed) {
+        if (numberOfRounds <= 0) {
+            throw new IllegalArgumentException("Number of rounds must be greater than 0");
+        }
+        byte[][] names = {
+                encode(player1.getName()),
+                encode(player1.getStrategy().getStrategyName()),
+                encode(player2.getName()),
+                encode(player2.getStrategy().getStrategyName())
+        };
+        int headerSize = ReplayLogFormat.NAMES_OFFSET;
+        for (byte[] name : names) {
+            headerSize += Short.BYTES + name.length;
+        }
+        this.dataOffset = headerSize;
+        this.capacity = numberOfRounds;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                            StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                      headerSize + ReplayLogFormat.dataSize(numberOfRounds));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Replay log " + path + " could not be created", e);
+        }
+        buffer.putInt(ReplayLogFormat.MAGIC_OFFSET, ReplayLogFormat.MAGIC);
+        buffer.putShort(ReplayLogFormat.VERSION_OFFSET, ReplayLogFormat.VERSION);
+        buffer.putInt(ReplayLogFormat.CAPACITY_OFFSET, numberOfRounds);
+        buffer.putInt(ReplayLogFormat.ROUND_COUNT_OFFSET, 0);
+        buffer.putLong(ReplayLogFormat.SEED_OFFSET, seed);
+        buffer.position(ReplayLogFormat.NAMES_OFFSET);
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+    }
+
+    @Override
+    public void onRoundBlock(RoundBlock block) {
+        if (block.getRuleSet() != RuleSet.CLASSIC) {
+            throw new IllegalStateException("Replay logs only support the classic rule set");
+        }
+        if (roundCount + block.size() > capacity) {
+            throw new IllegalStateException("Replay log is full");
+        }
+        for (int i = 0; i < block.size(); i++) {
+            int record = block.getPlayer1Shape(i) << ReplayLogFormat.BITS_PER_SHAPE | block.getPlayer2Shape(i);
+            int index = dataOffset + roundCount / 2;
+            if (roundCount % 2 == 0) {
+                buffer.put(index, (byte) record);
+            } else {
+                buffer.put(index, (byte) (buffer.get(index) | record << 4));
+            }
+            roundCount++;
+        }
+        buffer.putInt(ReplayLogFormat.ROUND_COUNT_OFFSET, roundCount);
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Forces the log to the storage device and closes the file.
+     */
+    @Override
+    public void close() {
+        try (channel) {
+            buffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Replay log could not be closed", e);
+        }
+    }
+
+    private static byte[] encode(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Name is too long for the replay log: " + name);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,46 @@
+package de.janpascalmaas.replay;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+
+/**
+ * Strategy replaying the shapes of one player from a replay log, in the order they have been recorded.
+ */
+final class ReplayStrategy implements PlayerStrategy {
+
+    private final ReplayLogReader reader;
+
+    private final boolean player1;
+
+    private final String strategyName;
+
+    private int nextRound = 1;
+
+    ReplayStrategy(ReplayLogReader reader, boolean player1, String strategyName) {
+        this.reader = reader;
+        this.player1 = player1;
+        this.strategyName = strategyName;
+    }
+
+    @Override
+    public Shape getNextShape() {
+        return Shape.of(nextOrdinal());
+    }
+
+    @Override
+    public void fillNextShapes(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = (byte) nextOrdinal();
+        }
+    }
+
+    private int nextOrdinal() {
+        int roundNumber = nextRound++;
+        return player1 ? reader.getPlayer1ShapeOrdinal(roundNumber) : reader.getPlayer2ShapeOrdinal(roundNumber);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return strategyName;
+    }
+}
@@ -0,0 +1,47 @@
+package de.janpascalmaas.server;
+
+/**
+ * Line based text protocol spoken between the {@link GameServer} and the bots. Every message is one line of US-ASCII
+ * text; the words of a message are separated by a single space. A session consists of any number of games:
+ * <pre>
+ * bot:    PLAY &lt;name&gt; &lt;rounds&gt;
+ * server: READY &lt;name of the server player&gt;
+ * bot:    MOVE &lt;ROCK|PAPER|SCISSORS&gt;                       (once per round)
+ * server: ROUND &lt;round number&gt; &lt;server shape&gt; &lt;WIN|LOSS|DRAW&gt;
+ * server: OVER &lt;rounds won by the bot&gt; &lt;rounds won by the server&gt; &lt;draws&gt;
+ * bot:    QUIT                                               (or another PLAY)
+ * </pre>
+ * The result of a round is given from the point of view of the bot. A message that violates the protocol, including a
+ * line longer than {@link #MAX_LINE_LENGTH} characters, is answered with {@code ERROR <reason>} and the connection is
+ * closed.
+ */
+final class GameProtocol {
+
+    /**
+     * The maximum number of characters of a line sent by a bot, not counting the line terminator.
+     */
+    static final int MAX_LINE_LENGTH = 256;
+
+    static final String PLAY = "PLAY";
+
+    static final String READY = "READY";
+
+    static final String MOVE = "MOVE";
+
+    static final String ROUND = "ROUND";
+
+    static final String OVER = "OVER";
+
+    static final String QUIT = "QUIT";
+
+    static final String ERROR = "ERROR";
+
+    static final String WIN = "WIN";
+
+    static final String LOSS = "LOSS";
+
+    static final String DRAW = "DRAW";
+
+    private GameProtocol() {
+    }
+}
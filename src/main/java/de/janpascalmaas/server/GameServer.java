@@ -0,0 +1,284 @@
+package de.janpascalmaas.server;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.metrics.Metrics;
+import de.janpascalmaas.metrics.MetricsServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * TCP server that lets bots play games against a strategy of this engine, speaking the {@link GameProtocol}.
+ * Every connection is handled by a {@link GameSession} on its own virtual thread, so tens of thousands of concurrent
+ * sessions only need as many carrier threads as there are processors. The number of carrier threads can be bounded
+ * further with the system property {@code jdk.virtualThreadScheduler.parallelism}. By default, the server listens on
+ * the loopback address only. The server can be built using the Builder pattern and is started on creation.
+ */
+public final class GameServer implements Closeable {
+
+    private static final System.Logger LOGGER = System.getLogger(GameServer.class.getName());
+
+    private static final long MIN_ACCEPT_BACKOFF_MILLIS = 10;
+
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1_000;
+
+    private final ServerSocket serverSocket;
+
+    private final String playerName;
+
+    private final Supplier<? extends PlayerStrategy> strategyFactory;
+
+    private final int maxRoundsPerGame;
+
+    private final ExecutorService sessionExecutor;
+
+    private final Thread acceptThread;
+
+    private final Set<GameSession> sessions = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder movesPlayed = new LongAdder();
+
+    private final LongAdder gamesPlayed = new LongAdder();
+
+    private GameServer(ServerSocket serverSocket, String playerName, Supplier<? extends PlayerStrategy> strategyFactory,
+                       int maxRoundsPerGame) {
+        this.serverSocket = serverSocket;
+        this.playerName = playerName;
+        this.strategyFactory = strategyFactory;
+        this.maxRoundsPerGame = maxRoundsPerGame;
+        this.sessionExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-session-", 0)
+                                                                          .factory());
+        this.acceptThread = Thread.ofVirtual().name("game-server-accept").start(this::acceptConnections);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts a server on the loopback address and runs it until the process is terminated. If metrics are enabled, they
+     * are exposed on port 9464 of the loopback address.
+     * @param args the port to listen on, 7878 if omitted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        GameServer server = builder()
+                .port(args.length > 0 ? Integer.parseInt(args[0]) : 7878)
+                .start();
+        System.out.println("Game server listening on " + server.getAddress());
+        if (Metrics.ENABLED) {
+            MetricsServer metricsServer = MetricsServer.builder().port(9464).start();
+            System.out.println("Metrics available at http://" + metricsServer.getAddress().getHostString() + ":"
+                                       + metricsServer.getAddress().getPort() + "/metrics");
+        }
+        server.acceptThread.join();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed. If accepting fails, e.g. because the process has run out
+     * of file descriptors, the failure is logged and the next attempt is delayed, doubling the delay up to
+     * {@link #MAX_ACCEPT_BACKOFF_MILLIS} while the failures last, so a lasting failure does not make the thread spin.
+     */
+    private void acceptConnections() {
+        long backoffMillis = 0;
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                GameSession session = new GameSession(socket, this);
+                sessions.add(session);
+                sessionExecutor.execute(session);
+                backoffMillis = 0;
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                backoffMillis = Math.min(Math.max(2 * backoffMillis, MIN_ACCEPT_BACKOFF_MILLIS),
+                                         MAX_ACCEPT_BACKOFF_MILLIS);
+                LOGGER.log(System.Logger.Level.WARNING, "Accepting a connection failed, retrying in "
+                        + backoffMillis + " ms", e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the address the server is listening on
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    public int getMaxRoundsPerGame() {
+        return maxRoundsPerGame;
+    }
+
+    /**
+     * @return the number of bots currently connected
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * @return the number of rounds played in all sessions
+     */
+    public long getMovesPlayed() {
+        return movesPlayed.sum();
+    }
+
+    /**
+     * @return the number of games played to the end in all sessions
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed.sum();
+    }
+
+    Player newPlayer() {
+        return Player.builder()
+                .withName(playerName)
+                .withStrategy(strategyFactory.get())
+                .build();
+    }
+
+    void movePlayed() {
+        movesPlayed.increment();
+    }
+
+    void gamePlayed() {
+        gamesPlayed.increment();
+    }
+
+    void sessionClosed(GameSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * Stops accepting connections, closes the connections of all sessions and waits for the sessions to end. A
+     * connection that can not be closed is logged, so the remaining connections are still closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        try {
+            acceptThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (GameSession session : sessions) {
+            try {
+                session.close();
+            } catch (UncheckedIOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Connection of a session could not be closed", e);
+            }
+        }
+        sessionExecutor.close();
+    }
+
+    /**
+     * Builder class to create a GameServer instance.
+     * By default, the server listens on an ephemeral port of the loopback address and plays a random strategy
+     * named "Server".
+     */
+    public static class Builder {
+
+        private InetAddress bindAddress = InetAddress.getLoopbackAddress();
+
+        private int port;
+
+        private int backlog = 4096;
+
+        private String playerName = "Server";
+
+        private Supplier<? extends PlayerStrategy> strategyFactory = () -> new RandomStrategy(
+                Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS));
+
+        private int maxRoundsPerGame = 1_000_000;
+
+        public Builder bindAddress(InetAddress bindAddress) {
+            if (bindAddress == null) {
+                throw new IllegalArgumentException("Bind address must not be null");
+            }
+            this.bindAddress = bindAddress;
+            return this;
+        }
+
+        /**
+         * @param port the port to listen on, or 0 for an ephemeral port
+         * @return this builder
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port must be between 0 and 65535");
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param backlog the maximum number of connections waiting to be accepted
+         * @return this builder
+         */
+        public Builder backlog(int backlog) {
+            if (backlog <= 0) {
+                throw new IllegalArgumentException("Backlog must be greater than 0");
+            }
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Sets the player the bots play against.
+         * @param name the name of the player
+         * @param strategyFactory creates the strategy of the player for every game
+         * @return this builder
+         */
+        public Builder player(String name, Supplier<? extends PlayerStrategy> strategyFactory) {
+            if (name == null || name.isBlank() || name.contains(" ")) {
+                throw new IllegalArgumentException("Player name must not be null, blank or contain spaces");
+            }
+            if (strategyFactory == null) {
+                throw new IllegalArgumentException("Strategy factory must not be null");
+            }
+            this.playerName = name;
+            this.strategyFactory = strategyFactory;
+            return this;
+        }
+
+        public Builder maxRoundsPerGame(int maxRoundsPerGame) {
+            if (maxRoundsPerGame <= 0) {
+                throw new IllegalArgumentException("Maximum number of rounds per game must be greater than 0");
+            }
+            this.maxRoundsPerGame = maxRoundsPerGame;
+            return this;
+        }
+
+        public GameServer start() {
+            try {
+                ServerSocket serverSocket = new ServerSocket();
+                serverSocket.bind(new InetSocketAddress(bindAddress, port), backlog);
+                return new GameServer(serverSocket, playerName, strategyFactory, maxRoundsPerGame);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Server could not listen on " + bindAddress + ":" + port, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package de.janpascalmaas.server;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Session of a bot connected to the {@link GameServer}. The session runs on its own virtual thread and uses blocking
+ * socket I/O, which unmounts the virtual thread from its carrier thread while waiting for the next move of the bot.
+ * As the bot sends its moves one at a time, the session plays every round on its own instead of letting a
+ * {@link de.janpascalmaas.domain.Game} request its moves block by block.
+ */
+final class GameSession implements Runnable {
+
+    private final Socket socket;
+
+    private final GameServer server;
+
+    private final StringBuilder lineBuffer = new StringBuilder();
+
+    private BufferedReader in;
+
+    private BufferedWriter out;
+
+    GameSession(Socket socket, GameServer server) {
+        this.socket = socket;
+        this.server = server;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+            String line;
+            while ((line = readLine()) != null && !line.equals(GameProtocol.QUIT)) {
+                String[] words = line.split(" ");
+                if (words.length != 3 || !words[0].equals(GameProtocol.PLAY)) {
+                    sendError("Expected " + GameProtocol.PLAY + " <name> <rounds>");
+                    return;
+                }
+                if (!playGame(words[1], words[2])) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // the bot has closed the connection, has sent a line that is too long or the server is shutting down
+        } finally {
+            server.sessionClosed(this);
+        }
+    }
+
+    /**
+     * Closes the connection, which makes the session end with the next read or write.
+     */
+    void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Connection could not be closed", e);
+        }
+    }
+
+    /**
+     * Plays a game against the bot.
+     * @return false if the bot violated the protocol and the session has to be ended
+     */
+    private boolean playGame(String botName, String rounds) throws IOException {
+        int numberOfRounds;
+        try {
+            numberOfRounds = Integer.parseInt(rounds);
+        } catch (NumberFormatException e) {
+            numberOfRounds = 0;
+        }
+        if (numberOfRounds <= 0 || numberOfRounds > server.getMaxRoundsPerGame()) {
+            sendError("Number of rounds must be between 1 and " + server.getMaxRoundsPerGame());
+            return false;
+        }
+        if (botName.isEmpty()) {
+            sendError("Name of the bot must not be blank");
+            return false;
+        }
+        RemoteStrategy botStrategy = new RemoteStrategy();
+        Player bot = Player.builder().withName(botName).withStrategy(botStrategy).build();
+        Player serverPlayer = server.newPlayer();
+        send(GameProtocol.READY + " " + serverPlayer.getName());
+        long botScore = 0;
+        long serverScore = 0;
+        for (int roundNumber = 1; roundNumber <= numberOfRounds; roundNumber++) {
+            Shape move = readMove();
+            if (move == null) {
+                return false;
+            }
+            botStrategy.setNextShape(move);
+            Round round = Round.builder()
+                    .roundNumber(roundNumber)
+                    .addPlayer1(bot)
+                    .addPlayer2(serverPlayer)
+                    .build();
+            Player winner = round.getRoundResult().getWinner();
+            String result = GameProtocol.DRAW;
+            if (winner == bot) {
+                botScore++;
+                result = GameProtocol.WIN;
+            } else if (winner == serverPlayer) {
+                serverScore++;
+                result = GameProtocol.LOSS;
+            }
+            server.movePlayed();
+            send(GameProtocol.ROUND + " " + roundNumber + " " + round.getPlayer2Shape().getType() + " " + result);
+        }
+        send(GameProtocol.OVER + " " + botScore + " " + serverScore + " " + (numberOfRounds - botScore - serverScore));
+        server.gamePlayed();
+        return true;
+    }
+
+    /**
+     * @return the move sent by the bot, or null if the bot sent something else
+     */
+    private Shape readMove() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            throw new IOException("Connection closed by the bot");
+        }
+        if (line.startsWith(GameProtocol.MOVE + " ")) {
+            try {
+                return Shape.of(ShapeType.valueOf(line.substring(GameProtocol.MOVE.length() + 1)));
+            } catch (IllegalArgumentException e) {
+                // answered with an error below
+            }
+        }
+        sendError("Expected " + GameProtocol.MOVE + " <ROCK|PAPER|SCISSORS>");
+        return null;
+    }
+
+    /**
+     * Reads the next line sent by the bot. Unlike {@link BufferedReader#readLine()}, which keeps reading a line of
+     * any length into memory, the line is cut off after {@link GameProtocol#MAX_LINE_LENGTH} characters.
+     * @return the line without its terminator, or null if the bot has closed the connection
+     * @throws ProtocolException if the line is too long, after the bot has been sent an error
+     */
+    private String readLine() throws IOException {
+        lineBuffer.setLength(0);
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1) {
+                return lineBuffer.isEmpty() ? null : lineBuffer.toString();
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (lineBuffer.length() == GameProtocol.MAX_LINE_LENGTH) {
+                sendError("Lines must not be longer than " + GameProtocol.MAX_LINE_LENGTH + " characters");
+                throw new ProtocolException("Line longer than " + GameProtocol.MAX_LINE_LENGTH + " characters");
+            }
+            lineBuffer.append((char) c);
+        }
+        return lineBuffer.toString();
+    }
+
+    private void sendError(String reason) throws IOException {
+        send(GameProtocol.ERROR + " " + reason);
+    }
+
+    private void send(String message) throws IOException {
+        out.write(message);
+        out.write('\n');
+        out.flush();
+    }
+}
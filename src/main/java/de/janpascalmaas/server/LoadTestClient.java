@@ -0,0 +1,192 @@
+package de.janpascalmaas.server;
+
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.metrics.HistogramSnapshot;
+import de.janpascalmaas.metrics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load test client for the {@link GameServer}. Every session connects on its own virtual thread, plays one game of
+ * random moves and disconnects. The latencies of all moves are recorded into one {@link LatencyHistogram} with
+ * sub-buckets, so a load test of any size needs the same memory for its report.
+ * The client can be built using the Builder pattern and runs the load test with {@link Builder#run()}.
+ */
+public final class LoadTestClient {
+
+    /**
+     * Splits every power of two into 64 buckets, so the reported percentiles are accurate to 2%.
+     */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    private static final ShapeType[] MOVES = ShapeType.values();
+
+    private final InetSocketAddress address;
+
+    private final int sessions;
+
+    private final int roundsPerSession;
+
+    private final Semaphore concurrency;
+
+    private LoadTestClient(InetSocketAddress address, int sessions, int roundsPerSession, int concurrency) {
+        this.address = address;
+        this.sessions = sessions;
+        this.roundsPerSession = roundsPerSession;
+        this.concurrency = new Semaphore(concurrency);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs a load test against a running server and prints the report.
+     * @param args host, port, number of sessions and rounds per session
+     */
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.err.println("Usage: LoadTestClient <host> <port> <sessions> <rounds per session>");
+            System.exit(2);
+        }
+        LoadTestReport report = builder()
+                .address(new InetSocketAddress(args[0], Integer.parseInt(args[1])))
+                .sessions(Integer.parseInt(args[2]))
+                .roundsPerSession(Integer.parseInt(args[3]))
+                .run();
+        System.out.println(report);
+    }
+
+    private LoadTestReport run() {
+        LatencyHistogram latencies = LatencyHistogram.withSubBuckets(SUB_BUCKET_BITS);
+        long start = System.nanoTime();
+        List<Future<?>> results = new ArrayList<>(sessions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                int session = i;
+                results.add(executor.submit(() -> playSession(session, latencies)));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        int failedSessions = 0;
+        for (Future<?> result : results) {
+            if (result.state() != Future.State.SUCCESS) {
+                failedSessions++;
+            }
+        }
+        HistogramSnapshot snapshot = latencies.snapshot();
+        // a percentile is the upper bound of its bucket, which must not exceed the highest latency
+        return new LoadTestReport(sessions, failedSessions, snapshot.getCount(), elapsedNanos,
+                                  Math.min(snapshot.getPercentile(50), snapshot.getMax()),
+                                  Math.min(snapshot.getPercentile(99), snapshot.getMax()), snapshot.getMax());
+    }
+
+    private Void playSession(int session, LatencyHistogram latencies) throws IOException, InterruptedException {
+        concurrency.acquire();
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(address);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                                                                         StandardCharsets.US_ASCII));
+            BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                                                                           StandardCharsets.US_ASCII));
+            send(out, GameProtocol.PLAY + " Bot-" + session + " " + roundsPerSession);
+            expect(in, GameProtocol.READY);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int round = 0; round < roundsPerSession; round++) {
+                long sent = System.nanoTime();
+                send(out, GameProtocol.MOVE + " " + MOVES[random.nextInt(MOVES.length)]);
+                expect(in, GameProtocol.ROUND);
+                latencies.record(System.nanoTime() - sent);
+            }
+            expect(in, GameProtocol.OVER);
+            send(out, GameProtocol.QUIT);
+            return null;
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private static void send(BufferedWriter out, String message) throws IOException {
+        out.write(message);
+        out.write('\n');
+        out.flush();
+    }
+
+    private static void expect(BufferedReader in, String command) throws IOException {
+        String line = in.readLine();
+        if (line == null || !line.startsWith(command + " ")) {
+            throw new IOException("Expected " + command + " but received " + line);
+        }
+    }
+
+    /**
+     * Builder class to create a LoadTestClient instance.
+     * By default, all sessions are started at once and every session plays 100 rounds.
+     */
+    public static class Builder {
+
+        private InetSocketAddress address;
+
+        private int sessions;
+
+        private int roundsPerSession = 100;
+
+        private int concurrency;
+
+        public Builder address(InetSocketAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        public Builder sessions(int sessions) {
+            this.sessions = sessions;
+            return this;
+        }
+
+        public Builder roundsPerSession(int roundsPerSession) {
+            this.roundsPerSession = roundsPerSession;
+            return this;
+        }
+
+        /**
+         * @param concurrency the maximum number of sessions connected at the same time
+         * @return this builder
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("Concurrency must be greater than 0");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public LoadTestReport run() {
+            if (address == null) {
+                throw new IllegalStateException("Address of the server must be set");
+            }
+            if (sessions <= 0) {
+                throw new IllegalArgumentException("Number of sessions must be greater than 0");
+            }
+            if (roundsPerSession <= 0) {
+                throw new IllegalArgumentException("Number of rounds per session must be greater than 0");
+            }
+            return new LoadTestClient(address, sessions, roundsPerSession,
+                                      concurrency == 0 ? sessions : concurrency).run();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package de.janpascalmaas.server;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a run of the {@link LoadTestClient}. Latencies are measured per move, from sending the move until the
+ * result of the round has been received, and their percentiles are accurate to 2%. The load test report is immutable.
+ */
+public final class LoadTestReport {
+
+    private final int sessions;
+
+    private final int failedSessions;
+
+    private final long moves;
+
+    private final long elapsedNanos;
+
+    private final long medianLatencyNanos;
+
+    private final long p99LatencyNanos;
+
+    private final long maxLatencyNanos;
+
+    LoadTestReport(int sessions, int failedSessions, long moves, long elapsedNanos, long medianLatencyNanos,
+                   long p99LatencyNanos, long maxLatencyNanos) {
+        this.sessions = sessions;
+        this.failedSessions = failedSessions;
+        this.moves = moves;
+        this.elapsedNanos = elapsedNanos;
+        this.medianLatencyNanos = medianLatencyNanos;
+        this.p99LatencyNanos = p99LatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * @return the number of sessions that could not be played to the end
+     */
+    public int getFailedSessions() {
+        return failedSessions;
+    }
+
+    /**
+     * @return the number of moves played, including the moves of failed sessions before they failed
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getSessionsPerSecond() {
+        return (sessions - failedSessions) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public double getMovesPerSecond() {
+        return moves * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public long getMedianLatencyNanos() {
+        return medianLatencyNanos;
+    }
+
+    public long getP99LatencyNanos() {
+        return p99LatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d sessions (%d failed), %d moves in %.3f s: %.1f sessions/s, %.1f moves/s, "
+                                     + "move latency p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                             sessions, failedSessions, moves, elapsedNanos / 1e9, getSessionsPerSecond(),
+                             getMovesPerSecond(), medianLatencyNanos / 1e6, p99LatencyNanos / 1e6,
+                             maxLatencyNanos / 1e6);
+    }
+}
@@ -0,0 +1,32 @@
+package de.janpascalmaas.server;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+
+/**
+ * Strategy of a bot connected to the {@link GameServer}. The session sets the move received from the bot before the
+ * round is played, so the round takes it like the shape of any other strategy.
+ */
+final class RemoteStrategy implements PlayerStrategy {
+
+    private Shape nextShape;
+
+    void setNextShape(Shape nextShape) {
+        this.nextShape = nextShape;
+    }
+
+    @Override
+    public Shape getNextShape() {
+        if (nextShape == null) {
+            throw new IllegalStateException("No move received from the bot");
+        }
+        Shape shape = nextShape;
+        nextShape = null;
+        return shape;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Remote Strategy";
+    }
+}
@@ -4,21 +4,181 @@ package de.janpascalmaas.service;
 import de.janpascalmaas.domain.Game;
 import de.janpascalmaas.domain.Player;
 import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.round.RoundListener;
 import de.janpascalmaas.domain.round.RoundResult;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.metrics.Counter;
+import de.janpascalmaas.metrics.LatencyHistogram;
+import de.janpascalmaas.metrics.Metrics;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.List;
 
 /**
  * Service class to handle console output for the game of rock paper scissors.
- * This class is responsible for printing the flow of the game after it has been played.
+ * This class is responsible for printing the flow of the game after it has been played. As a {@link RoundListener} it
+ * can also print the rounds while the game is played, e.g. for games that do not keep their rounds.
+ * The output is rendered into a reusable buffer, encoded with the charset of {@code System.out} unless another one is
+ * given, and written to a channel in chunks. By default, it is written to {@code System.out} after every game and
+ * every round. A buffered service only writes when the buffer is full and at the end of a game, which makes printing
+ * large games much cheaper; rounds printed as a listener have to be flushed with {@link #flush()} then. The
+ * {@link Verbosity} defines which rounds are printed at all.
+ * The service is not thread safe.
  */
-public final class ConsoleOutputService {
+public final class ConsoleOutputService implements RoundListener, Flushable {
+
+    private static final String SEPARATOR =
+            "=========================================================================================";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final LatencyHistogram PRINT_LATENCY = Metrics.ENABLED
+            ? Metrics.registry().histogram("rps_console_print_seconds") : null;
+
+    private static final Counter BYTES_WRITTEN = Metrics.ENABLED
+            ? Metrics.registry().counter("rps_console_bytes_total") : null;
+
+    private final WritableByteChannel channel;
+
+    private final Verbosity verbosity;
+
+    private final int flushThreshold;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private final CharsetEncoder encoder;
+
+    private final ByteBuffer bytes;
+
+    public ConsoleOutputService() {
+        this(Channels.newChannel(System.out), Verbosity.full(), 0);
+    }
+
+    /**
+     * Constructor to write the output to a custom channel.
+     * @param channel the channel to write the output to
+     * @param verbosity defines which rounds are printed
+     * @param flushThreshold the number of characters to collect before they are written to the channel, 0 to write
+     *                       after every round
+     */
+    public ConsoleOutputService(WritableByteChannel channel, Verbosity verbosity, int flushThreshold) {
+        this(channel, System.out.charset(), verbosity, flushThreshold);
+    }
+
+    /**
+     * Constructor to write the output to a custom channel in a custom charset.
+     * @param channel the channel to write the output to
+     * @param charset the charset to encode the output with
+     * @param verbosity defines which rounds are printed
+     * @param flushThreshold the number of characters to collect before they are written to the channel, 0 to write
+     *                       after every round
+     */
+    public ConsoleOutputService(WritableByteChannel channel, Charset charset, Verbosity verbosity,
+                                int flushThreshold) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        if (charset == null) {
+            throw new IllegalArgumentException("Charset cannot be null");
+        }
+        if (verbosity == null) {
+            throw new IllegalArgumentException("Verbosity cannot be null");
+        }
+        if (flushThreshold < 0) {
+            throw new IllegalArgumentException("Flush threshold must not be negative");
+        }
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.verbosity = verbosity;
+        this.flushThreshold = flushThreshold;
+        this.bytes = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a buffered service writing to {@code System.out}. The output is written through {@code System.out}
+     * instead of the channel of the standard output, so it stays in order with everything else printed to it.
+     * @param verbosity defines which rounds are printed
+     * @return the buffered service
+     */
+    public static ConsoleOutputService buffered(Verbosity verbosity) {
+        return new ConsoleOutputService(Channels.newChannel(System.out), verbosity, DEFAULT_BUFFER_SIZE);
+    }
 
     public void printGame(Game game) {
         if (game == null) {
             throw new IllegalArgumentException("Game cannot be null");
         }
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
         printGameStart(game.getPlayer1(),  game.getPlayer2(), game.getNumberOfRounds());
-        game.getRounds().forEach(this::printRound);
+        if (game.getRuleSet() != RuleSet.CLASSIC) {
+            text.append("Rules: ").append(game.getRuleSet().getName()).append(LINE_SEPARATOR);
+            text.append(SEPARATOR).append(LINE_SEPARATOR);
+        }
+        if (verbosity.printsRounds()) {
+            List<Round> rounds = game.getRounds();
+            for (int i = verbosity.getRoundInterval() - 1; i < rounds.size(); i += verbosity.getRoundInterval()) {
+                printRound(rounds.get(i));
+            }
+        }
         printGameResult(game);
+        flush();
+        if (Metrics.ENABLED) {
+            PRINT_LATENCY.recordSince(start);
+        }
+    }
+
+    @Override
+    public void onRound(Round round) {
+        printRound(round);
+    }
+
+    /**
+     * Writes all buffered output to the channel.
+     */
+    @Override
+    public void flush() {
+        if (text.isEmpty()) {
+            return;
+        }
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (encoder.encode(chars, bytes, true).isOverflow()) {
+            writeBytes();
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            writeBytes();
+        }
+        writeBytes();
+        text.setLength(0);
+    }
+
+    private void writeBytes() {
+        bytes.flip();
+        if (Metrics.ENABLED) {
+            BYTES_WRITTEN.add(bytes.remaining());
+        }
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Output could not be written", e);
+        } finally {
+            bytes.clear();
+        }
     }
 
     /**
@@ -29,27 +189,37 @@ public final class ConsoleOutputService {
      * @param numberOfRounds the number of rounds in the game
      */
     private void printGameStart(Player player1, Player player2, int numberOfRounds) {
-        System.out.println("Game started for " + numberOfRounds + " with players: ");
-        System.out.println(" - " + player1.getName() + " using Strategy: " + player1.getStrategy().getStrategyName());
-        System.out.println(" - " + player2.getName() + " using Strategy: " + player2.getStrategy().getStrategyName());
-        System.out.println("=========================================================================================");
+        text.append("Game started for ").append(numberOfRounds).append(" with players: ").append(LINE_SEPARATOR);
+        text.append(" - ").append(player1.getName()).append(" using Strategy: ")
+                .append(player1.getStrategy().getStrategyName()).append(LINE_SEPARATOR);
+        text.append(" - ").append(player2.getName()).append(" using Strategy: ")
+                .append(player2.getStrategy().getStrategyName()).append(LINE_SEPARATOR);
+        text.append(SEPARATOR).append(LINE_SEPARATOR);
     }
 
     /**
-     * Prints the details of a round that has been played.
+     * Prints the details of a round that has been played, if the verbosity includes the round.
      *
      * @param round the round that has been played
      */
     private void printRound(Round round) {
-        System.out.println("Round " + round.getRoundNumber() + " finished: ");
-        System.out.println(" - " + round.getPlayer1().getName() + " played " + round.getPlayer1Shape().getType());
-        System.out.println(" - " + round.getPlayer2().getName() + " played " + round.getPlayer2Shape().getType());
+        if (!verbosity.printsRound(round.getRoundNumber())) {
+            return;
+        }
+        text.append("Round ").append(round.getRoundNumber()).append(" finished: ").append(LINE_SEPARATOR);
+        text.append(" - ").append(round.getPlayer1().getName()).append(" played ")
+                .append(round.getPlayer1Shape().getName()).append(LINE_SEPARATOR);
+        text.append(" - ").append(round.getPlayer2().getName()).append(" played ")
+                .append(round.getPlayer2Shape().getName()).append(LINE_SEPARATOR);
         if (round.getRoundResult().getOutcome() == RoundResult.Outcome.WIN) {
-            System.out.println("Winner: " + round.getRoundResult().getWinner().getName());
+            text.append("Winner: ").append(round.getRoundResult().getWinner().getName()).append(LINE_SEPARATOR);
         } else {
-            System.out.println("Round ended in a draw.");
+            text.append("Round ended in a draw.").append(LINE_SEPARATOR);
+        }
+        text.append(SEPARATOR).append(LINE_SEPARATOR);
+        if (text.length() >= flushThreshold) {
+            flush();
         }
-        System.out.println("=========================================================================================");
     }
 
     /**
@@ -58,18 +228,20 @@ public final class ConsoleOutputService {
      * @param game the game that has been played
      */
     private void printGameResult(Game game) {
-        System.out.println("=========================================================================================");
-        System.out.println("Overall Game Result: ");
-        System.out.println(" - " + game.getPlayer1().getName() + " won " + game.getPlayer1().getScore() + " rounds.");
-        System.out.println(" - " + game.getPlayer2().getName() + " won " + game.getPlayer2().getScore() + " rounds.");
-        System.out.println(" - " + game.getNumberOfDraws() + " rounds ended in a draw.");
-        System.out.println("=========================================================================================");
+        text.append(SEPARATOR).append(LINE_SEPARATOR);
+        text.append("Overall Game Result: ").append(LINE_SEPARATOR);
+        text.append(" - ").append(game.getPlayer1().getName()).append(" won ")
+                .append(game.getScoreboard().getPlayer1Score()).append(" rounds.").append(LINE_SEPARATOR);
+        text.append(" - ").append(game.getPlayer2().getName()).append(" won ")
+                .append(game.getScoreboard().getPlayer2Score()).append(" rounds.").append(LINE_SEPARATOR);
+        text.append(" - ").append(game.getNumberOfDraws()).append(" rounds ended in a draw.").append(LINE_SEPARATOR);
+        text.append(SEPARATOR).append(LINE_SEPARATOR);
         if (game.getWinner() != null) {
-            System.out.println("The winner is: " + game.getWinner().getName());
+            text.append("The winner is: ").append(game.getWinner().getName()).append(LINE_SEPARATOR);
         } else {
-            System.out.println("No winner, all players have the same score.");
+            text.append("No winner, all players have the same score.").append(LINE_SEPARATOR);
         }
-        System.out.println("=========================================================================================");
+        text.append(SEPARATOR).append(LINE_SEPARATOR);
     }
 
 
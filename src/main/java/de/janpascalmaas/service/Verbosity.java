@@ -0,0 +1,59 @@
+package de.janpascalmaas.service;
+
+/**
+ * Defines which rounds of a game are printed by the {@link ConsoleOutputService}. The start and the result of a game
+ * are always printed.
+ * The verbosity is immutable.
+ */
+public final class Verbosity {
+
+    private static final Verbosity FULL = new Verbosity(1);
+
+    private static final Verbosity SUMMARY = new Verbosity(0);
+
+    /**
+     * Every n-th round is printed, no round is printed if 0.
+     */
+    private final int roundInterval;
+
+    private Verbosity(int roundInterval) {
+        this.roundInterval = roundInterval;
+    }
+
+    /**
+     * @return a verbosity printing every round
+     */
+    public static Verbosity full() {
+        return FULL;
+    }
+
+    /**
+     * @return a verbosity printing no rounds, only the start and the result of a game
+     */
+    public static Verbosity summary() {
+        return SUMMARY;
+    }
+
+    /**
+     * @param n the interval of the rounds to print
+     * @return a verbosity printing only the rounds whose number is a multiple of n
+     */
+    public static Verbosity everyNthRound(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Round interval must be greater than 0");
+        }
+        return n == 1 ? FULL : new Verbosity(n);
+    }
+
+    boolean printsRounds() {
+        return roundInterval > 0;
+    }
+
+    int getRoundInterval() {
+        return roundInterval;
+    }
+
+    boolean printsRound(int roundNumber) {
+        return roundInterval > 0 && roundNumber % roundInterval == 0;
+    }
+}
@@ -1,3 +1,7 @@
 module de.janpascalmaas.rock.paperscissors.simple {
+    requires static jdk.incubator.vector;
+    requires jdk.httpserver;
+    requires jdk.jfr;
+
     exports de.janpascalmaas;
 }
\ No newline at end of file
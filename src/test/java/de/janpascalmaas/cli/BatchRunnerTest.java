@@ -0,0 +1,108 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.Game;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchRunnerTest {
+
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+
+    private final BatchRunner runner = new BatchRunner(new PrintStream(outContent));
+
+    @Test
+    void csvScenariosShareASingleHeader() {
+        runner.run(BatchRunner.parseArguments("--output", "csv", "--player1", "X=sequence:R,P,S", "--player2",
+                                              "Y=one:R", "--rounds", "10", "--seed", "5"));
+        runner.run(BatchRunner.parseArguments("--output", "csv", "--name", "Paper, always", "--player1", "X=one:P",
+                                              "--player2", "Y=one:P", "--rounds", "3", "--seed", "6"));
+
+        assertThat(outContent.toString().lines()).containsExactly(
+                BatchRunner.CSV_HEADER,
+                "X vs Y,X,Y,10,5,3,3,4,",
+                "\"Paper, always\",X,Y,3,6,0,0,3,");
+    }
+
+    @Test
+    void summaryPrintsTheResultWithoutRounds() {
+        runner.run(BatchRunner.parseArguments("--output", "summary", "--player2", "B=one:R"));
+
+        String output = outContent.toString();
+        assertThat(output).contains("Game started for 100 with players:");
+        assertThat(output).contains(" - A won 100 rounds.");
+        assertThat(output).contains("The winner is: A");
+        assertThat(output).doesNotContain("Round 1 finished");
+    }
+
+    @Test
+    void fullOutputPrintsEveryRound() {
+        runner.run(BatchRunner.parseArguments("--rounds", "2", "--player2", "B=one:S"));
+
+        String output = outContent.toString();
+        assertThat(output).contains("Round 1 finished");
+        assertThat(output).contains("Round 2 finished");
+        assertThat(output).contains("The winner is: B");
+    }
+
+    @Test
+    void scenariosWithTheSameSeedPlayTheSameGame() {
+        List<Scenario> scenarios = BatchRunner.parseArguments("--player1", "A=random", "--rounds", "1000",
+                                                              "--seed", "42", "--output", "csv");
+
+        Game first = runner.run(scenarios.getFirst());
+        Game second = runner.run(scenarios.getFirst());
+
+        assertThat(second.getScoreboard().getPlayer1Score()).isEqualTo(first.getScoreboard().getPlayer1Score());
+        assertThat(second.getScoreboard().getPlayer2Score()).isEqualTo(first.getScoreboard().getPlayer2Score());
+    }
+
+    @Test
+    void scenarioFileRunsManyScenariosWithSharedOptions(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("scenarios.txt");
+        Files.write(file, List.of("# rock against every shape",
+                                  "--player1 R=one:R --player2 P=one:P",
+                                  "",
+                                  "--player1 R=one:R --player2 S=one:S --rounds 5"));
+
+        List<Scenario> scenarios = BatchRunner.parseArguments("--output", "csv", "--rounds", "7", "--seed", "1",
+                                                              "--scenarios", file.toString());
+        runner.run(scenarios);
+
+        assertThat(scenarios).hasSize(2);
+        assertThat(outContent.toString().lines()).containsExactly(
+                BatchRunner.CSV_HEADER,
+                "R vs P,R,P,7,1,0,7,0,P",
+                "R vs S,R,S,5,1,5,0,0,R");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionWithLineNumberIfScenarioInFileIsInvalid(@TempDir Path directory)
+            throws IOException {
+        Path file = directory.resolve("scenarios.txt");
+        Files.write(file, List.of("--rounds 5", "--rounds five"));
+
+        assertThatThrownBy(() -> BatchRunner.parseArguments("--scenarios", file.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Line 2 of " + file + ": Option --rounds must be a number but was five");
+    }
+
+    @Test
+    void throwUncheckedIOExceptionIfScenarioFileIsMissing(@TempDir Path directory) {
+        Path file = directory.resolve("missing.txt");
+
+        assertThatThrownBy(() -> BatchRunner.parseArguments("--scenarios", file.toString()))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessage("Scenario file " + file + " could not be read");
+    }
+}
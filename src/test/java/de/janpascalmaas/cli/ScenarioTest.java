@@ -0,0 +1,100 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScenarioTest {
+
+    @Test
+    void scenarioWithoutOptionsIsTheGameOfTheOriginalApplication() {
+        Scenario scenario = Scenario.parse(List.of());
+
+        assertThat(scenario.getPlayer1Name()).isEqualTo("A");
+        assertThat(scenario.getPlayer1Strategy()).hasToString("one:PAPER");
+        assertThat(scenario.getPlayer2Name()).isEqualTo("B");
+        assertThat(scenario.getPlayer2Strategy()).hasToString("random");
+        assertThat(scenario.getNumberOfRounds()).isEqualTo(100);
+        assertThat(scenario.getRuleSet()).isSameAs(RuleSet.CLASSIC);
+        assertThat(scenario.getOutput()).isEqualTo(Scenario.Output.FULL);
+        assertThat(scenario.getName()).isEqualTo("A vs B");
+    }
+
+    @Test
+    void allOptionsAreParsed() {
+        Scenario scenario = Scenario.parse(List.of("--name", "Cycle", "--player1", "Alice=sequence:R,P,L",
+                                                   "--player2", "Bob=one:Sc", "--rounds", "1000", "--seed", "-7",
+                                                   "--rules", "rpsls", "--output", "csv"));
+
+        assertThat(scenario.getName()).isEqualTo("Cycle");
+        assertThat(scenario.getPlayer1Name()).isEqualTo("Alice");
+        assertThat(scenario.getPlayer1Strategy()).hasToString("sequence:R,P,L");
+        assertThat(scenario.getPlayer2Name()).isEqualTo("Bob");
+        assertThat(scenario.getNumberOfRounds()).isEqualTo(1000);
+        assertThat(scenario.getSeed()).isEqualTo(-7);
+        assertThat(scenario.getRuleSet()).isSameAs(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK);
+        assertThat(scenario.getOutput()).isEqualTo(Scenario.Output.CSV);
+    }
+
+    @Test
+    void laterOptionsOverrideEarlierOptions() {
+        Scenario scenario = Scenario.parse(List.of("--rounds", "10", "--output", "csv", "--rounds", "20"));
+
+        assertThat(scenario.getNumberOfRounds()).isEqualTo(20);
+        assertThat(scenario.getOutput()).isEqualTo(Scenario.Output.CSV);
+    }
+
+    @Test
+    void ruleSetIsLoadedFromFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("fire-water-grass.txt");
+        Files.write(file, List.of("FIRE beats GRASS", "WATER beats FIRE", "GRASS beats WATER"));
+
+        Scenario scenario = Scenario.parse(List.of("--rules", file.toString(), "--player1", "A=one:w"));
+
+        assertThat(scenario.getRuleSet().getName()).isEqualTo("fire-water-grass");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfOptionIsInvalid() {
+        assertThatThrownBy(() -> Scenario.parse(List.of("--players", "3")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown option --players");
+        assertThatThrownBy(() -> Scenario.parse(List.of("--rounds")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Option --rounds requires a value");
+        assertThatThrownBy(() -> Scenario.parse(List.of("--rounds", "many")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Option --rounds must be a number but was many");
+        assertThatThrownBy(() -> Scenario.parse(List.of("--rounds", "0")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of rounds must be greater than 0");
+        assertThatThrownBy(() -> Scenario.parse(List.of("--player1", "one:ROCK")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected NAME=STRATEGY but found one:ROCK");
+        assertThatThrownBy(() -> Scenario.parse(List.of("--output", "xml")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown output xml");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfStrategyDoesNotFitTheRuleSet() {
+        assertThatThrownBy(() -> Scenario.parse(List.of("--player1", "A=one:SPOCK")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape SPOCK");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfPlayersHaveTheSameName() {
+        assertThatThrownBy(() -> Scenario.parse(List.of("--player2", "A=random")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Players must have different names but both are named A");
+    }
+}
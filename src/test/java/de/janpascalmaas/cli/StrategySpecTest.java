@@ -0,0 +1,75 @@
+package de.janpascalmaas.cli;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.MarkovStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.domain.strategy.SequenceStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StrategySpecTest {
+
+    @Test
+    void everyKindOfStrategyIsParsed() {
+        assertThat(StrategySpec.parse("random", RuleSet.CLASSIC).create(1)).isInstanceOf(RandomStrategy.class);
+        assertThat(StrategySpec.parse("one:p", RuleSet.CLASSIC).create(1).getNextShape())
+                .isEqualTo(Shape.of(ShapeType.PAPER));
+        assertThat(StrategySpec.parse("sequence:R,S", RuleSet.CLASSIC).create(1))
+                .isInstanceOf(SequenceStrategy.class);
+        assertThat(StrategySpec.parse("frequency", RuleSet.CLASSIC).create(1)).isInstanceOf(FrequencyStrategy.class);
+        assertThat(StrategySpec.parse("markov:3", RuleSet.CLASSIC).create(1))
+                .isInstanceOf(MarkovStrategy.class)
+                .extracting(strategy -> ((MarkovStrategy) strategy).getOrder()).isEqualTo(3);
+        assertThat(StrategySpec.parse("one:Spock", RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK).create(1))
+                .isInstanceOf(OneShapeStrategy.class);
+    }
+
+    @Test
+    void randomStrategiesWithTheSameSeedPlayTheSameShapes() {
+        StrategySpec given = StrategySpec.parse("random", RuleSet.CLASSIC);
+        PlayerStrategy first = given.create(42);
+        PlayerStrategy second = given.create(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(second.getNextShape()).isEqualTo(first.getNextShape());
+        }
+    }
+
+    @Test
+    void everyGameGetsANewSequence() {
+        StrategySpec given = StrategySpec.parse("sequence:R,P", RuleSet.CLASSIC);
+        PlayerStrategy first = given.create(1);
+        first.getNextShape();
+
+        assertThat(given.create(1).getNextShape()).isEqualTo(Shape.of(ShapeType.ROCK));
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfSpecificationIsInvalid() {
+        assertThatThrownBy(() -> StrategySpec.parse("copycat", RuleSet.CLASSIC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown strategy copycat");
+        assertThatThrownBy(() -> StrategySpec.parse("one:SPOCK", RuleSet.CLASSIC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape SPOCK");
+        assertThatThrownBy(() -> StrategySpec.parse("markov:x", RuleSet.CLASSIC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Order of a Markov strategy must be a number but was x");
+        assertThatThrownBy(() -> StrategySpec.parse("markov:0", RuleSet.CLASSIC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Order of a Markov strategy must be between 1 and 10 but was 0");
+        assertThatThrownBy(() -> StrategySpec.parse("sequence:R,X", RuleSet.CLASSIC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape X");
+        assertThatThrownBy(() -> StrategySpec.parse("frequency", RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Strategy frequency only supports the classic rule set");
+    }
+}
@@ -0,0 +1,137 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class GameEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void gameAndSampledBlocksAreRecorded() throws IOException {
+        List<RecordedEvent> actual = record(() -> Game.builder()
+                .numberOfRounds(20 * Game.BLOCK_SIZE)
+                .addPlayer1(player("Player 1", ShapeType.PAPER))
+                .addPlayer2(player("Player 2", ShapeType.ROCK))
+                .play());
+
+        List<RecordedEvent> games = filter(actual, "de.janpascalmaas.Game");
+        assertThat(games).hasSize(1);
+        RecordedEvent game = games.get(0);
+        assertThat(game.getString("player1")).isEqualTo("Player 1");
+        assertThat(game.getString("strategy2")).isEqualTo(OneShapeStrategy.class.getName());
+        assertThat(game.getInt("numberOfRounds")).isEqualTo(20 * Game.BLOCK_SIZE);
+        assertThat(game.getLong("player1Score")).isEqualTo(20 * Game.BLOCK_SIZE);
+        assertThat(game.getString("winner")).isEqualTo("Player 1");
+
+        List<RecordedEvent> blocks = filter(actual, "de.janpascalmaas.RoundBlock");
+        assertThat(blocks).extracting(block -> block.getInt("firstRoundNumber"))
+                .containsExactly(1, RoundBlockEvent.SAMPLE_INTERVAL * Game.BLOCK_SIZE + 1);
+        assertThat(blocks.get(0).getInt("player1Wins")).isEqualTo(Game.BLOCK_SIZE);
+    }
+
+    @Test
+    void strategyDecisionsOverThresholdAreRecorded() throws IOException {
+        Player player1 = player("Player 1", ShapeType.PAPER);
+        Player player2 = player("Player 2", ShapeType.ROCK);
+
+        List<RecordedEvent> actual = record(() -> Round.builder()
+                .roundNumber(1)
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .build());
+
+        assertThat(filter(actual, "de.janpascalmaas.StrategyDecision"))
+                .extracting(event -> event.getString("player"), event -> event.getInt("shapes"))
+                .containsExactlyInAnyOrder(tuple("Player 1", 1), tuple("Player 2", 1));
+    }
+
+    @Test
+    void slowDecisionsOfAdaptiveStrategiesAreRecorded() throws IOException {
+        Player adaptivePlayer = Player.builder()
+                .withName("Adaptive")
+                .withStrategy(new SlowAdaptiveStrategy())
+                .build();
+
+        List<RecordedEvent> actual = record(Duration.ofMillis(1), () -> Game.builder()
+                .numberOfRounds(3)
+                .addPlayer1(adaptivePlayer)
+                .addPlayer2(player("Player 2", ShapeType.ROCK))
+                .play());
+
+        assertThat(filter(actual, "de.janpascalmaas.StrategyDecision"))
+                .extracting(event -> event.getString("player"), event -> event.getInt("shapes"))
+                .containsExactly(tuple("Adaptive", 1), tuple("Adaptive", 1), tuple("Adaptive", 1));
+    }
+
+    private List<RecordedEvent> record(Runnable activity) throws IOException {
+        return record(Duration.ZERO, activity);
+    }
+
+    private List<RecordedEvent> record(Duration decisionThreshold, Runnable activity) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("de.janpascalmaas.Game");
+            recording.enable("de.janpascalmaas.RoundBlock");
+            recording.enable("de.janpascalmaas.StrategyDecision").withThreshold(decisionThreshold);
+            recording.start();
+            activity.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    private static Player player(String name, ShapeType shapeType) {
+        return Player.builder()
+                .withName(name)
+                .withStrategy(new OneShapeStrategy(Shape.of(shapeType)))
+                .build();
+    }
+
+    /**
+     * Adaptive strategy taking longer than the default threshold of strategy decision events for every shape.
+     */
+    private static final class SlowAdaptiveStrategy implements AdaptiveStrategy {
+
+        @Override
+        public Shape getNextShape() {
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Shape.of(ShapeType.PAPER);
+        }
+
+        @Override
+        public void observe(int ownShape, int opponentShape) {
+        }
+
+        @Override
+        public String getStrategyName() {
+            return "Slow Strategy";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.RoundBlock;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameStatisticsTest {
+
+    @Test
+    void shapeFrequenciesAreCountedPerPlayer() {
+        GameStatistics given = new GameStatistics(3);
+
+        given.record(playedBlock("RRPS", "SSSS"));
+
+        assertThat(given.getPlayer1ShapeCount(ShapeType.ROCK)).isEqualTo(2);
+        assertThat(given.getPlayer1ShapeCount(ShapeType.PAPER)).isOne();
+        assertThat(given.getPlayer1ShapeCount(ShapeType.SCISSORS)).isOne();
+        assertThat(given.getPlayer2ShapeCount(ShapeType.ROCK)).isZero();
+        assertThat(given.getPlayer2ShapeCount(ShapeType.SCISSORS)).isEqualTo(4);
+    }
+
+    @Test
+    void longestStreaksAreTrackedAcrossBlocks() {
+        GameStatistics given = new GameStatistics(3);
+
+        // player 1 wins, wins, draw, player 2 wins, player 1 wins | wins, wins, draw, draw, draw
+        given.record(playedBlock("RRSRR", "SSSPS"));
+        given.record(playedBlock("RRPPP", "SSPPP"));
+
+        assertThat(given.getPlayer1LongestWinningStreak()).isEqualTo(3);
+        assertThat(given.getPlayer2LongestWinningStreak()).isOne();
+        assertThat(given.getLongestDrawStreak()).isEqualTo(3);
+    }
+
+    private static RoundBlock playedBlock(String player1Shapes, String player2Shapes) {
+        RoundBlock block = new RoundBlock(player(player1Shapes), player(player2Shapes), player1Shapes.length());
+        block.play(1, player1Shapes.length());
+        return block;
+    }
+
+    private static Player player(String shapes) {
+        Shape[] sequence = shapes.chars()
+                .mapToObj(c -> switch (c) {
+                    case 'R' -> Shape.of(ShapeType.ROCK);
+                    case 'P' -> Shape.of(ShapeType.PAPER);
+                    default -> Shape.of(ShapeType.SCISSORS);
+                })
+                .toArray(Shape[]::new);
+        PlayerStrategy strategy = mock(PlayerStrategy.class, CALLS_REAL_METHODS);
+        when(strategy.getNextShape()).thenReturn(sequence[0], Arrays.copyOfRange(sequence, 1, sequence.length));
+        return Player.builder().withName(shapes).withStrategy(strategy).build();
+    }
+}
@@ -1,17 +1,32 @@
 package de.janpascalmaas.domain;
 
 import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
 import de.janpascalmaas.domain.round.RoundResult;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.CheckpointableStrategy;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.domain.strategy.SequenceStrategy;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,36 +111,364 @@ class GameTest {
     }
 
     @Test
-    void player1IsDeterminedTheWinnerIfHisScoreIsHigherThanPlayer2() {
-        Player player1 = mock(Player.class);
-        when(player1.getScore()).thenReturn(2);
-        Player player2 = mock(Player.class);
-        when(player2.getScore()).thenReturn(1);
+    void scoresOfAPlayerDoNotLeakBetweenSequentialGames() {
+        Player rock = Player.builder()
+                .withName("A")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        Player scissors = Player.builder()
+                .withName("B")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.SCISSORS)))
+                .build();
 
-        Game actual = new Game(player1, player2);
-        assertThat(actual.determineWinner(player1, player2)).isEqualTo(player1);
+        Game first = Game.builder().addPlayer1(rock).addPlayer2(scissors).numberOfRounds(3).play();
+        Game second = Game.builder().addPlayer1(scissors).addPlayer2(rock).numberOfRounds(5).play();
+
+        assertThat(first.getScoreboard().getScore(rock)).isEqualTo(3);
+        assertThat(first.getScoreboard().getScore(scissors)).isZero();
+        assertThat(second.getScoreboard().getScore(rock)).isEqualTo(5);
+        assertThat(second.getScoreboard().getScore(scissors)).isZero();
+        assertThat(rock.getTotalScore()).isEqualTo(8);
+        assertThat(scissors.getTotalScore()).isZero();
+    }
+
+    @Test
+    void aPlayerCanTakePartInConcurrentGames() {
+        Player rock = Player.builder()
+                .withName("A")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        Player scissors = Player.builder()
+                .withName("B")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.SCISSORS)))
+                .build();
+
+        List<Game> games = IntStream.range(0, 64).parallel()
+                .mapToObj(i -> Game.builder()
+                        .addPlayer1(rock)
+                        .addPlayer2(scissors)
+                        .numberOfRounds(1_000)
+                        .roundHistory(RoundHistoryMode.NONE)
+                        .play())
+                .toList();
+
+        assertThat(games).allSatisfy(game -> {
+            assertThat(game.getScoreboard().getPlayer1Score()).isEqualTo(1_000);
+            assertThat(game.getWinner()).isSameAs(rock);
+        });
+        assertThat(rock.getTotalScore()).isEqualTo(64_000);
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfRoundHistoryModeIsNull() {
+        assertThatThrownBy(() -> Game.builder().roundHistory(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Round history mode must not be null");
     }
 
     @Test
-    void player2IsDeterminedTheWinnerIfHisScoreIsHigherThanPlayer1() {
-        Player player1 = mock(Player.class);
-        when(player1.getScore()).thenReturn(1);
-        Player player2 = mock(Player.class);
-        when(player2.getScore()).thenReturn(2);
+    void gameWithCompactRoundHistoryKeepsTheSameRoundsAsAGameWithFullRoundHistory() {
+        Game full = playScriptedGame(RoundHistoryMode.FULL);
+        Game compact = playScriptedGame(RoundHistoryMode.COMPACT);
+
+        assertThat(compact.getRounds()).hasSize(full.getRounds().size());
+        for (int i = 0; i < full.getRounds().size(); i++) {
+            Round expected = full.getRounds().get(i);
+            Round actual = compact.getRounds().get(i);
+            assertThat(actual.getRoundNumber()).isEqualTo(expected.getRoundNumber());
+            assertThat(actual.getPlayer1Shape()).isEqualTo(expected.getPlayer1Shape());
+            assertThat(actual.getPlayer2Shape()).isEqualTo(expected.getPlayer2Shape());
+            assertThat(actual.getRoundResult().getOutcome()).isEqualTo(expected.getRoundResult().getOutcome());
+            assertThat(winnerName(actual)).isEqualTo(winnerName(expected));
+        }
+        assertThat(compact.getNumberOfDraws()).isEqualTo(full.getNumberOfDraws());
+        assertThat(compact.getNumberOfDraws()).isOne();
+        assertThat(compact.getWinner()).isSameAs(compact.getPlayer1());
+    }
 
-        Game actual = new Game(player1, player2);
-        assertThat(actual.determineWinner(player1, player2)).isEqualTo(player2);
+    @Test
+    void throwIllegalArgumentExceptionIfRoundListenerIsNull() {
+        assertThatThrownBy(() -> Game.builder().addRoundListener(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Round listener must not be null");
     }
 
     @Test
-    void noPlayerIsDeterminedTheWinnerIfTheScoresOfBothPlayersAreIdentical() {
-        Player player1 = mock(Player.class);
-        when(player1.getScore()).thenReturn(1);
-        Player player2 = mock(Player.class);
-        when(player2.getScore()).thenReturn(1);
+    void roundListenersReceiveEveryRoundInTheOrderTheyArePlayed() {
+        List<Round> first = new ArrayList<>();
+        List<Round> second = new ArrayList<>();
+
+        Game actual = scriptedGameBuilder()
+                .roundHistory(RoundHistoryMode.FULL)
+                .addRoundListener(first::add)
+                .addRoundListener(second::add)
+                .play();
+
+        assertThat(first).extracting(Round::getRoundNumber).containsExactly(1, 2, 3, 4);
+        assertThat(first).containsExactlyElementsOf(actual.getRounds());
+        assertThat(second).containsExactlyElementsOf(first);
+    }
+
+    @Test
+    void gameWithoutRoundHistoryKeepsNoRoundsButCountsDrawsAndDeterminesTheWinner() {
+        List<Round> streamed = new ArrayList<>();
+
+        Game actual = scriptedGameBuilder()
+                .roundHistory(RoundHistoryMode.NONE)
+                .addRoundListener(streamed::add)
+                .play();
+
+        assertThat(actual.getRounds()).isEmpty();
+        assertThat(streamed).hasSize(4);
+        assertThat(actual.getNumberOfDraws()).isOne();
+        assertThat(actual.getWinner()).isSameAs(actual.getPlayer1());
+    }
+
+    @Test
+    void gameSpanningSeveralBlocksPlaysEveryRoundInOrder() {
+        int numberOfRounds = 2 * Game.BLOCK_SIZE + 7;
+        List<Round> streamed = new ArrayList<>();
+        Player player1 = Player.builder()
+                .withName("A")
+                .withStrategy(RandomStrategy.seeded(1, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                                    Shape.of(ShapeType.SCISSORS)))
+                .build();
+        Player player2 = Player.builder()
+                .withName("B")
+                .withStrategy(RandomStrategy.seeded(2, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                                    Shape.of(ShapeType.SCISSORS)))
+                .build();
+        RandomStrategy expected1 = RandomStrategy.seeded(1, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                                         Shape.of(ShapeType.SCISSORS));
+        RandomStrategy expected2 = RandomStrategy.seeded(2, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                                         Shape.of(ShapeType.SCISSORS));
+
+        Game actual = Game.builder()
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.COMPACT)
+                .addRoundListener(streamed::add)
+                .play();
+
+        long player1Wins = 0;
+        long draws = 0;
+        for (int i = 0; i < numberOfRounds; i++) {
+            Shape shape1 = expected1.getNextShape();
+            Shape shape2 = expected2.getNextShape();
+            Round round = streamed.get(i);
+            assertThat(round.getRoundNumber()).isEqualTo(i + 1);
+            assertThat(round.getPlayer1Shape()).isEqualTo(shape1);
+            assertThat(round.getPlayer2Shape()).isEqualTo(shape2);
+            assertThat(actual.getRounds().get(i).getPlayer1Shape()).isEqualTo(shape1);
+            if (shape1.beats(shape2)) {
+                player1Wins++;
+            } else if (!shape2.beats(shape1)) {
+                draws++;
+            }
+        }
+        assertThat(actual.getScoreboard().getPlayer1Score()).isEqualTo(player1Wins);
+        assertThat(actual.getNumberOfDraws()).isEqualTo(draws);
+    }
+
+    @Test
+    void roundsOfAGameAreAReadOnlyView() {
+        Game actual = playScriptedGame(RoundHistoryMode.FULL);
+
+        assertThat(actual.getRounds()).isSameAs(actual.getRounds());
+        assertThatThrownBy(() -> actual.getRounds().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void statisticsAreMaintainedWhileTheGameIsPlayed() {
+        Game actual = playScriptedGame(RoundHistoryMode.NONE);
+
+        assertThat(actual.getStatistics().getPlayer1ShapeCount(ShapeType.ROCK)).isEqualTo(2);
+        assertThat(actual.getStatistics().getPlayer2ShapeCount(ShapeType.SCISSORS)).isEqualTo(2);
+        assertThat(actual.getStatistics().getPlayer1LongestWinningStreak()).isOne();
+        assertThat(actual.getStatistics().getPlayer2LongestWinningStreak()).isOne();
+        assertThat(actual.getStatistics().getLongestDrawStreak()).isOne();
+    }
+
+    @Test
+    void gameResumedFromACheckpointEndsLikeAnUninterruptedGame(@TempDir Path directory) {
+        Path checkpoint = directory.resolve("game.checkpoint");
+        Game uninterrupted = checkpointedGameBuilder(Integer.MAX_VALUE, checkpoint).play();
+
+        assertThatThrownBy(() -> checkpointedGameBuilder(5, checkpoint).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Crash");
+        assertThat(checkpoint).exists();
+        Game resumed = checkpointedGameBuilder(Integer.MAX_VALUE, checkpoint).play();
+
+        assertThat(checkpoint).doesNotExist();
+        assertThat(resumed.getScoreboard().getPlayer1Score())
+                .isEqualTo(uninterrupted.getScoreboard().getPlayer1Score());
+        assertThat(resumed.getScoreboard().getPlayer2Score())
+                .isEqualTo(uninterrupted.getScoreboard().getPlayer2Score());
+        assertThat(resumed.getNumberOfDraws()).isEqualTo(uninterrupted.getNumberOfDraws());
+        assertThat(resumed.getStatistics().getLongestDrawStreak())
+                .isEqualTo(uninterrupted.getStatistics().getLongestDrawStreak());
+        assertThat(resumed.getStatistics().getPlayer1ShapeCount(ShapeType.PAPER))
+                .isEqualTo(uninterrupted.getStatistics().getPlayer1ShapeCount(ShapeType.PAPER));
+        assertThat(resumed.getWinner().getName()).isEqualTo(uninterrupted.getWinner().getName());
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfCheckpointBelongsToAnotherGame(@TempDir Path directory) {
+        Path checkpoint = directory.resolve("game.checkpoint");
+        assertThatThrownBy(() -> checkpointedGameBuilder(3, checkpoint).play())
+                .hasMessage("Crash");
+
+        assertThatThrownBy(() -> checkpointedGameBuilder(Integer.MAX_VALUE, checkpoint).numberOfRounds(100).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Checkpoint belongs to a game of 10000 rounds of Rock Paper Scissors between A ("
+                                    + CrashingStrategy.class.getName() + ") and B (" + RandomStrategy.class.getName()
+                                    + ")");
+        assertThatThrownBy(() -> Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(RandomStrategy.seeded(1, allShapes())).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(RandomStrategy.seeded(2, allShapes())).build())
+                .numberOfRounds(10_000)
+                .roundHistory(RoundHistoryMode.NONE)
+                .checkpoint(checkpoint, 2 * Game.BLOCK_SIZE)
+                .play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Checkpoint belongs to a game of 10000 rounds of Rock Paper Scissors");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfCheckpointsAreUsedWithRoundHistory(@TempDir Path directory) {
+        Game.Builder given = checkpointedGameBuilder(Integer.MAX_VALUE, directory.resolve("game.checkpoint"))
+                .roundHistory(RoundHistoryMode.COMPACT);
+
+        assertThatThrownBy(given::play)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Checkpoints require round history mode NONE");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfStrategyDoesNotSupportCheckpoints(@TempDir Path directory) {
+        Player player1 = Player.builder().withName("A").withStrategy(new RandomStrategy(allShapes())).build();
+        Player player2 = Player.builder().withName("B").withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        Game.Builder given = Game.builder()
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .numberOfRounds(10)
+                .roundHistory(RoundHistoryMode.NONE)
+                .checkpoint(directory.resolve("game.checkpoint"), 1);
+
+        assertThatThrownBy(given::play)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Only seeded random strategies support checkpoints");
+    }
+
+    @Test
+    void gameIsPlayedWithTheShapesAndRulesOfTheRuleSet() {
+        RuleSet ruleSet = RuleSet.balanced("RPS-7", "ROCK", "FIRE", "SCISSORS", "SPONGE", "PAPER", "AIR", "WATER");
+        Player player1 = Player.builder().withName("A").withStrategy(RandomStrategy.seeded(1, ruleSet)).build();
+        Player player2 = Player.builder().withName("B").withStrategy(RandomStrategy.seeded(2, ruleSet)).build();
+
+        Game actual = Game.builder()
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .numberOfRounds(3_000)
+                .ruleSet(ruleSet)
+                .play();
 
-        Game actual = new Game(player1, player2);
-        assertThat(actual.determineWinner(player1, player2)).isNull();
+        assertThat(actual.getRuleSet()).isSameAs(ruleSet);
+        assertThat(actual.getRounds()).allSatisfy(round -> {
+            assertThat(round.getPlayer1Shape().getRuleSet()).isSameAs(ruleSet);
+            assertThat(round.getRoundResult().getWinner() == player1)
+                    .isEqualTo(round.getPlayer1Shape().beats(round.getPlayer2Shape()));
+            assertThat(round.getRoundResult().getWinner() == player2)
+                    .isEqualTo(round.getPlayer2Shape().beats(round.getPlayer1Shape()));
+        });
+        long shapesPlayed = 0;
+        for (Shape shape : ruleSet.getShapes()) {
+            assertThat(actual.getStatistics().getPlayer1ShapeCount(shape)).isPositive();
+            shapesPlayed += actual.getStatistics().getPlayer1ShapeCount(shape);
+        }
+        assertThat(shapesPlayed).isEqualTo(3_000);
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfRuleSetIsUsedWithCompactHistoryOrAdaptiveStrategy() {
+        Player random = Player.builder().withName("A")
+                .withStrategy(new RandomStrategy(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK)).build();
+        Player adaptive = Player.builder().withName("B").withStrategy(new FrequencyStrategy()).build();
+
+        assertThatThrownBy(() -> Game.builder().addPlayer1(random).addPlayer2(random).numberOfRounds(10)
+                .ruleSet(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK).roundHistory(RoundHistoryMode.COMPACT).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Compact round history only supports the classic rule set");
+        assertThatThrownBy(() -> Game.builder().addPlayer1(random).addPlayer2(adaptive).numberOfRounds(10)
+                .ruleSet(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Strategy of player B only supports the classic rule set");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfStrategyPlaysShapesOfAnotherRuleSet() {
+        Player lizardSpock = Player.builder().withName("A")
+                .withStrategy(RandomStrategy.seeded(1, RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK)).build();
+        Player classic = Player.builder().withName("B")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK))).build();
+
+        assertThatThrownBy(() -> Game.builder().addPlayer1(lizardSpock).addPlayer2(classic).numberOfRounds(10)
+                .roundHistory(RoundHistoryMode.NONE).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Strategy of player A plays shapes of rule set Rock Paper Scissors Lizard Spock instead of "
+                                    + "Rock Paper Scissors");
+        assertThatThrownBy(() -> Game.builder().addPlayer1(lizardSpock).addPlayer2(classic).numberOfRounds(10)
+                .ruleSet(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Strategy of player B plays shapes of rule set Rock Paper Scissors instead of "
+                                    + "Rock Paper Scissors Lizard Spock");
+    }
+
+    private static Game.Builder checkpointedGameBuilder(int crashAfterBlocks, Path checkpoint) {
+        CheckpointableStrategy strategy1 = new CrashingStrategy(RandomStrategy.seeded(1, allShapes()),
+                                                                crashAfterBlocks);
+        CheckpointableStrategy strategy2 = RandomStrategy.seeded(2, allShapes());
+        return Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(strategy1).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(strategy2).build())
+                .numberOfRounds(10_000)
+                .roundHistory(RoundHistoryMode.NONE)
+                .checkpoint(checkpoint, 2 * Game.BLOCK_SIZE);
+    }
+
+    private static Shape[] allShapes() {
+        return new Shape[]{Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS)};
+    }
+
+    private static String winnerName(Round round) {
+        Player winner = round.getRoundResult().getWinner();
+        return winner == null ? null : winner.getName();
+    }
+
+    private static Game playScriptedGame(RoundHistoryMode roundHistoryMode) {
+        return scriptedGameBuilder()
+                .roundHistory(roundHistoryMode)
+                .play();
+    }
+
+    private static Game.Builder scriptedGameBuilder() {
+        PlayerStrategy strategy1 = mock(PlayerStrategy.class, CALLS_REAL_METHODS);
+        when(strategy1.getNextShape()).thenReturn(
+                Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS),
+                Shape.of(ShapeType.ROCK));
+        PlayerStrategy strategy2 = mock(PlayerStrategy.class, CALLS_REAL_METHODS);
+        when(strategy2.getNextShape()).thenReturn(
+                Shape.of(ShapeType.SCISSORS), Shape.of(ShapeType.SCISSORS), Shape.of(ShapeType.PAPER),
+                Shape.of(ShapeType.ROCK));
+
+        return Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(strategy1).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(strategy2).build())
+                .numberOfRounds(4);
     }
 
     @ParameterizedTest
@@ -148,6 +491,105 @@ class GameTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("provideShapePairs")
+    void gameOfOneShapeStrategiesInClosedFormEqualsGamePlayedRoundByRound(ShapeType type1, ShapeType type2) {
+        Game closedForm = oneShapeGame(type1, type2).play();
+        Game played = oneShapeGame(type1, type2).fastForward(false).play();
+
+        assertThat(closedForm.getScoreboard().getPlayer1Score()).isEqualTo(played.getScoreboard().getPlayer1Score());
+        assertThat(closedForm.getScoreboard().getPlayer2Score()).isEqualTo(played.getScoreboard().getPlayer2Score());
+        assertThat(closedForm.getNumberOfDraws()).isEqualTo(played.getNumberOfDraws());
+        assertThat(closedForm.getWinner() == null).isEqualTo(played.getWinner() == null);
+        assertThat(closedForm.getStatistics()).usingRecursiveComparison().isEqualTo(played.getStatistics());
+        assertThat(closedForm.getRounds()).isEmpty();
+    }
+
+    public static Stream<Arguments> provideShapePairs() {
+        return Stream.of(ShapeType.values())
+                .flatMap(type1 -> Stream.of(ShapeType.values()).map(type2 -> Arguments.of(type1, type2)));
+    }
+
+    @Test
+    void billionRoundGameOfOneShapeStrategiesFinishesInstantly() {
+        Player paper = Player.builder().withName("A").withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .build();
+        Player rock = Player.builder().withName("B").withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+
+        Game actual = Game.builder()
+                .addPlayer1(paper)
+                .addPlayer2(rock)
+                .numberOfRounds(Integer.MAX_VALUE)
+                .roundHistory(RoundHistoryMode.NONE)
+                .play();
+
+        assertThat(actual.getScoreboard().getPlayer1Score()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(actual.getWinner()).isSameAs(paper);
+        assertThat(actual.getStatistics().getPlayer1LongestWinningStreak()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(actual.getStatistics().getPlayer2ShapeCount(ShapeType.ROCK)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(paper.getTotalScore()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSequences")
+    void fastForwardedGameOfSequenceStrategiesEqualsGamePlayedRoundByRound(String sequence1, String sequence2,
+                                                                           int numberOfRounds) {
+        SequenceStrategy strategy1 = SequenceStrategy.parse(sequence1);
+        SequenceStrategy strategy2 = SequenceStrategy.parse(sequence2);
+        Game fastForwarded = sequenceGame(strategy1, SequenceStrategy.parse(sequence2), numberOfRounds).play();
+        SequenceStrategy playedStrategy1 = SequenceStrategy.parse(sequence1);
+        Game played = sequenceGame(playedStrategy1, strategy2, numberOfRounds).fastForward(false).play();
+
+        assertThat(fastForwarded.getScoreboard().getPlayer1Score())
+                .isEqualTo(played.getScoreboard().getPlayer1Score());
+        assertThat(fastForwarded.getScoreboard().getPlayer2Score())
+                .isEqualTo(played.getScoreboard().getPlayer2Score());
+        assertThat(fastForwarded.getNumberOfDraws()).isEqualTo(played.getNumberOfDraws());
+        assertThat(fastForwarded.getStatistics()).usingRecursiveComparison().isEqualTo(played.getStatistics());
+        assertThat(strategy1.saveState()).isEqualTo(playedStrategy1.saveState());
+    }
+
+    public static Stream<Arguments> provideSequences() {
+        return Stream.of(
+                Arguments.of("R,R,P,S", "P,S,R", 1_000_003),
+                Arguments.of("R,P", "S", 10_001),
+                Arguments.of("P", "R,R,R", 999_999),
+                Arguments.of("R,S,S,P,R", "S,P,R,P,S,R,R", 77_777),
+                Arguments.of("R,R,P,S", "R,R,P,S", 50),
+                Arguments.of("R,P,R,P", "S", 9)
+        );
+    }
+
+    @Test
+    void billionRoundGameOfSequenceStrategiesFinishesInstantly() {
+        Game actual = sequenceGame(SequenceStrategy.parse("R,R,P,S"), SequenceStrategy.parse("P,S,R"),
+                                   1_000_000_000).play();
+
+        // the joint cycle of 12 rounds has 4 wins of each player and 4 draws, the 4 rounds left over after
+        // 83333333 cycles are won 3 times by the first and once by the second player
+        assertThat(actual.getScoreboard().getPlayer1Score()).isEqualTo(333_333_335);
+        assertThat(actual.getScoreboard().getPlayer2Score()).isEqualTo(333_333_333);
+        assertThat(actual.getNumberOfDraws()).isEqualTo(333_333_332);
+        assertThat(actual.getStatistics().getPlayer1ShapeCount(ShapeType.ROCK)).isEqualTo(500_000_000);
+    }
+
+    private static Game.Builder sequenceGame(PlayerStrategy strategy1, PlayerStrategy strategy2, int numberOfRounds) {
+        return Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(strategy1).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(strategy2).build())
+                .numberOfRounds(numberOfRounds)
+                .roundHistory(RoundHistoryMode.NONE);
+    }
+
+    private static Game.Builder oneShapeGame(ShapeType type1, ShapeType type2) {
+        return Game.builder()
+                .addPlayer1(Player.builder().withName("A").withStrategy(new OneShapeStrategy(Shape.of(type1))).build())
+                .addPlayer2(Player.builder().withName("B").withStrategy(new OneShapeStrategy(Shape.of(type2))).build())
+                .numberOfRounds(2 * Game.BLOCK_SIZE + 7)
+                .roundHistory(RoundHistoryMode.NONE);
+    }
+
     private static Round drawRound() {
         Round round = mock(Round.class);
         RoundResult roundResult = mock(RoundResult.class);
@@ -164,4 +606,47 @@ class GameTest {
         when(round.getRoundResult()).thenReturn(roundResult);
         return round;
     }
-}
\ No newline at end of file
+
+    /**
+     * Strategy that simulates a crash of the JVM after a number of blocks.
+     */
+    private static final class CrashingStrategy implements CheckpointableStrategy {
+
+        private final RandomStrategy strategy;
+
+        private int remainingBlocks;
+
+        private CrashingStrategy(RandomStrategy strategy, int crashAfterBlocks) {
+            this.strategy = strategy;
+            this.remainingBlocks = crashAfterBlocks;
+        }
+
+        @Override
+        public Shape getNextShape() {
+            return strategy.getNextShape();
+        }
+
+        @Override
+        public void fillNextShapes(byte[] buffer, int offset, int length) {
+            if (remainingBlocks-- == 0) {
+                throw new IllegalStateException("Crash");
+            }
+            strategy.fillNextShapes(buffer, offset, length);
+        }
+
+        @Override
+        public long[] saveState() {
+            return strategy.saveState();
+        }
+
+        @Override
+        public void restoreState(long[] state) {
+            strategy.restoreState(state);
+        }
+
+        @Override
+        public String getStrategyName() {
+            return strategy.getStrategyName();
+        }
+    }
+}
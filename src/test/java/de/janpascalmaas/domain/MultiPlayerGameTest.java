@@ -0,0 +1,126 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiPlayerGameTest {
+
+    @Test
+    void playersOfTheWinningShapeWinEveryRound() {
+        Player rock1 = player("A", ShapeType.ROCK);
+        Player scissors = player("B", ShapeType.SCISSORS);
+        Player rock2 = player("C", ShapeType.ROCK);
+
+        MultiPlayerGame given = MultiPlayerGame.builder()
+                .addPlayer(rock1)
+                .addPlayer(scissors)
+                .addPlayer(rock2)
+                .numberOfRounds(1_000)
+                .play();
+
+        assertThat(given.getScores()).containsExactly(1_000, 0, 1_000);
+        assertThat(given.getScore(1)).isZero();
+        assertThat(given.getWinners()).containsExactly(rock1, rock2);
+        assertThat(given.getNumberOfDraws()).isZero();
+        assertThat(rock1.getTotalScore()).isEqualTo(1_000);
+        assertThat(given.getPlayers()).containsExactly(rock1, scissors, rock2);
+    }
+
+    @Test
+    void gameWithAllShapesInEveryRoundHasNoWinner() {
+        MultiPlayerGame given = MultiPlayerGame.builder()
+                .addPlayers(List.of(player("A", ShapeType.ROCK), player("B", ShapeType.PAPER),
+                                    player("C", ShapeType.SCISSORS)))
+                .numberOfRounds(300)
+                .play();
+
+        assertThat(given.getScores()).containsOnly(0);
+        assertThat(given.getNumberOfDraws()).isEqualTo(300);
+        assertThat(given.getWinners()).isEmpty();
+    }
+
+    @Test
+    void thousandsOfRandomPlayersShareTheDecidedRounds() {
+        RuleSet ruleSet = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        List<Player> players = IntStream.range(0, 2_000)
+                .mapToObj(i -> Player.builder()
+                        .withName("P" + i)
+                        .withStrategy(RandomStrategy.seeded(i, ruleSet))
+                        .build())
+                .toList();
+
+        MultiPlayerGame given = MultiPlayerGame.builder()
+                .addPlayers(players)
+                .ruleSet(ruleSet)
+                .numberOfRounds(1_000)
+                .play();
+
+        // with 2000 players every shape is played in practically every round, so nobody wins
+        assertThat(given.getNumberOfPlayers()).isEqualTo(2_000);
+        assertThat(given.getNumberOfDraws()).isEqualTo(1_000);
+        assertThat(given.getRuleSet()).isSameAs(ruleSet);
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfLessThanTwoPlayersAreAdded() {
+        assertThatThrownBy(() -> MultiPlayerGame.builder().addPlayer(player("A", ShapeType.ROCK)).numberOfRounds(1)
+                .play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("At least 2 players must be added to the game");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfNumberOfRoundsIsNotPositive() {
+        assertThatThrownBy(() -> MultiPlayerGame.builder()
+                .addPlayer(player("A", ShapeType.ROCK))
+                .addPlayer(player("B", ShapeType.PAPER))
+                .play())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of rounds must be greater than 0");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfPlayerIsAddedTwice() {
+        Player player = player("A", ShapeType.ROCK);
+
+        assertThatThrownBy(() -> MultiPlayerGame.builder().addPlayer(player).addPlayer(player))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Player A is already part of the game");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfStrategyIsAdaptive() {
+        Player player = Player.builder().withName("F").withStrategy(new FrequencyStrategy()).build();
+
+        assertThatThrownBy(() -> MultiPlayerGame.builder().addPlayer(player))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Strategy of player F does not support multi-player games");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfStrategyPlaysShapesOfAnotherRuleSet() {
+        Player spock = Player.builder().withName("S")
+                .withStrategy(new OneShapeStrategy(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getShape("SPOCK"))).build();
+
+        assertThatThrownBy(() -> MultiPlayerGame.builder().addPlayer(spock).addPlayer(player("A", ShapeType.ROCK))
+                .numberOfRounds(10).play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Strategy of player S plays shapes of rule set Rock Paper Scissors Lizard Spock instead of "
+                                    + "Rock Paper Scissors");
+    }
+
+    private static Player player(String name, ShapeType shape) {
+        return Player.builder().withName(name).withStrategy(new OneShapeStrategy(Shape.of(shape))).build();
+    }
+}
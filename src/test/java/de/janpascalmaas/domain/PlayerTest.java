@@ -3,6 +3,8 @@ package de.janpascalmaas.domain;
 import de.janpascalmaas.domain.strategy.PlayerStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -40,16 +42,16 @@ class PlayerTest {
     }
 
     @Test
-    void whenTheScoreIsIncrementedThenItIsRecordedCorrectly() {
+    void whenScoresAreAddedConcurrentlyThenTheTotalScoreIsRecordedCorrectly() {
         Player given = Player.builder()
                 .withName("Alice")
                 .withStrategy(mock(PlayerStrategy.class))
                 .build();
 
-        assertThat(given.getScore()).isZero();
+        assertThat(given.getTotalScore()).isZero();
 
-        given.incrementScore();
+        IntStream.range(0, 10_000).parallel().forEach(i -> given.addToTotalScore(2));
 
-        assertThat(given.getScore()).isOne();
+        assertThat(given.getTotalScore()).isEqualTo(20_000);
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package de.janpascalmaas.domain;
+
+import de.janpascalmaas.domain.round.RoundResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScoreboardTest {
+
+    private final Player player1 = mock(Player.class);
+
+    private final Player player2 = mock(Player.class);
+
+    @Test
+    void player1IsTheLeaderIfHisScoreIsHigherThanPlayer2() {
+        Scoreboard given = new Scoreboard(player1, player2, 2, 1);
+
+        assertThat(given.getLeader()).isEqualTo(player1);
+    }
+
+    @Test
+    void player2IsTheLeaderIfHisScoreIsHigherThanPlayer1() {
+        Scoreboard given = new Scoreboard(player1, player2, 1, 2);
+
+        assertThat(given.getLeader()).isEqualTo(player2);
+    }
+
+    @Test
+    void noPlayerIsTheLeaderIfTheScoresOfBothPlayersAreIdentical() {
+        Scoreboard given = new Scoreboard(player1, player2, 1, 1);
+
+        assertThat(given.getLeader()).isNull();
+    }
+
+    @Test
+    void winsAreRecordedForTheWinnerOfTheRoundAndDrawsAreIgnored() {
+        Scoreboard given = new Scoreboard(player1, player2);
+
+        given.record(new RoundResult(RoundResult.Outcome.WIN, player1));
+        given.record(new RoundResult(RoundResult.Outcome.WIN, player2));
+        given.record(new RoundResult(RoundResult.Outcome.WIN, player1));
+        given.record(new RoundResult(RoundResult.Outcome.DRAW, null));
+
+        assertThat(given.getPlayer1Score()).isEqualTo(2);
+        assertThat(given.getPlayer2Score()).isEqualTo(1);
+        assertThat(given.getScore(player1)).isEqualTo(2);
+        assertThat(given.getScore(player2)).isEqualTo(1);
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionForTheScoreOfAPlayerWhoIsNotPartOfTheGame() {
+        Scoreboard given = new Scoreboard(player1, player2);
+        Player other = mock(Player.class);
+        when(other.getName()).thenReturn("Carol");
+
+        assertThatThrownBy(() -> given.getScore(other))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Player Carol is not part of the game");
+    }
+}
@@ -0,0 +1,125 @@
+package de.janpascalmaas.domain.rating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EloLeaderboardTest {
+
+    @Test
+    void winnerOfEquallyRatedPlayersGainsHalfTheKFactor() {
+        EloLeaderboard given = EloLeaderboard.builder().build();
+
+        given.record("A", "B", 1);
+
+        assertThat(given.get("A").getRating()).isEqualTo(1516);
+        assertThat(given.get("B").getRating()).isEqualTo(1484);
+        assertThat(given.get("A").getMatches()).isEqualTo(1);
+        assertThat(given.size()).isEqualTo(2);
+    }
+
+    @Test
+    void drawMovesTheRatingsTowardsEachOther() {
+        EloLeaderboard given = EloLeaderboard.builder().kFactor(20).build();
+        given.record("A", "B", 1);
+        double ratingA = given.get("A").getRating();
+
+        given.record("A", "B", 0.5);
+
+        assertThat(given.get("A").getRating()).isLessThan(ratingA);
+        assertThat(given.get("A").getRating() + given.get("B").getRating()).isCloseTo(3000, within(1e-9));
+    }
+
+    @Test
+    void expectedScoreOfA400PointsStrongerPlayerIsTenToOne() {
+        assertThat(EloLeaderboard.expectedScore(1900, 1500)).isCloseTo(10.0 / 11, within(1e-12));
+        assertThat(EloLeaderboard.expectedScore(1500, 1500)).isEqualTo(0.5);
+    }
+
+    @Test
+    void topReturnsTheBestPlayersOrderedByRatingAndName() {
+        EloLeaderboard given = EloLeaderboard.builder().initialRating(1000).build();
+        given.record("C", "D", 1);
+        given.record("A", "E", 1);
+        given.record("B", "F", 0.5);
+
+        List<Rating> top = given.top(4);
+
+        assertThat(top).extracting(Rating::getName).containsExactly("A", "C", "B", "F");
+        assertThat(given.top(10)).hasSize(6);
+    }
+
+    @Test
+    void concurrentResultsAreNeitherLostNorChangeTheSumOfAllRatings() throws Exception {
+        EloLeaderboard given = EloLeaderboard.builder().build();
+        int players = 1_000;
+        int matchesPerThread = 20_000;
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < matchesPerThread; i++) {
+                        int player1 = random.nextInt(players);
+                        int player2 = (player1 + 1 + random.nextInt(players - 1)) % players;
+                        given.record("P" + player1, "P" + player2, random.nextInt(3) / 2.0);
+                    }
+                }));
+                // read the leaderboard while results are recorded
+                assertThat(given.top(10)).hasSizeLessThanOrEqualTo(10);
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        long matches = 0;
+        double sum = 0;
+        for (int player = 0; player < players; player++) {
+            Rating rating = given.get("P" + player);
+            matches += rating.getMatches();
+            sum += rating.getRating();
+        }
+        assertThat(matches).isEqualTo(2L * 8 * matchesPerThread);
+        assertThat(sum).isCloseTo(1500.0 * players, within(1e-6));
+        assertThat(given.top(1).get(0).getRating())
+                .isEqualTo(given.top(players).stream().mapToDouble(Rating::getRating).max().orElseThrow());
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfPlayerIsUnknown() {
+        assertThatThrownBy(() -> EloLeaderboard.builder().build().get("A"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Player A has not played any rated match");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfPlayerPlaysAgainstItself() {
+        assertThatThrownBy(() -> EloLeaderboard.builder().build().record("A", "A", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Player A can not play against itself");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfScoreIsOutOfRange() {
+        assertThatThrownBy(() -> EloLeaderboard.builder().build().record("A", "B", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Score must be between 0 and 1");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfKFactorIsNotPositive() {
+        assertThatThrownBy(() -> EloLeaderboard.builder().kFactor(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("K-factor must be greater than 0");
+    }
+}
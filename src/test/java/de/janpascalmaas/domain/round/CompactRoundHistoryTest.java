@@ -0,0 +1,96 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CompactRoundHistoryTest {
+
+    private final Player player1 = mock(Player.class);
+
+    private final Player player2 = mock(Player.class);
+
+    @Test
+    void roundsAreMaterialisedWithTheirShapesAndResults() {
+        CompactRoundHistory given = new CompactRoundHistory(player1, player2, 3);
+        given.add(round(1, ShapeType.ROCK, ShapeType.SCISSORS, new RoundResult(RoundResult.Outcome.WIN, player1)));
+        given.add(round(2, ShapeType.ROCK, ShapeType.PAPER, new RoundResult(RoundResult.Outcome.WIN, player2)));
+        given.add(round(3, ShapeType.SCISSORS, ShapeType.SCISSORS, new RoundResult(RoundResult.Outcome.DRAW, null)));
+
+        List<Round> actual = given.getRounds();
+
+        assertThat(actual).hasSize(3);
+        assertThat(actual).extracting(Round::getRoundNumber).containsExactly(1, 2, 3);
+        assertThat(actual).extracting(round -> round.getPlayer1Shape().getType())
+                .containsExactly(ShapeType.ROCK, ShapeType.ROCK, ShapeType.SCISSORS);
+        assertThat(actual).extracting(round -> round.getPlayer2Shape().getType())
+                .containsExactly(ShapeType.SCISSORS, ShapeType.PAPER, ShapeType.SCISSORS);
+        assertThat(actual).extracting(round -> round.getRoundResult().getOutcome())
+                .containsExactly(RoundResult.Outcome.WIN, RoundResult.Outcome.WIN, RoundResult.Outcome.DRAW);
+        assertThat(actual).extracting(round -> round.getRoundResult().getWinner())
+                .containsExactly(player1, player2, null);
+        assertThat(actual).allSatisfy(round -> {
+            assertThat(round.getPlayer1()).isSameAs(player1);
+            assertThat(round.getPlayer2()).isSameAs(player2);
+        });
+    }
+
+    @Test
+    void roundsSpanningSeveralWordsAreStoredCorrectly() {
+        int numberOfRounds = 100;
+        CompactRoundHistory given = new CompactRoundHistory(player1, player2, numberOfRounds);
+        ShapeType[] types = ShapeType.values();
+        for (int i = 0; i < numberOfRounds; i++) {
+            given.add(round(i + 1, types[i % 3], types[(i / 3) % 3], new RoundResult(RoundResult.Outcome.DRAW, null)));
+        }
+
+        for (int i = 0; i < numberOfRounds; i++) {
+            Round actual = given.getRound(i);
+            assertThat(actual.getPlayer1Shape().getType()).isEqualTo(types[i % 3]);
+            assertThat(actual.getPlayer2Shape().getType()).isEqualTo(types[(i / 3) % 3]);
+        }
+    }
+
+    @Test
+    void drawsAreCountedFromTheOutcomeColumn() {
+        CompactRoundHistory given = new CompactRoundHistory(player1, player2, 40);
+        for (int i = 0; i < 40; i++) {
+            RoundResult result = i % 4 == 0
+                    ? new RoundResult(RoundResult.Outcome.DRAW, null)
+                    : new RoundResult(RoundResult.Outcome.WIN, player1);
+            given.add(round(i + 1, ShapeType.ROCK, ShapeType.ROCK, result));
+        }
+
+        assertThat(given.size()).isEqualTo(40);
+        assertThat(given.getNumberOfDraws()).isEqualTo(10);
+    }
+
+    @Test
+    void addingMoreRoundsThanTheCapacityThrowsAnIllegalStateException() {
+        CompactRoundHistory given = new CompactRoundHistory(player1, player2, 0);
+
+        assertThatThrownBy(() -> given.add(
+                round(1, ShapeType.ROCK, ShapeType.ROCK, new RoundResult(RoundResult.Outcome.DRAW, null))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Round history is full");
+    }
+
+    @Test
+    void readingARoundOutOfBoundsThrowsAnIndexOutOfBoundsException() {
+        CompactRoundHistory given = new CompactRoundHistory(player1, player2, 1);
+
+        assertThatThrownBy(() -> given.getRound(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private Round round(int roundNumber, ShapeType player1Shape, ShapeType player2Shape, RoundResult result) {
+        return new Round(roundNumber, player1, Shape.of(player1Shape), player2, Shape.of(player2Shape), result);
+    }
+}
@@ -0,0 +1,116 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiPlayerRoundBlockTest {
+
+    @Test
+    void histogramEvaluationAgreesWithComparingAllPairsOfPlayers() {
+        for (RuleSet ruleSet : List.of(RuleSet.CLASSIC, RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK,
+                                       RuleSet.balanced("Fifteen", shapeNames(15)))) {
+            List<Player> players = IntStream.range(0, 9)
+                    .mapToObj(i -> Player.builder()
+                            .withName("P" + i)
+                            .withStrategy(RandomStrategy.seeded(i, ruleSet))
+                            .build())
+                    .toList();
+            MultiPlayerRoundBlock given = new MultiPlayerRoundBlock(players, 500, ruleSet);
+
+            given.play(1, 500);
+
+            long[] scores = new long[players.size()];
+            given.addScores(scores);
+            long[] expectedScores = new long[players.size()];
+            int expectedDraws = 0;
+            for (int i = 0; i < given.size(); i++) {
+                boolean draw = true;
+                for (int player = 0; player < players.size(); player++) {
+                    boolean wins = winsPairwise(given, ruleSet, player, i);
+                    assertThat(given.isWinner(player, i)).isEqualTo(wins);
+                    expectedScores[player] += wins ? 1 : 0;
+                    draw &= !wins;
+                }
+                expectedDraws += draw ? 1 : 0;
+            }
+            assertThat(scores).containsExactly(expectedScores);
+            assertThat(given.getNumberOfDraws()).isEqualTo(expectedDraws);
+        }
+    }
+
+    @Test
+    void roundIsWonByAllPlayersOfTheWinningShape() {
+        List<Player> players = List.of(player("A", ShapeType.ROCK), player("B", ShapeType.SCISSORS),
+                                       player("C", ShapeType.ROCK), player("D", ShapeType.SCISSORS));
+        MultiPlayerRoundBlock given = new MultiPlayerRoundBlock(players, 4, RuleSet.CLASSIC);
+
+        given.play(7, 3);
+
+        long[] scores = new long[4];
+        given.addScores(scores);
+        assertThat(given.getFirstRoundNumber()).isEqualTo(7);
+        assertThat(given.size()).isEqualTo(3);
+        assertThat(given.getShape(1, 0)).isEqualTo(ShapeType.SCISSORS.ordinal());
+        assertThat(given.getPlayedShapes(0))
+                .isEqualTo(1L << ShapeType.ROCK.ordinal() | 1L << ShapeType.SCISSORS.ordinal());
+        assertThat(given.getWinningShapes(0)).isEqualTo(1L << ShapeType.ROCK.ordinal());
+        assertThat(scores).containsExactly(3, 0, 3, 0);
+        assertThat(given.getNumberOfDraws()).isZero();
+    }
+
+    @Test
+    void roundIsADrawIfAllShapesArePlayed() {
+        List<Player> players = List.of(player("A", ShapeType.ROCK), player("B", ShapeType.PAPER),
+                                       player("C", ShapeType.SCISSORS), player("D", ShapeType.ROCK));
+        MultiPlayerRoundBlock given = new MultiPlayerRoundBlock(players, 2, RuleSet.CLASSIC);
+
+        given.play(1, 2);
+
+        long[] scores = new long[4];
+        given.addScores(scores);
+        assertThat(scores).containsOnly(0);
+        assertThat(given.getNumberOfDraws()).isEqualTo(2);
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfMoreRoundsThanTheCapacityArePlayed() {
+        MultiPlayerRoundBlock given = new MultiPlayerRoundBlock(
+                List.of(player("A", ShapeType.ROCK), player("B", ShapeType.PAPER)), 2, RuleSet.CLASSIC);
+
+        assertThatThrownBy(() -> given.play(1, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length must be between 1 and 2");
+    }
+
+    private static boolean winsPairwise(MultiPlayerRoundBlock block, RuleSet ruleSet, int player, int index) {
+        int shape = block.getShape(player, index);
+        boolean beatsAnother = false;
+        for (int other = 0; other < block.getNumberOfPlayers(); other++) {
+            int otherShape = block.getShape(other, index);
+            if (ruleSet.beats(otherShape, shape)) {
+                return false;
+            }
+            beatsAnother |= ruleSet.beats(shape, otherShape);
+        }
+        return beatsAnother;
+    }
+
+    private static String[] shapeNames(int numberOfShapes) {
+        return IntStream.range(0, numberOfShapes).mapToObj(i -> "S" + i).toArray(String[]::new);
+    }
+
+    private static Player player(String name, ShapeType shape) {
+        return Player.builder().withName(name).withStrategy(new OneShapeStrategy(Shape.of(shape))).build();
+    }
+}
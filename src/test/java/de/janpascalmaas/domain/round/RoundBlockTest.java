@@ -0,0 +1,129 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoundBlockTest {
+
+    @Test
+    void allPairsOfShapesAreEvaluatedLikeSingleRounds() {
+        Player player1 = player("A", ShapeType.ROCK, ShapeType.ROCK, ShapeType.ROCK, ShapeType.PAPER, ShapeType.PAPER,
+                                ShapeType.PAPER, ShapeType.SCISSORS, ShapeType.SCISSORS, ShapeType.SCISSORS);
+        Player player2 = player("B", ShapeType.ROCK, ShapeType.PAPER, ShapeType.SCISSORS, ShapeType.ROCK,
+                                ShapeType.PAPER, ShapeType.SCISSORS, ShapeType.ROCK, ShapeType.PAPER,
+                                ShapeType.SCISSORS);
+        RoundBlock given = new RoundBlock(player1, player2, 16);
+
+        given.play(5, 9);
+
+        assertThat(given.size()).isEqualTo(9);
+        assertThat(given.getFirstRoundNumber()).isEqualTo(5);
+        for (int i = 0; i < given.size(); i++) {
+            Shape shape1 = Shape.of(given.getPlayer1Shape(i));
+            Shape shape2 = Shape.of(given.getPlayer2Shape(i));
+            int expected = shape1.beats(shape2) ? RoundBlock.PLAYER1_WIN
+                    : shape2.beats(shape1) ? RoundBlock.PLAYER2_WIN : RoundBlock.DRAW;
+            assertThat(given.getOutcome(i)).isEqualTo(expected);
+        }
+        assertThat(given.count(RoundBlock.DRAW)).isEqualTo(3);
+        assertThat(given.count(RoundBlock.PLAYER1_WIN)).isEqualTo(3);
+        assertThat(given.count(RoundBlock.PLAYER2_WIN)).isEqualTo(3);
+    }
+
+    @Test
+    void roundsAreMaterialisedWithTheirNumberShapesAndResult() {
+        Player player1 = player("A", ShapeType.ROCK, ShapeType.PAPER);
+        Player player2 = player("B", ShapeType.SCISSORS, ShapeType.PAPER);
+        RoundBlock given = new RoundBlock(player1, player2, 2);
+
+        given.play(11, 2);
+
+        Round first = given.getRound(0);
+        assertThat(first.getRoundNumber()).isEqualTo(11);
+        assertThat(first.getPlayer1()).isSameAs(player1);
+        assertThat(first.getPlayer1Shape()).isEqualTo(Shape.of(ShapeType.ROCK));
+        assertThat(first.getPlayer2Shape()).isEqualTo(Shape.of(ShapeType.SCISSORS));
+        assertThat(first.getRoundResult().getWinner()).isSameAs(player1);
+        Round second = given.getRound(1);
+        assertThat(second.getRoundNumber()).isEqualTo(12);
+        assertThat(second.getRoundResult().getOutcome()).isEqualTo(RoundResult.Outcome.DRAW);
+    }
+
+    @Test
+    void materialisedRoundsShareTheirResults() {
+        Player player1 = player("A", ShapeType.ROCK, ShapeType.PAPER, ShapeType.ROCK, ShapeType.SCISSORS);
+        Player player2 = player("B", ShapeType.SCISSORS, ShapeType.PAPER, ShapeType.SCISSORS, ShapeType.SCISSORS);
+        RoundBlock given = new RoundBlock(player1, player2, 4);
+
+        given.play(1, 4);
+
+        assertThat(given.getRound(2).getRoundResult()).isSameAs(given.getRound(0).getRoundResult());
+        assertThat(given.getRound(1).getRoundResult()).isSameAs(RoundResult.DRAW);
+        assertThat(given.getRound(3).getRoundResult()).isSameAs(RoundResult.DRAW);
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfMoreRoundsThanTheCapacityArePlayed() {
+        RoundBlock given = new RoundBlock(player("A", ShapeType.ROCK), player("B", ShapeType.ROCK), 1);
+
+        assertThatThrownBy(() -> given.play(1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length must be between 1 and 1");
+    }
+
+    @Test
+    void readingARoundOutOfBoundsThrowsAnIndexOutOfBoundsException() {
+        RoundBlock given = new RoundBlock(player("A", ShapeType.ROCK), player("B", ShapeType.ROCK), 4);
+        given.play(1, 1);
+
+        assertThatThrownBy(() -> given.getRound(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void adaptiveStrategyLearnsFromEveryRoundOfTheBlock() {
+        Player player1 = Player.builder().withName("A").withStrategy(new FrequencyStrategy()).build();
+        Player player2 = player("B", ShapeType.SCISSORS, ShapeType.SCISSORS, ShapeType.SCISSORS);
+        RoundBlock given = new RoundBlock(player1, player2, 3);
+
+        given.play(1, 3);
+
+        assertThat(given.getPlayer1Shape(0)).isEqualTo(ShapeType.PAPER.ordinal());
+        assertThat(given.getPlayer1Shape(1)).isEqualTo(ShapeType.ROCK.ordinal());
+        assertThat(given.getPlayer1Shape(2)).isEqualTo(ShapeType.ROCK.ordinal());
+        assertThat(given.count(RoundBlock.PLAYER1_WIN)).isEqualTo(2);
+    }
+
+    @Test
+    void adaptiveStrategyReactsWithinTheBlock() {
+        Player player1 = player("A", ShapeType.PAPER, ShapeType.PAPER, ShapeType.PAPER);
+        Player player2 = Player.builder().withName("B").withStrategy(new FrequencyStrategy()).build();
+        RoundBlock given = new RoundBlock(player1, player2, 3);
+
+        given.play(1, 3);
+
+        assertThat(given.getPlayer2Shape(0)).isEqualTo(ShapeType.PAPER.ordinal());
+        assertThat(given.getPlayer2Shape(1)).isEqualTo(ShapeType.SCISSORS.ordinal());
+        assertThat(given.getPlayer2Shape(2)).isEqualTo(ShapeType.SCISSORS.ordinal());
+    }
+
+    private static Player player(String name, ShapeType first, ShapeType... next) {
+        PlayerStrategy strategy = mock(PlayerStrategy.class, CALLS_REAL_METHODS);
+        Shape[] nextShapes = new Shape[next.length];
+        for (int i = 0; i < next.length; i++) {
+            nextShapes[i] = Shape.of(next[i]);
+        }
+        when(strategy.getNextShape()).thenReturn(Shape.of(first), nextShapes);
+        return Player.builder().withName(name).withStrategy(strategy).build();
+    }
+}
@@ -0,0 +1,121 @@
+package de.janpascalmaas.domain.round;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RoundEvaluatorTest {
+
+    @Test
+    void vectorisedEvaluatorIsUsedIfTheIncubatorModuleIsAdded() {
+        // the default surefire execution adds jdk.incubator.vector, the scalar one does not
+        if (RoundEvaluator.isVectorised()) {
+            assertThat(RoundEvaluator.create()).isSameAs(RoundEvaluator.vectorised());
+        } else {
+            assertThat(RoundEvaluator.create()).isSameAs(RoundEvaluator.scalar());
+            assertThatThrownBy(RoundEvaluator::vectorised)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Module jdk.incubator.vector is not available, "
+                                        + "add it with --add-modules jdk.incubator.vector");
+        }
+    }
+
+    @Test
+    void allPairsOfShapesAreEvaluatedAccordingToTheRules() {
+        byte[] player1Shapes = {0, 0, 0, 1, 1, 1, 2, 2, 2};
+        byte[] player2Shapes = {0, 1, 2, 0, 1, 2, 0, 1, 2};
+        byte[] expected = {
+                RoundBlock.DRAW, RoundBlock.PLAYER2_WIN, RoundBlock.PLAYER1_WIN,
+                RoundBlock.PLAYER1_WIN, RoundBlock.DRAW, RoundBlock.PLAYER2_WIN,
+                RoundBlock.PLAYER2_WIN, RoundBlock.PLAYER1_WIN, RoundBlock.DRAW};
+
+        for (RoundEvaluator evaluator : new RoundEvaluator[]{RoundEvaluator.scalar(), RoundEvaluator.create()}) {
+            byte[] outcomes = new byte[9];
+            long[] counts = new long[3];
+
+            evaluator.evaluate(player1Shapes, player2Shapes, outcomes, 9, counts);
+
+            assertThat(outcomes).isEqualTo(expected);
+            assertThat(counts).containsExactly(3, 3, 3);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 31, 64, 1000, 70_000})
+    void vectorisedEvaluatorAgreesWithTheScalarEvaluator(int length) {
+        assumeTrue(RoundEvaluator.isVectorised(), "jdk.incubator.vector is not added");
+        Random random = new Random(length);
+        byte[] player1Shapes = new byte[length];
+        byte[] player2Shapes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            player1Shapes[i] = (byte) random.nextInt(3);
+            player2Shapes[i] = (byte) random.nextInt(3);
+        }
+        byte[] scalarOutcomes = new byte[length];
+        long[] scalarCounts = new long[3];
+        byte[] vectorOutcomes = new byte[length];
+        long[] vectorCounts = new long[3];
+        long[] countsOnly = new long[3];
+
+        RoundEvaluator.scalar().evaluate(player1Shapes, player2Shapes, scalarOutcomes, length, scalarCounts);
+        RoundEvaluator.vectorised().evaluate(player1Shapes, player2Shapes, vectorOutcomes, length, vectorCounts);
+        RoundEvaluator.vectorised().count(player1Shapes, player2Shapes, length, countsOnly);
+
+        assertThat(vectorOutcomes).isEqualTo(scalarOutcomes);
+        assertThat(vectorCounts).isEqualTo(scalarCounts);
+        assertThat(countsOnly).isEqualTo(scalarCounts);
+        assertThat(scalarCounts[0] + scalarCounts[1] + scalarCounts[2]).isEqualTo(length);
+    }
+
+    @Test
+    void countsAreAddedToTheGivenCounts() {
+        long[] counts = {1, 2, 3};
+
+        RoundEvaluator.scalar().count(new byte[]{1}, new byte[]{0}, 1, counts);
+
+        assertThat(counts).containsExactly(1, 3, 3);
+    }
+
+    @Test
+    void classicRuleSetUsesTheDefaultEvaluator() {
+        assertThat(RoundEvaluator.of(RuleSet.CLASSIC)).isSameAs(RoundEvaluator.create());
+    }
+
+    @Test
+    void ruleSetEvaluatorEvaluatesAllPairsOfShapesAccordingToTheBitmasks() {
+        RuleSet ruleSet = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        int n = ruleSet.size();
+        byte[] player1Shapes = new byte[n * n];
+        byte[] player2Shapes = new byte[n * n];
+        for (int i = 0; i < n * n; i++) {
+            player1Shapes[i] = (byte) (i / n);
+            player2Shapes[i] = (byte) (i % n);
+        }
+        byte[] outcomes = new byte[n * n];
+        long[] counts = new long[3];
+        long[] countsOnly = new long[3];
+
+        RoundEvaluator.of(ruleSet).evaluate(player1Shapes, player2Shapes, outcomes, n * n, counts);
+        RoundEvaluator.of(ruleSet).count(player1Shapes, player2Shapes, n * n, countsOnly);
+
+        for (int i = 0; i < n * n; i++) {
+            int expected = RoundBlock.DRAW;
+            if (ruleSet.getShape(player1Shapes[i]).beats(ruleSet.getShape(player2Shapes[i]))) {
+                expected = RoundBlock.PLAYER1_WIN;
+            } else if (ruleSet.getShape(player2Shapes[i]).beats(ruleSet.getShape(player1Shapes[i]))) {
+                expected = RoundBlock.PLAYER2_WIN;
+            }
+            assertThat(outcomes[i]).isEqualTo((byte) expected);
+        }
+        assertThat(counts).containsExactly(5, 10, 10);
+        assertThat(countsOnly).isEqualTo(counts);
+    }
+}
@@ -2,6 +2,9 @@ package de.janpascalmaas.domain.round;
 
 import de.janpascalmaas.domain.Player;
 import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.AdaptiveStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -14,6 +17,19 @@ import static org.mockito.Mockito.*;
 
 class RoundTest {
 
+    @Test
+    void adaptiveStrategiesObserveTheShapesOfTheRound() {
+        AdaptiveStrategy strategy = mock(AdaptiveStrategy.class);
+        when(strategy.getNextShape()).thenReturn(Shape.of(ShapeType.PAPER));
+        Player adaptive = Player.builder().withName("A").withStrategy(strategy).build();
+        Player rock = Player.builder().withName("B").withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+
+        Round.builder().roundNumber(1).addPlayer1(rock).addPlayer2(adaptive).build();
+
+        verify(strategy).observe(ShapeType.PAPER.ordinal(), ShapeType.ROCK.ordinal());
+    }
+
     @Test
     void aRoundWithoutRoundNumberCanNotBeCreatedAndThrowsAnIllegalStateException() {
         assertThatThrownBy(() -> Round.builder().build())
@@ -139,8 +155,6 @@ class RoundTest {
         assertThat(actual.getRoundResult()).isNotNull()
                 .extracting(RoundResult::getOutcome, RoundResult::getWinner)
                 .isEqualTo(List.of(WIN, expectedPlayer1));
-        verify(expectedPlayer1).incrementScore();
-        verify(expectedPlayer2, never()).incrementScore();
     }
 
     @Test
@@ -173,8 +187,6 @@ class RoundTest {
         assertThat(actual.getRoundResult()).isNotNull()
                 .extracting(RoundResult::getOutcome, RoundResult::getWinner)
                 .isEqualTo(List.of(WIN, expectedPlayer2));
-        verify(expectedPlayer1, never()).incrementScore();
-        verify(expectedPlayer2).incrementScore();
     }
 
 }
\ No newline at end of file
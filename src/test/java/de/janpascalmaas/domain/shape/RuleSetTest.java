@@ -0,0 +1,218 @@
+package de.janpascalmaas.domain.shape;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleSetTest {
+
+    @Test
+    void classicRuleSetContainsTheShapeTypes() {
+        RuleSet given = RuleSet.CLASSIC;
+
+        assertThat(given.size()).isEqualTo(3);
+        assertThat(given.getShape(ShapeType.PAPER.ordinal())).isSameAs(Shape.of(ShapeType.PAPER));
+        assertThat(given.getShape("SCISSORS").getType()).isEqualTo(ShapeType.SCISSORS);
+        assertThat(given.getBeats(ShapeType.ROCK.ordinal())).isEqualTo(1L << ShapeType.SCISSORS.ordinal());
+    }
+
+    @Test
+    void spockSmashesScissorsAndVaporizesRock() {
+        RuleSet given = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        Shape spock = given.getShape("SPOCK");
+
+        assertThat(spock.beats(given.getShape("SCISSORS"))).isTrue();
+        assertThat(spock.beats(given.getShape("ROCK"))).isTrue();
+        assertThat(spock.beats(given.getShape("LIZARD"))).isFalse();
+        assertThat(spock.beats(given.getShape("PAPER"))).isFalse();
+        assertThat(spock.beats(spock)).isFalse();
+    }
+
+    @Test
+    void shapesBeatenByAShapeAreTheInverseOfTheShapesItBeats() {
+        RuleSet given = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        int rock = given.getShape("ROCK").getOrdinal();
+
+        assertThat(given.getBeatenBy(rock))
+                .isEqualTo(1L << given.getShape("PAPER").getOrdinal() | 1L << given.getShape("SPOCK").getOrdinal());
+    }
+
+    @Test
+    void roundOfManyPlayersIsWonByTheShapesBeatingAnotherShapeAndBeatenByNone() {
+        RuleSet given = RuleSet.CLASSIC;
+        long rock = 1L << ShapeType.ROCK.ordinal();
+        long paper = 1L << ShapeType.PAPER.ordinal();
+        long scissors = 1L << ShapeType.SCISSORS.ordinal();
+
+        assertThat(given.winners(rock)).isZero();
+        assertThat(given.winners(rock | scissors)).isEqualTo(rock);
+        assertThat(given.winners(rock | paper)).isEqualTo(paper);
+        assertThat(given.winners(rock | paper | scissors)).isZero();
+    }
+
+    @Test
+    void roundOfManyPlayersIsADrawIfThePlayedShapesBeatEachOtherInACircle() {
+        RuleSet given = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        long rock = 1L << given.getShape("ROCK").getOrdinal();
+        long scissors = 1L << given.getShape("SCISSORS").getOrdinal();
+        long lizard = 1L << given.getShape("LIZARD").getOrdinal();
+        long spock = 1L << given.getShape("SPOCK").getOrdinal();
+
+        assertThat(given.winners(rock | scissors | lizard)).isEqualTo(rock);
+        assertThat(given.winners(rock | lizard | spock)).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 7, 9, 15, 63})
+    void balancedRuleSetsLetEveryShapeBeatHalfOfTheOthers(int numberOfShapes) {
+        String[] names = new String[numberOfShapes];
+        for (int i = 0; i < numberOfShapes; i++) {
+            names[i] = "S" + i;
+        }
+
+        RuleSet actual = RuleSet.balanced("RPS-" + numberOfShapes, names);
+
+        for (int i = 0; i < numberOfShapes; i++) {
+            assertThat(Long.bitCount(actual.getBeats(i))).isEqualTo((numberOfShapes - 1) / 2);
+            for (int j = 0; j < numberOfShapes; j++) {
+                assertThat(actual.beats(i, j) && actual.beats(j, i)).isFalse();
+                assertThat(actual.beats(i, j) || actual.beats(j, i)).isEqualTo(i != j);
+            }
+        }
+    }
+
+    @Test
+    void balancedRuleSetOfRockPaperScissorsIsTheClassicGame() {
+        RuleSet actual = RuleSet.balanced("Classic", "ROCK", "PAPER", "SCISSORS");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(actual.getBeats(i)).isEqualTo(RuleSet.CLASSIC.getBeats(i));
+        }
+    }
+
+    @Test
+    void ruleSetIsLoadedFromTextFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("lizard-spock.rules");
+        Files.write(file, List.of(
+                "# Rock Paper Scissors Lizard Spock",
+                "ROCK beats SCISSORS LIZARD",
+                "PAPER beats ROCK SPOCK",
+                "",
+                "SCISSORS beats PAPER LIZARD",
+                "LIZARD beats PAPER SPOCK",
+                "SPOCK beats ROCK SCISSORS"));
+
+        RuleSet actual = RuleSet.load(file);
+
+        assertThat(actual.getName()).isEqualTo("lizard-spock");
+        assertThat(actual.size()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(actual.getBeats(i)).isEqualTo(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getBeats(i));
+        }
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfLineIsMalformed() {
+        assertThatThrownBy(() -> RuleSet.parse("Broken", List.of("ROCK SCISSORS")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected <shape> beats <shapes> but found: ROCK SCISSORS");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfNumberOfShapesIsEven() {
+        assertThatThrownBy(() -> RuleSet.balanced("Even", "A", "B", "C", "D"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set must have an odd number of shapes to be balanced");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfRuleSetHasTooManyShapes() {
+        String[] names = new String[65];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "S" + i;
+        }
+
+        assertThatThrownBy(() -> RuleSet.balanced("Huge", names))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set must have between 3 and 64 shapes");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfRuleSetIsNotBalanced() {
+        RuleSet.Builder given = RuleSet.builder("Unbalanced")
+                .shape("A", "B", "C")
+                .shape("B", "C")
+                .shape("C");
+
+        assertThatThrownBy(given::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set is not balanced: shape A beats 2 shapes instead of 1");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapesBeatEachOther() {
+        RuleSet.Builder given = RuleSet.builder("Mutual")
+                .shape("A", "B")
+                .shape("B", "A")
+                .shape("C");
+
+        assertThatThrownBy(given::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shapes A and B must not beat each other");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapeBeatsItselfOrUnknownShape() {
+        assertThatThrownBy(() -> RuleSet.builder("Self").shape("A", "A").shape("B").shape("C").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shape A must not beat itself");
+        assertThatThrownBy(() -> RuleSet.builder("Unknown").shape("A", "X").shape("B").shape("C").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shape A beats unknown shape X");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapeIsDefinedTwiceOrHasInvalidName() {
+        assertThatThrownBy(() -> RuleSet.builder("Twice").shape("A").shape("A"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shape A is defined twice");
+        assertThatThrownBy(() -> RuleSet.builder("Invalid").shape("A B"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid shape name A B");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapeIsUnknown() {
+        assertThatThrownBy(() -> RuleSet.CLASSIC.getShape("SPOCK"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape SPOCK");
+    }
+
+    @Test
+    void shapesAreFoundByNameOrUnambiguousPrefixIgnoringCase() {
+        RuleSet given = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+
+        assertThat(given.findShape("lizard").getName()).isEqualTo("LIZARD");
+        assertThat(given.findShape("Sp").getName()).isEqualTo("SPOCK");
+        assertThat(RuleSet.balanced("Prefixes", "AB", "ABC", "A").findShape("a").getName()).isEqualTo("A");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapePrefixIsAmbiguousOrUnknown() {
+        assertThatThrownBy(() -> RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.findShape("S"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shape S is ambiguous in rule set Rock Paper Scissors Lizard Spock");
+        assertThatThrownBy(() -> RuleSet.CLASSIC.findShape("X"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape X");
+    }
+}
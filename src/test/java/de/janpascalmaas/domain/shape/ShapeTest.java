@@ -3,12 +3,13 @@ package de.janpascalmaas.domain.shape;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ShapeTest {
 
-    private final Shape rock = new Shape(ShapeType.ROCK);
-    private final Shape paper = new Shape(ShapeType.PAPER);
-    private final Shape scissors = new Shape(ShapeType.SCISSORS);
+    private final Shape rock = Shape.of(ShapeType.ROCK);
+    private final Shape paper = Shape.of(ShapeType.PAPER);
+    private final Shape scissors = Shape.of(ShapeType.SCISSORS);
 
     @Test
     void shapeOfTypeRockBeatsScissors() {
@@ -73,4 +74,38 @@ class ShapeTest {
                 .isFalse();
     }
 
-}
\ No newline at end of file
+    @Test
+    @SuppressWarnings("deprecation")
+    void constructedShapeEqualsCanonicalShape() {
+        Shape constructed = new Shape(ShapeType.ROCK);
+
+        assertThat(constructed).isEqualTo(rock);
+        assertThat(constructed).hasSameHashCodeAs(rock);
+        assertThat(constructed.getRuleSet()).isSameAs(RuleSet.CLASSIC);
+        assertThat(constructed.getName()).isEqualTo("ROCK");
+    }
+
+    @Test
+    void canonicalShapesAreFlyweights() {
+        assertThat(Shape.of(ShapeType.ROCK)).isSameAs(rock);
+        assertThat(Shape.of(ShapeType.PAPER.ordinal())).isSameAs(paper);
+        assertThat(RuleSet.CLASSIC.getShape("SCISSORS")).isSameAs(scissors);
+    }
+
+    @Test
+    void shapesOfOtherRuleSetsAreNotEqualToClassicShapes() {
+        Shape lizardRock = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getShape("ROCK");
+
+        assertThat(lizardRock).isNotEqualTo(rock);
+        assertThat(lizardRock.getOrdinal()).isEqualTo(rock.getOrdinal());
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfShapeOfOtherRuleSetHasNoType() {
+        Shape spock = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getShape("SPOCK");
+
+        assertThatThrownBy(spock::getType)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Shape SPOCK of rule set Rock Paper Scissors Lizard Spock has no classic type");
+    }
+}
@@ -0,0 +1,65 @@
+package de.janpascalmaas.domain.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EstimateTest {
+
+    @Test
+    void batchesAreMergedIntoTheSameMeanAndVarianceAsSingleGames() {
+        Estimate batched = new Estimate();
+        batched.add(10, 3);
+        batched.add(30, 21);
+        Estimate single = new Estimate();
+        for (int i = 0; i < 40; i++) {
+            single.add(1, i < 24 ? 1 : 0);
+        }
+
+        assertThat(batched.getCount()).isEqualTo(40);
+        assertThat(batched.getMean()).isCloseTo(0.6, within(1e-12));
+        assertThat(batched.getVariance()).isCloseTo(single.getVariance(), within(1e-12));
+        assertThat(batched.getVariance()).isCloseTo(24 * 16 / 40.0 / 39, within(1e-12));
+    }
+
+    @Test
+    void confidenceIntervalDoesNotCollapseIfTheOutcomeNeverOccurred() {
+        Estimate given = new Estimate();
+        given.add(100, 0);
+
+        ConfidenceInterval actual = given.getConfidenceInterval(0.95);
+
+        assertThat(actual.getLower()).isZero();
+        assertThat(actual.getUpper()).isCloseTo(0.037, within(0.001));
+    }
+
+    @Test
+    void confidenceIntervalNarrowsWithMoreGames() {
+        Estimate given = new Estimate();
+        given.add(100, 50);
+        double before = given.getConfidenceInterval(0.95).getHalfWidth();
+
+        given.add(9_900, 4_950);
+
+        assertThat(given.getConfidenceInterval(0.95).getHalfWidth()).isCloseTo(before / 10, within(0.001));
+        assertThat(given.getConfidenceInterval(0.95).getHalfWidth()).isCloseTo(0.0098, within(0.0001));
+    }
+
+    @Test
+    void zScoresOfCommonConfidenceLevels() {
+        assertThat(ConfidenceInterval.zScore(0.90)).isCloseTo(1.6449, within(1e-4));
+        assertThat(ConfidenceInterval.zScore(0.95)).isCloseTo(1.9600, within(1e-4));
+        assertThat(ConfidenceInterval.zScore(0.99)).isCloseTo(2.5758, within(1e-4));
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfConfidenceLevelIsOutOfRange() {
+        Estimate given = new Estimate();
+
+        assertThatThrownBy(() -> given.getConfidenceInterval(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Confidence level must be between 0 and 1 exclusive");
+    }
+}
@@ -0,0 +1,144 @@
+package de.janpascalmaas.domain.simulation;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimulationTest {
+
+    @Test
+    void throwIllegalArgumentExceptionIfSimulationIsCreatedWithZeroRounds() {
+        assertThatThrownBy(() -> Simulation.builder()
+                .player1("Rock", seed -> oneShape(ShapeType.ROCK))
+                .player2("Paper", seed -> oneShape(ShapeType.PAPER))
+                .maxGames(10)
+                .play())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of rounds per game must be greater than 0");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfSimulationIsCreatedWithZeroGames() {
+        assertThatThrownBy(() -> Simulation.builder()
+                .player1("Rock", seed -> oneShape(ShapeType.ROCK))
+                .player2("Paper", seed -> oneShape(ShapeType.PAPER))
+                .numberOfRoundsPerGame(10)
+                .play())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum number of games must be greater than 0");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfPlayer2IsMissing() {
+        assertThatThrownBy(() -> Simulation.builder()
+                .player1("Rock", seed -> oneShape(ShapeType.ROCK))
+                .numberOfRoundsPerGame(10)
+                .maxGames(10)
+                .play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Player 2 must be added to the simulation");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfConfidenceLevelIsOutOfRange() {
+        assertThatThrownBy(() -> Simulation.builder().confidenceLevel(1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Confidence level must be between 0 and 1 exclusive");
+    }
+
+    @Test
+    void playsAllGamesWithoutTargetPrecision() {
+        Simulation actual = Simulation.builder()
+                .player1("Rock", seed -> oneShape(ShapeType.ROCK))
+                .player2("Paper", seed -> oneShape(ShapeType.PAPER))
+                .numberOfRoundsPerGame(5)
+                .maxGames(250)
+                .batchSize(100)
+                .play();
+
+        assertThat(actual.getNumberOfGames()).isEqualTo(250);
+        assertThat(actual.getNumberOfBatches()).isEqualTo(3);
+        assertThat(actual.getPlayer2Wins()).isEqualTo(250);
+        assertThat(actual.getPlayer2WinRate().getMean()).isEqualTo(1.0);
+        assertThat(actual.getPlayer1WinRate().getMean()).isZero();
+        assertThat(actual.isStoppedEarly()).isFalse();
+    }
+
+    @Test
+    void stopsEarlyWhenClearlySeparatedStrategiesReachTheTargetPrecision() {
+        Simulation actual = Simulation.builder()
+                .player1("Rock", seed -> oneShape(ShapeType.ROCK))
+                .player2("Paper", seed -> oneShape(ShapeType.PAPER))
+                .numberOfRoundsPerGame(5)
+                .maxGames(1_000_000)
+                .batchSize(100)
+                .targetPrecision(0.02)
+                .play();
+
+        assertThat(actual.isStoppedEarly()).isTrue();
+        assertThat(actual.getNumberOfGames()).isLessThan(1_000);
+        assertThat(actual.getPrecision()).isLessThanOrEqualTo(0.02);
+    }
+
+    @Test
+    void estimatedWinRatesOfEqualStrategiesContainTheTrueRate() {
+        Simulation actual = Simulation.builder()
+                .player1("Random 1", seed -> RandomStrategy.seeded(seed, allShapes()))
+                .player2("Random 2", seed -> RandomStrategy.seeded(seed, allShapes()))
+                .numberOfRoundsPerGame(1)
+                .maxGames(100_000)
+                .targetPrecision(0.01)
+                .confidenceLevel(0.999)
+                .seed(7)
+                .play();
+
+        assertThat(actual.isStoppedEarly()).isTrue();
+        assertThat(actual.getPlayer1WinRate().getConfidenceInterval(0.999).contains(1.0 / 3)).isTrue();
+        assertThat(actual.getDrawRate().getConfidenceInterval(0.999).contains(1.0 / 3)).isTrue();
+        assertThat(actual.getPlayer2WinRate().getConfidenceInterval(0.999).contains(1.0 / 3)).isTrue();
+    }
+
+    @Test
+    void seededSimulationIsReproducibleWhateverTheNumberOfWorkers() {
+        Simulation sequential = seededSimulation(new ForkJoinPool(1));
+        Simulation parallel = seededSimulation(new ForkJoinPool(4));
+
+        assertThat(parallel.getNumberOfGames()).isEqualTo(sequential.getNumberOfGames());
+        assertThat(parallel.getPlayer1Wins()).isEqualTo(sequential.getPlayer1Wins());
+        assertThat(parallel.getDraws()).isEqualTo(sequential.getDraws());
+        assertThat(parallel.getPlayer2Wins()).isEqualTo(sequential.getPlayer2Wins());
+    }
+
+    private static Simulation seededSimulation(ForkJoinPool pool) {
+        try {
+            return Simulation.builder()
+                    .player1("Random", seed -> RandomStrategy.seeded(seed, allShapes()))
+                    .player2("Rock or Paper", seed -> RandomStrategy.seeded(
+                            seed, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER)))
+                    .numberOfRoundsPerGame(11)
+                    .maxGames(20_000)
+                    .batchSize(500)
+                    .targetPrecision(0.03)
+                    .seed(42)
+                    .pool(pool)
+                    .play();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static OneShapeStrategy oneShape(ShapeType type) {
+        return new OneShapeStrategy(Shape.of(type));
+    }
+
+    private static Shape[] allShapes() {
+        return new Shape[]{Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS)};
+    }
+}
@@ -0,0 +1,55 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrequencyStrategyTest {
+
+    @Test
+    void strategyPlaysPaperBeforeTheOpponentHasPlayed() {
+        assertThat(new FrequencyStrategy().getNextShape()).isSameAs(Shape.of(ShapeType.PAPER));
+    }
+
+    @Test
+    void strategyCountersTheMostFrequentShapeOfTheOpponent() {
+        FrequencyStrategy given = new FrequencyStrategy();
+
+        observe(given, ShapeType.ROCK, ShapeType.PAPER, ShapeType.PAPER, ShapeType.SCISSORS);
+
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.SCISSORS));
+    }
+
+    @Test
+    void strategyFollowsAChangingOpponent() {
+        FrequencyStrategy given = new FrequencyStrategy();
+        observe(given, ShapeType.SCISSORS, ShapeType.SCISSORS);
+
+        observe(given, ShapeType.ROCK, ShapeType.ROCK, ShapeType.ROCK);
+
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.PAPER));
+    }
+
+    @Test
+    void restoredStrategyPlaysLikeTheSavedOne() {
+        FrequencyStrategy original = new FrequencyStrategy();
+        observe(original, ShapeType.PAPER, ShapeType.SCISSORS, ShapeType.SCISSORS);
+        FrequencyStrategy restored = new FrequencyStrategy();
+
+        restored.restoreState(original.saveState());
+
+        assertThat(restored.getNextShape()).isSameAs(original.getNextShape());
+        assertThatThrownBy(() -> restored.restoreState(new long[1]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("State does not belong to a frequency strategy");
+    }
+
+    private static void observe(AdaptiveStrategy strategy, ShapeType... opponentShapes) {
+        for (ShapeType opponentShape : opponentShapes) {
+            strategy.observe(strategy.getNextShape().getType().ordinal(), opponentShape.ordinal());
+        }
+    }
+}
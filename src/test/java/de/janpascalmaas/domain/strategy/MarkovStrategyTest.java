@@ -0,0 +1,84 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarkovStrategyTest {
+
+    private static final ShapeType[] CYCLE = {ShapeType.ROCK, ShapeType.PAPER, ShapeType.SCISSORS};
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, MarkovStrategy.MAX_ORDER + 1})
+    void throwIllegalArgumentExceptionIfOrderIsOutOfRange(int order) {
+        assertThatThrownBy(() -> new MarkovStrategy(order))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Order must be between 1 and " + MarkovStrategy.MAX_ORDER);
+    }
+
+    @Test
+    void unseenContextFallsBackToTheFrequencyOfTheOpponentsShapes() {
+        MarkovStrategy given = new MarkovStrategy(2);
+
+        given.observe(0, ShapeType.PAPER.ordinal());
+
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.SCISSORS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5})
+    void strategyLearnsToBeatACyclingOpponent(int order) {
+        MarkovStrategy given = new MarkovStrategy(order);
+        for (int round = 0; round < 30; round++) {
+            given.observe(given.getNextShape().getType().ordinal(), CYCLE[round % CYCLE.length].ordinal());
+        }
+
+        for (int round = 30; round < 60; round++) {
+            ShapeType opponentShape = CYCLE[round % CYCLE.length];
+            Shape actual = given.getNextShape();
+            assertThat(actual.beats(Shape.of(opponentShape))).isTrue();
+            given.observe(actual.getType().ordinal(), opponentShape.ordinal());
+        }
+    }
+
+    @Test
+    void higherOrderDistinguishesContextsAFirstOrderChainMixesUp() {
+        // the opponent repeats R R P: after R comes R or P, but after R R always P and after P R always R
+        ShapeType[] pattern = {ShapeType.ROCK, ShapeType.ROCK, ShapeType.PAPER};
+        MarkovStrategy given = new MarkovStrategy(2);
+        for (int round = 0; round < 30; round++) {
+            given.observe(0, pattern[round % pattern.length].ordinal());
+        }
+
+        for (int round = 30; round < 60; round++) {
+            ShapeType opponentShape = pattern[round % pattern.length];
+            assertThat(given.getNextShape().beats(Shape.of(opponentShape))).isTrue();
+            given.observe(0, opponentShape.ordinal());
+        }
+    }
+
+    @Test
+    void restoredStrategyPlaysLikeTheSavedOne() {
+        MarkovStrategy original = new MarkovStrategy(3);
+        for (int round = 0; round < 20; round++) {
+            original.observe(0, CYCLE[round * 7 % CYCLE.length].ordinal());
+        }
+        MarkovStrategy restored = new MarkovStrategy(3);
+
+        restored.restoreState(original.saveState());
+
+        for (int round = 0; round < 20; round++) {
+            assertThat(restored.getNextShape()).isSameAs(original.getNextShape());
+            restored.observe(0, CYCLE[round % CYCLE.length].ordinal());
+            original.observe(0, CYCLE[round % CYCLE.length].ordinal());
+        }
+        assertThatThrownBy(() -> new MarkovStrategy(2).restoreState(original.saveState()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("State does not belong to a Markov strategy of order 2");
+    }
+}
@@ -10,34 +10,34 @@ class OneShapeStrategyTest {
 
     @Test
     void strategyOfTypePaperShouldAlwaysReturnPaper() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.PAPER));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.PAPER));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type PAPER")
-                .isEqualTo(new Shape(ShapeType.PAPER));
+                .isEqualTo(Shape.of(ShapeType.PAPER));
     }
 
     @Test
     void strategyOfTypeRockShouldAlwaysReturnRock() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.ROCK));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.ROCK));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type ROCK")
-                .isEqualTo(new Shape(ShapeType.ROCK));
+                .isEqualTo(Shape.of(ShapeType.ROCK));
     }
 
     @Test
     void strategyOfTypeScissorsShouldAlwaysReturnScissors() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.SCISSORS));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.SCISSORS));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type SCISSORS")
-                .isEqualTo(new Shape(ShapeType.SCISSORS));
+                .isEqualTo(Shape.of(ShapeType.SCISSORS));
     }
 
     @Test
     void strategyOfTypePaperShouldAlwaysBeNamedPaperStrategy() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.PAPER));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.PAPER));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("PAPER Strategy");
@@ -45,7 +45,7 @@ class OneShapeStrategyTest {
 
     @Test
     void strategyOfTypeRockShouldAlwaysBeNamedRockStrategy() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.ROCK));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.ROCK));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("ROCK Strategy");
@@ -53,9 +53,19 @@ class OneShapeStrategyTest {
 
     @Test
     void strategyOfTypeScissorsShouldAlwaysBeNamedScissorsStrategy() {
-        OneShapeStrategy strategy = new OneShapeStrategy(new Shape(ShapeType.SCISSORS));
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.SCISSORS));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("SCISSORS Strategy");
     }
-}
\ No newline at end of file
+
+    @Test
+    void filledShapesOfTypePaperShouldOnlyContainPaper() {
+        OneShapeStrategy strategy = new OneShapeStrategy(Shape.of(ShapeType.PAPER));
+        byte[] buffer = new byte[10];
+
+        strategy.fillNextShapes(buffer, 2, 5);
+
+        assertThat(buffer).containsExactly(0, 0, 1, 1, 1, 1, 1, 0, 0, 0);
+    }
+}
@@ -1,16 +1,21 @@
 package de.janpascalmaas.domain.strategy;
 
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 import de.janpascalmaas.domain.shape.ShapeType;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.Mockito.*;
 
 class RandomStrategyTest {
@@ -24,40 +29,40 @@ class RandomStrategyTest {
 
     @Test
     void strategyOfSingleTypePaperShouldAlwaysReturnPaper() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.PAPER));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.PAPER));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type PAPER")
-                .isEqualTo(new Shape(ShapeType.PAPER));
+                .isEqualTo(Shape.of(ShapeType.PAPER));
     }
 
     @Test
     void strategyOfTypeRockShouldAlwaysReturnRock() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.ROCK));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.ROCK));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type ROCK")
-                .isEqualTo(new Shape(ShapeType.ROCK));
+                .isEqualTo(Shape.of(ShapeType.ROCK));
     }
 
     @Test
     void strategyOfTypeScissorsShouldAlwaysReturnScissors() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.SCISSORS));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.SCISSORS));
 
         assertThat(strategy.getNextShape())
                 .as("Strategy should always return a shape of type SCISSORS")
-                .isEqualTo(new Shape(ShapeType.SCISSORS));
+                .isEqualTo(Shape.of(ShapeType.SCISSORS));
     }
 
     @Test
     void strategyWithAllShapeTypesShouldReturnEachAtLeastOnce() {
-        Supplier<Double> randomSupplier = Mockito.mock();
-        when(randomSupplier.get()).thenReturn(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9);
+        RandomGenerator randomGenerator = Mockito.mock();
+        when(randomGenerator.nextInt(3)).thenReturn(0, 0, 0, 1, 1, 1, 2, 2, 2);
         RandomStrategy given = new RandomStrategy(
-                randomSupplier,
-                new Shape(ShapeType.ROCK),
-                new Shape(ShapeType.PAPER),
-                new Shape(ShapeType.SCISSORS)
+                randomGenerator,
+                Shape.of(ShapeType.ROCK),
+                Shape.of(ShapeType.PAPER),
+                Shape.of(ShapeType.SCISSORS)
         );
 
         Set<Shape> actual = new HashSet<>();
@@ -68,16 +73,16 @@ class RandomStrategyTest {
         assertThat(actual)
                 .as("All shape types should be returned at least once")
                 .containsExactlyInAnyOrder(
-                        new Shape(ShapeType.ROCK),
-                        new Shape(ShapeType.PAPER),
-                        new Shape(ShapeType.SCISSORS));
+                        Shape.of(ShapeType.ROCK),
+                        Shape.of(ShapeType.PAPER),
+                        Shape.of(ShapeType.SCISSORS));
 
-        verify(randomSupplier, times(10)).get();
+        verify(randomGenerator, times(10)).nextInt(3);
     }
 
     @Test
     void strategyOfWithShapeScissorsShouldAlwaysBeNamedAccordingly() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.SCISSORS));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.SCISSORS));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("Random Strategy with shapes: SCISSORS");
@@ -85,7 +90,7 @@ class RandomStrategyTest {
 
     @Test
     void strategyOfWithShapePaperShouldAlwaysBeNamedAccordingly() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.PAPER));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.PAPER));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("Random Strategy with shapes: PAPER");
@@ -93,7 +98,7 @@ class RandomStrategyTest {
 
     @Test
     void strategyOfWithShapeRockShouldAlwaysBeNamedAccordingly() {
-        RandomStrategy strategy = new RandomStrategy(new Shape(ShapeType.ROCK));
+        RandomStrategy strategy = new RandomStrategy(Shape.of(ShapeType.ROCK));
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("Random Strategy with shapes: ROCK");
@@ -102,14 +107,144 @@ class RandomStrategyTest {
     @Test
     void strategyOfWithAllShapeTypesShouldAlwaysBeNamedAccordingly() {
         RandomStrategy strategy = new RandomStrategy(
-                new Shape(ShapeType.ROCK),
-                new Shape(ShapeType.PAPER),
-                new Shape(ShapeType.SCISSORS)
+                Shape.of(ShapeType.ROCK),
+                Shape.of(ShapeType.PAPER),
+                Shape.of(ShapeType.SCISSORS)
         );
 
         assertThat(strategy.getStrategyName())
                 .isEqualTo("Random Strategy with shapes: ROCK,PAPER,SCISSORS");
     }
 
+    @Test
+    void seededStrategiesWithTheSameSeedPlayTheSameShapes() {
+        assertThat(play(RandomStrategy.seeded(42, allShapes()), 1_000))
+                .containsExactlyElementsOf(play(RandomStrategy.seeded(42, allShapes()), 1_000));
+    }
+
+    @Test
+    void seededStrategiesWithDifferentSeedsPlayDifferentShapes() {
+        assertThat(play(RandomStrategy.seeded(42, allShapes()), 1_000))
+                .isNotEqualTo(play(RandomStrategy.seeded(43, allShapes()), 1_000));
+    }
+
+    @Test
+    void splitStrategiesAreReproducibleAndIndependentOfTheirParent() {
+        RandomStrategy parent = RandomStrategy.seeded(42, allShapes());
+        RandomStrategy child = parent.split();
+        RandomStrategy sameParent = RandomStrategy.seeded(42, allShapes());
+        RandomStrategy sameChild = sameParent.split();
+
+        List<Shape> childShapes = play(child, 1_000);
+
+        assertThat(childShapes).containsExactlyElementsOf(play(sameChild, 1_000));
+        assertThat(childShapes).isNotEqualTo(play(parent, 1_000));
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfTheGeneratorCanNotBeSplit() {
+        RandomStrategy given = new RandomStrategy(new NonSplittableGenerator(), allShapes());
+
+        assertThatThrownBy(given::split)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Random generator NonSplittableGenerator can not be split");
+    }
+
+    @Test
+    void filledShapesFollowTheSameSequenceAsSingleShapes() {
+        RandomStrategy single = RandomStrategy.seeded(42, allShapes());
+        RandomStrategy bulk = RandomStrategy.seeded(42, allShapes());
+        byte[] buffer = new byte[1_002];
+
+        bulk.fillNextShapes(buffer, 2, 1_000);
+
+        for (int i = 2; i < buffer.length; i++) {
+            assertThat(buffer[i]).isEqualTo((byte) single.getNextShape().getType().ordinal());
+        }
+    }
+
+    @Test
+    void filledShapesOnlyContainTheShapesOfTheStrategy() {
+        RandomStrategy given = new RandomStrategy(Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS));
+        byte[] buffer = new byte[1_000];
+
+        given.fillNextShapes(buffer, 0, buffer.length);
+
+        assertThat(buffer).containsOnly((byte) ShapeType.PAPER.ordinal(), (byte) ShapeType.SCISSORS.ordinal());
+    }
+
+    @Test
+    void restoredSeededStrategyContinuesWithTheSameMoves() {
+        RandomStrategy original = RandomStrategy.seeded(42, allShapes());
+        play(original, 17);
+        long[] state = original.saveState();
+        RandomStrategy restored = RandomStrategy.seeded(42, allShapes());
+
+        restored.restoreState(state);
+
+        assertThat(play(restored, 100)).isEqualTo(play(original, 100));
+        assertThat(restored.split().getNextShape()).isEqualTo(original.split().getNextShape());
+    }
 
-}
\ No newline at end of file
+    @Test
+    void stateIsRestoredWithoutDrawingTheRandomNumbersAgain() {
+        RandomStrategy given = RandomStrategy.seeded(42, allShapes());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> given.restoreState(new long[]{42, Long.MAX_VALUE, 0}));
+
+        assertThat(given.saveState()).containsExactly(42, Long.MAX_VALUE, 0);
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfStateBelongsToAnotherSeed() {
+        long[] state = RandomStrategy.seeded(1, allShapes()).saveState();
+        RandomStrategy given = RandomStrategy.seeded(2, allShapes());
+
+        assertThatThrownBy(() -> given.restoreState(state))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("State does not belong to a random strategy with seed 2");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfUnseededStrategyIsSaved() {
+        RandomStrategy given = new RandomStrategy(allShapes());
+
+        assertThatThrownBy(given::saveState)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Only seeded random strategies support checkpoints");
+    }
+
+    @Test
+    void strategyOfRuleSetPlaysAllShapesOfTheRuleSet() {
+        RandomStrategy given = RandomStrategy.seeded(7, RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK);
+
+        assertThat(new HashSet<>(play(given, 1_000)))
+                .containsExactlyInAnyOrder(RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getShapes());
+        assertThat(given.getStrategyName())
+                .isEqualTo("Random Strategy with shapes: ROCK,PAPER,SCISSORS,LIZARD,SPOCK");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapesBelongToDifferentRuleSets() {
+        assertThatThrownBy(() -> new RandomStrategy(Shape.of(ShapeType.ROCK),
+                                                    RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK.getShape("SPOCK")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("All shapes of a RandomStrategy must belong to the same rule set");
+    }
+
+    private static Shape[] allShapes() {
+        return new Shape[]{Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS)};
+    }
+
+    private static List<Shape> play(RandomStrategy strategy, int numberOfMoves) {
+        return IntStream.range(0, numberOfMoves).mapToObj(i -> strategy.getNextShape()).toList();
+    }
+
+    private static final class NonSplittableGenerator implements RandomGenerator {
+
+        @Override
+        public long nextLong() {
+            return 0;
+        }
+    }
+}
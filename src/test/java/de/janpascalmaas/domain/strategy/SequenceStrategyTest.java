@@ -0,0 +1,90 @@
+package de.janpascalmaas.domain.strategy;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequenceStrategyTest {
+
+    @Test
+    void sequenceIsPlayedOverAndOverAgain() {
+        SequenceStrategy given = SequenceStrategy.parse("R,R,P,S");
+
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.ROCK));
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.ROCK));
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.PAPER));
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.SCISSORS));
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.ROCK));
+        assertThat(given.getStrategyName()).isEqualTo("Sequence Strategy: ROCK,ROCK,PAPER,SCISSORS");
+    }
+
+    @Test
+    void filledShapesContinueTheSequence() {
+        SequenceStrategy given = SequenceStrategy.parse("rock, paper, scissors");
+        given.getNextShape();
+        byte[] buffer = new byte[9];
+
+        given.fillNextShapes(buffer, 1, 7);
+
+        assertThat(buffer).containsExactly(0, 1, 2, 0, 1, 2, 0, 1, 0);
+        assertThat(given.getNextShape()).isSameAs(Shape.of(ShapeType.SCISSORS));
+    }
+
+    @Test
+    void periodIsTheShortestRepeatedPartOfTheSequence() {
+        assertThat(SequenceStrategy.parse("R,R,P,S").getPeriod()).isEqualTo(4);
+        assertThat(SequenceStrategy.parse("R,P,R,P,R,P").getPeriod()).isEqualTo(2);
+        assertThat(SequenceStrategy.parse("S,S,S").getPeriod()).isEqualTo(1);
+        assertThat(SequenceStrategy.parse("R,P,R").getPeriod()).isEqualTo(3);
+    }
+
+    @Test
+    void positionInTheSequenceIsRestoredFromACheckpoint() {
+        SequenceStrategy original = SequenceStrategy.parse("R,P,S");
+        original.getNextShape();
+        SequenceStrategy restored = SequenceStrategy.parse("R,P,S");
+
+        restored.restoreState(original.saveState());
+
+        assertThat(restored.getNextShape()).isSameAs(Shape.of(ShapeType.PAPER));
+    }
+
+    @Test
+    void shapesOfOtherRuleSetsAreParsedByUnambiguousPrefix() {
+        RuleSet ruleSet = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+
+        SequenceStrategy given = SequenceStrategy.parse("L,SP,Sc", ruleSet);
+
+        assertThat(given.getNextShape()).isSameAs(ruleSet.getShape("LIZARD"));
+        assertThat(given.getNextShape()).isSameAs(ruleSet.getShape("SPOCK"));
+        assertThat(given.getNextShape()).isSameAs(ruleSet.getShape("SCISSORS"));
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfShapeIsAmbiguousOrUnknown() {
+        assertThatThrownBy(() -> SequenceStrategy.parse("R,S", RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shape S is ambiguous in rule set Rock Paper Scissors Lizard Spock");
+        assertThatThrownBy(() -> SequenceStrategy.parse("R,X"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rule set Rock Paper Scissors has no shape X");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfSequenceIsEmpty() {
+        assertThatThrownBy(() -> new SequenceStrategy())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sequence must contain at least one shape");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfStateDoesNotBelongToTheSequence() {
+        assertThatThrownBy(() -> SequenceStrategy.parse("R,P").restoreState(new long[]{2}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("State does not belong to a sequence strategy of length 2");
+    }
+}
@@ -0,0 +1,129 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.shape.RuleSet;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SwissTournamentTest {
+
+    @Test
+    void participantsWithSimilarStandingsMeetAndTheStrongerHalfEndsOnTop() {
+        SwissTournament.Builder builder = SwissTournament.builder().numberOfRoundsPerMatch(10);
+        for (int i = 0; i < 16; i++) {
+            ShapeType type = i % 2 == 0 ? ShapeType.PAPER : ShapeType.ROCK;
+            builder.addParticipant(String.format("%02d %s", i, type), () -> new OneShapeStrategy(Shape.of(type)));
+        }
+
+        SwissTournament actual = builder.play();
+
+        assertThat(actual.getNumberOfStages()).isEqualTo(4);
+        assertThat(actual.getMatchResults()).hasSize(4 * 8);
+        assertNoRematches(actual.getMatchResults());
+        List<Standing> standings = actual.getStandings();
+        assertThat(standings.subList(0, 8)).allSatisfy(standing -> {
+            assertThat(standing.getName()).endsWith("PAPER");
+            assertThat(standing.getMatchesLost()).isZero();
+        });
+        assertThat(standings.subList(8, 16)).allSatisfy(standing -> assertThat(standing.getName()).endsWith("ROCK"));
+        // after the first stage, the papers only meet papers and the rocks only meet rocks
+        assertThat(standings.get(0).getMatchesWon()).isEqualTo(1);
+        assertThat(standings.get(0).getMatchesDrawn()).isEqualTo(3);
+    }
+
+    @Test
+    void participantsSitOutAtMostOnceIfTheirNumberIsOdd() {
+        SwissTournament.Builder builder = SwissTournament.builder().numberOfRoundsPerMatch(10).numberOfStages(5);
+        for (int i = 0; i < 5; i++) {
+            builder.addParticipant("Rock " + i, () -> new OneShapeStrategy(Shape.of(ShapeType.ROCK)));
+        }
+
+        SwissTournament actual = builder.play();
+
+        assertThat(actual.getMatchResults()).hasSize(5 * 2);
+        assertThat(actual.getStandings()).allSatisfy(standing -> {
+            assertThat(standing.getMatchesWon()).isEqualTo(1);
+            assertThat(standing.getMatchesDrawn()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void largePoolIsRankedWithNLogNMatchesWithoutRematches() {
+        SwissTournament.Builder builder = SwissTournament.builder()
+                .numberOfRoundsPerMatch(10)
+                .seed(3);
+        for (int i = 0; i < 1_000; i++) {
+            builder.addSeededParticipant("Random " + i, seed -> RandomStrategy.seeded(seed, RuleSet.CLASSIC));
+        }
+
+        SwissTournament actual = builder.play();
+
+        assertThat(actual.getNumberOfStages()).isEqualTo(10);
+        assertThat(actual.getMatchResults()).hasSize(10 * 500);
+        assertNoRematches(actual.getMatchResults());
+        assertThat(actual.getStandings()).hasSize(1_000);
+    }
+
+    @Test
+    void seededTournamentHasTheSameResultsWhateverTheNumberOfWorkers() {
+        SwissTournament parallel = seededRandomTournament(ForkJoinPool.commonPool());
+        SwissTournament sequential;
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            sequential = seededRandomTournament(pool);
+        }
+
+        assertThat(parallel.getMatchResults())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getMatchResults());
+        assertThat(parallel.getStandings())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getStandings());
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfNumberOfStagesIsNotPositive() {
+        assertThatThrownBy(() -> SwissTournament.builder().numberOfStages(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of stages must be greater than 0");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfTournamentIsCreatedWithLessThanTwoParticipants() {
+        assertThatThrownBy(() -> SwissTournament.builder()
+                .addParticipant("Rock", () -> new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .numberOfRoundsPerMatch(1)
+                .play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("At least two participants must be added to the tournament");
+    }
+
+    private static SwissTournament seededRandomTournament(ForkJoinPool pool) {
+        SwissTournament.Builder builder = SwissTournament.builder()
+                .numberOfRoundsPerMatch(1_000)
+                .seed(11)
+                .pool(pool);
+        for (int i = 0; i < 33; i++) {
+            builder.addSeededParticipant("Random " + i, seed -> RandomStrategy.seeded(seed, RuleSet.CLASSIC));
+        }
+        return builder.play();
+    }
+
+    private static void assertNoRematches(List<MatchResult> results) {
+        Set<String> pairs = new HashSet<>();
+        for (MatchResult result : results) {
+            String pair = result.getPlayer1().compareTo(result.getPlayer2()) < 0
+                    ? result.getPlayer1() + "|" + result.getPlayer2() : result.getPlayer2() + "|" + result.getPlayer1();
+            assertThat(pairs.add(pair)).as("rematch %s", pair).isTrue();
+        }
+    }
+}
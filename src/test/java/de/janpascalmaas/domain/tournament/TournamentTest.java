@@ -0,0 +1,202 @@
+package de.janpascalmaas.domain.tournament;
+
+import de.janpascalmaas.domain.rating.EloLeaderboard;
+import de.janpascalmaas.domain.rating.Rating;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import de.janpascalmaas.domain.strategy.PlayerStrategy;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TournamentTest {
+
+    @Test
+    void throwIllegalArgumentExceptionIfTournamentIsCreatedWithZeroRounds() {
+        assertThatThrownBy(() -> Tournament.builder()
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK))
+                .addParticipant("Paper", () -> oneShape(ShapeType.PAPER))
+                .play())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of rounds per match must be greater than 0");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfTournamentIsCreatedWithLessThanTwoParticipants() {
+        assertThatThrownBy(() -> Tournament.builder()
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK))
+                .numberOfRoundsPerMatch(1)
+                .play())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("At least two participants must be added to the tournament");
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfParticipantIsAddedTwice() {
+        assertThatThrownBy(() -> Tournament.builder()
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK))
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Participant Rock is already added");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfStrategyFactoryIsNull() {
+        assertThatThrownBy(() -> Tournament.builder().addParticipant("Rock", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Strategy factory must not be null");
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfTournamentHasMoreMatchesThanAnArrayCanHold() {
+        Tournament.Builder builder = Tournament.builder().numberOfRoundsPerMatch(1);
+        for (int i = 0; i < 65_537; i++) {
+            builder.addParticipant("Rock " + i, () -> oneShape(ShapeType.ROCK));
+        }
+
+        assertThatThrownBy(builder::play)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A tournament of 65537 participants has 2147516416 matches, but at most 2147483647 "
+                                    + "matches are supported");
+        assertThat(Tournament.numberOfPairings(65_536)).isEqualTo(2_147_450_880L);
+    }
+
+    @Test
+    void ratedTournamentPublishesEveryMatchToTheLeaderboard() {
+        EloLeaderboard leaderboard = EloLeaderboard.builder().build();
+
+        Tournament.builder()
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK))
+                .addParticipant("Paper", () -> oneShape(ShapeType.PAPER))
+                .addParticipant("Stone", () -> oneShape(ShapeType.ROCK))
+                .numberOfRoundsPerMatch(10)
+                .leaderboard(leaderboard)
+                .play();
+
+        // the matches finish in any order, which changes the ratings but not the leader
+        assertThat(leaderboard.top(1)).extracting(Rating::getName).containsExactly("Paper");
+        assertThat(leaderboard.get("Paper").getMatches()).isEqualTo(2);
+        assertThat(leaderboard.get("Rock").getRating()).isLessThan(1500);
+        assertThat(leaderboard.get("Stone").getRating()).isLessThan(1500);
+    }
+
+    @Test
+    void everyParticipantPlaysEveryOtherParticipantOnce() {
+        Tournament actual = Tournament.builder()
+                .addParticipant("Rock", () -> oneShape(ShapeType.ROCK))
+                .addParticipant("Paper", () -> oneShape(ShapeType.PAPER))
+                .addParticipant("Scissors", () -> oneShape(ShapeType.SCISSORS))
+                .addParticipant("Stone", () -> oneShape(ShapeType.ROCK))
+                .numberOfRoundsPerMatch(10)
+                .play();
+
+        assertThat(actual.getMatchResults())
+                .extracting(MatchResult::getPlayer1, MatchResult::getPlayer2)
+                .hasSize(6);
+        assertThat(actual.getMatchResults().get(0).getWinner()).isEqualTo("Paper");
+        assertThat(actual.getMatchResults().get(2).getWinner()).isNull();
+        assertThat(actual.getMatchResults().get(2).getNumberOfDraws()).isEqualTo(10);
+
+        List<Standing> standings = actual.getStandings();
+        assertThat(standings).extracting(Standing::getName)
+                .containsExactly("Paper", "Rock", "Stone", "Scissors");
+        assertThat(standings.get(0).getMatchesWon()).isEqualTo(2);
+        assertThat(standings.get(0).getMatchesLost()).isEqualTo(1);
+        assertThat(standings.get(0).getRoundsWon()).isEqualTo(20);
+        assertThat(standings.get(1).getMatchesDrawn()).isEqualTo(1);
+        assertThat(standings.get(3).getMatchesWon()).isEqualTo(1);
+        assertThat(standings.get(3).getRoundsLost()).isEqualTo(20);
+    }
+
+    @Test
+    void parallelTournamentHasTheSameResultsAsASequentialTournament() {
+        Tournament parallel = cyclicTournament(ForkJoinPool.commonPool());
+        Tournament sequential;
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            sequential = cyclicTournament(pool);
+        }
+
+        assertThat(parallel.getMatchResults())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getMatchResults());
+        assertThat(parallel.getStandings())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getStandings());
+    }
+
+    @Test
+    void seededTournamentHasTheSameResultsWhateverTheNumberOfWorkers() {
+        Tournament parallel = seededRandomTournament(ForkJoinPool.commonPool(), 7);
+        Tournament sequential;
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            sequential = seededRandomTournament(pool, 7);
+        }
+
+        assertThat(parallel.getSeed()).isEqualTo(7);
+        assertThat(parallel.getMatchResults())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getMatchResults());
+        assertThat(parallel.getStandings())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getStandings());
+    }
+
+    private static Tournament seededRandomTournament(ForkJoinPool pool, long seed) {
+        Tournament.Builder builder = Tournament.builder()
+                .numberOfRoundsPerMatch(1_000)
+                .seed(seed)
+                .pool(pool);
+        for (int i = 0; i < 8; i++) {
+            builder.addSeededParticipant("Random " + i, matchSeed -> RandomStrategy.seeded(
+                    matchSeed, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER), Shape.of(ShapeType.SCISSORS)));
+        }
+        return builder.play();
+    }
+
+    private static Tournament cyclicTournament(ForkJoinPool pool) {
+        Tournament.Builder builder = Tournament.builder()
+                .numberOfRoundsPerMatch(1_000)
+                .pool(pool);
+        for (int offset = 0; offset < 8; offset++) {
+            int start = offset;
+            builder.addParticipant("Cycle " + offset, () -> new CyclicStrategy(start, 1 + start % 3));
+        }
+        return builder.play();
+    }
+
+    private static PlayerStrategy oneShape(ShapeType type) {
+        return new OneShapeStrategy(Shape.of(type));
+    }
+
+    /**
+     * Deterministic strategy cycling through the shapes with a given step.
+     */
+    private static final class CyclicStrategy implements PlayerStrategy {
+
+        private final int step;
+
+        private int index;
+
+        CyclicStrategy(int start, int step) {
+            this.index = start;
+            this.step = step;
+        }
+
+        @Override
+        public Shape getNextShape() {
+            index += step;
+            return Shape.of(index % 3);
+        }
+
+        @Override
+        public String getStrategyName() {
+            return "Cyclic Strategy";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package de.janpascalmaas.metrics;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EngineMetricsTest {
+
+    @Test
+    void engineRecordsGamesRoundsAndStrategies() {
+        Player player1 = Player.builder()
+                .withName("Player 1")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        Player player2 = Player.builder()
+                .withName("Player 2")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .build();
+        MetricsSnapshot before = Metrics.registry().snapshot();
+
+        Game.builder()
+                .numberOfRounds(2_000)
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .play();
+
+        MetricsSnapshot after = Metrics.registry().snapshot();
+        assertThat(Metrics.ENABLED).isTrue();
+        assertThat(after.getCounter("rps_games_total")).isGreaterThan(before.getCounter("rps_games_total"));
+        assertThat(after.getCounter("rps_rounds_total") - before.getCounter("rps_rounds_total"))
+                .isGreaterThanOrEqualTo(2_000);
+        assertThat(after.getCounter("rps_strategy_shapes_total{strategy=\"OneShapeStrategy\"}")
+                           - before.getCounter("rps_strategy_shapes_total{strategy=\"OneShapeStrategy\"}"))
+                .isGreaterThanOrEqualTo(4_000);
+        assertThat(after.getHistogram("rps_game_play_seconds").getCount()).isPositive();
+    }
+
+    @Test
+    void decisionsOfAdaptiveStrategiesAreMeasured() {
+        Player player1 = Player.builder()
+                .withName("Player 1")
+                .withStrategy(new FrequencyStrategy())
+                .build();
+        Player player2 = Player.builder()
+                .withName("Player 2")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .build();
+        MetricsSnapshot before = Metrics.registry().snapshot();
+
+        Game.builder()
+                .numberOfRounds(500)
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .play();
+
+        MetricsSnapshot after = Metrics.registry().snapshot();
+        String labels = "{strategy=\"FrequencyStrategy\"}";
+        assertThat(after.getCounter("rps_strategy_shapes_total" + labels)
+                           - before.getCounter("rps_strategy_shapes_total" + labels))
+                .isEqualTo(500);
+        assertThat(after.getHistogram("rps_strategy_next_shape_seconds" + labels).getCount()
+                           - before.getHistogram("rps_strategy_next_shape_seconds" + labels).getCount())
+                .isEqualTo(500);
+    }
+}
@@ -0,0 +1,139 @@
+package de.janpascalmaas.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    void latenciesAreCountedInPowerOfTwoBuckets() {
+        assertThat(LatencyHistogram.bucket(0)).isZero();
+        assertThat(LatencyHistogram.bucket(1)).isZero();
+        assertThat(LatencyHistogram.bucket(2)).isEqualTo(1);
+        assertThat(LatencyHistogram.bucket(3)).isEqualTo(2);
+        assertThat(LatencyHistogram.bucket(4)).isEqualTo(2);
+        assertThat(LatencyHistogram.bucket(1024)).isEqualTo(10);
+        assertThat(LatencyHistogram.bucket(1025)).isEqualTo(11);
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(63);
+    }
+
+    @Test
+    void snapshotContainsCountSumAndPercentiles() {
+        LatencyHistogram given = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            given.record(i * 10L);
+        }
+        given.record(-5);
+
+        HistogramSnapshot actual = given.snapshot();
+
+        assertThat(actual.getCount()).isEqualTo(101);
+        assertThat(actual.getSum()).isEqualTo(50_500);
+        assertThat(actual.getMean()).isEqualTo(50_500 / 101.0);
+        assertThat(actual.getBucketCount(0)).isEqualTo(1);
+        assertThat(actual.getPercentile(50)).isEqualTo(512);
+        assertThat(actual.getPercentile(99)).isEqualTo(1024);
+        assertThat(actual.getPercentile(100)).isEqualTo(1024);
+    }
+
+    @Test
+    void percentileOfEmptyHistogramIsZero() {
+        assertThat(new LatencyHistogram().snapshot().getPercentile(99)).isZero();
+        assertThat(LatencyHistogram.withSubBuckets(6).snapshot().getMax()).isZero();
+    }
+
+    @Test
+    void percentileMustBeBetweenZeroAndHundred() {
+        HistogramSnapshot given = new LatencyHistogram().snapshot();
+
+        assertThatThrownBy(() -> given.getPercentile(101))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Percentile must be between 0 and 100");
+    }
+
+    @Test
+    void snapshotContainsMaximum() {
+        LatencyHistogram given = new LatencyHistogram();
+        given.record(700);
+        given.record(300);
+
+        assertThat(given.snapshot().getMax()).isEqualTo(700);
+    }
+
+    @Test
+    void smallLatenciesAreCountedExactlyInSubBuckets() {
+        LatencyHistogram given = LatencyHistogram.withSubBuckets(6);
+        for (long nanos = 1; nanos <= 10; nanos++) {
+            given.record(nanos);
+        }
+
+        HistogramSnapshot actual = given.snapshot();
+
+        assertThat(actual.getCount()).isEqualTo(10);
+        assertThat(actual.getPercentile(50)).isEqualTo(5);
+        assertThat(actual.getPercentile(99)).isEqualTo(10);
+        assertThat(actual.getMax()).isEqualTo(10);
+    }
+
+    @Test
+    void percentilesOfLargeLatenciesAreAccurateToTwoPercentWithSubBuckets() {
+        LatencyHistogram given = LatencyHistogram.withSubBuckets(6);
+        for (long micros = 1; micros <= 100_000; micros++) {
+            given.record(micros * 1_000);
+        }
+
+        HistogramSnapshot actual = given.snapshot();
+
+        assertThat(actual.getPercentile(50)).isBetween(50_000_000L, 51_000_000L);
+        assertThat(actual.getPercentile(99)).isBetween(99_000_000L, 101_000_000L);
+        assertThat(actual.getMax()).isEqualTo(100_000_000L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 6, 16})
+    void subBucketsCoverEveryLatencyWithoutGaps(int subBucketBits) {
+        assertThat(LatencyHistogram.upperBound(LatencyHistogram.bucket(Long.MAX_VALUE, subBucketBits), subBucketBits))
+                .isEqualTo(Long.MAX_VALUE);
+        for (int bucket = 0; bucket < LatencyHistogram.bucket(1L << 40, subBucketBits); bucket++) {
+            long upperBound = LatencyHistogram.upperBound(bucket, subBucketBits);
+            assertThat(LatencyHistogram.bucket(upperBound, subBucketBits)).isEqualTo(bucket);
+            assertThat(LatencyHistogram.bucket(upperBound + 1, subBucketBits)).isEqualTo(bucket + 1);
+        }
+    }
+
+    @Test
+    void subBucketBitsMustBeBetweenZeroAndSixteen() {
+        assertThatThrownBy(() -> LatencyHistogram.withSubBuckets(17))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sub-bucket bits must be between 0 and 16");
+    }
+
+    @Test
+    void latenciesRecordedByConcurrentThreadsAreMerged() throws InterruptedException {
+        LatencyHistogram given = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    given.record(100);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HistogramSnapshot actual = given.snapshot();
+
+        assertThat(actual.getCount()).isEqualTo(80_000);
+        assertThat(actual.getSum()).isEqualTo(8_000_000);
+        assertThat(actual.getBucketCount(LatencyHistogram.bucket(100))).isEqualTo(80_000);
+    }
+}
@@ -0,0 +1,92 @@
+package de.janpascalmaas.metrics;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.FrequencyStrategy;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsRegistryTest {
+
+    @Test
+    void sameNameAndLabelsReturnSameMetric() {
+        MetricsRegistry given = new MetricsRegistry();
+
+        assertThat(given.counter("games_total", "mode", "fast")).isSameAs(given.counter("games_total", "mode", "fast"));
+        assertThat(given.counter("games_total", "mode", "fast")).isNotSameAs(given.counter("games_total"));
+        assertThat(given.histogram("play_seconds")).isSameAs(given.histogram("play_seconds"));
+    }
+
+    @Test
+    void snapshotContainsAllMetricsByNameAndLabels() {
+        MetricsRegistry given = new MetricsRegistry();
+        given.counter("games_total").add(3);
+        given.counter("shapes_total", "strategy", "Random").increment();
+        given.histogram("play_seconds").record(1_000);
+
+        MetricsSnapshot actual = given.snapshot();
+
+        assertThat(actual.getCounter("games_total")).isEqualTo(3);
+        assertThat(actual.getCounter("shapes_total{strategy=\"Random\"}")).isEqualTo(1);
+        assertThat(actual.getCounter("unknown_total")).isZero();
+        assertThat(actual.getHistogram("play_seconds").getCount()).isEqualTo(1);
+        assertThat(actual.getHistogram("unknown_seconds")).isNull();
+    }
+
+    @Test
+    void metricsAreWrittenInPrometheusTextFormat() {
+        MetricsRegistry given = new MetricsRegistry();
+        given.counter("games_total").add(2);
+        given.histogram("play_seconds", "mode", "fast").record(3);
+
+        StringBuilder actual = new StringBuilder();
+        given.writePrometheus(actual);
+
+        assertThat(actual.toString())
+                .contains("# TYPE games_total counter\ngames_total 2\n")
+                .contains("# TYPE play_seconds histogram\n")
+                .contains("play_seconds_bucket{mode=\"fast\",le=\"1.0E-9\"} 0\n")
+                .contains("play_seconds_bucket{mode=\"fast\",le=\"4.0E-9\"} 1\n")
+                .contains("play_seconds_bucket{mode=\"fast\",le=\"+Inf\"} 1\n")
+                .contains("play_seconds_sum{mode=\"fast\"} 3.0E-9\n")
+                .contains("play_seconds_count{mode=\"fast\"} 1\n");
+    }
+
+    @Test
+    void invalidNamesAndLabelsAreRejected() {
+        MetricsRegistry given = new MetricsRegistry();
+
+        assertThatThrownBy(() -> given.counter("games total"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> given.counter("games_total", "mode"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void engineRecordsNothingIfMetricsAreDisabled() {
+        Player player1 = Player.builder()
+                .withName("Player 1")
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .build();
+        Player player2 = Player.builder()
+                .withName("Player 2")
+                .withStrategy(new FrequencyStrategy())
+                .build();
+
+        Game.builder()
+                .numberOfRounds(2_000)
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .play();
+
+        // the engine metrics are only enabled in the surefire execution of the EngineMetricsTest
+        assertThat(Metrics.ENABLED).isFalse();
+        assertThat(Metrics.registry().snapshot().getCounter("rps_games_total")).isZero();
+        assertThat(Metrics.registry().snapshot().getHistogram("rps_game_play_seconds")).isNull();
+    }
+}
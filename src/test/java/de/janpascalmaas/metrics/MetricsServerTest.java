@@ -0,0 +1,45 @@
+package de.janpascalmaas.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsServerTest {
+
+    @Test
+    void metricsAreServedInPrometheusTextFormat() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("games_total").add(7);
+        try (MetricsServer server = MetricsServer.builder().registry(registry).start()) {
+            HttpURLConnection actual = open(server, "GET");
+
+            assertThat(actual.getResponseCode()).isEqualTo(200);
+            assertThat(actual.getContentType()).startsWith("text/plain; version=0.0.4");
+            try (InputStream body = actual.getInputStream()) {
+                assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("games_total 7\n");
+            }
+        }
+    }
+
+    @Test
+    void onlyGetIsAllowed() throws Exception {
+        try (MetricsServer server = MetricsServer.builder().registry(new MetricsRegistry()).start()) {
+            HttpURLConnection actual = open(server, "POST");
+
+            assertThat(actual.getResponseCode()).isEqualTo(405);
+        }
+    }
+
+    private static HttpURLConnection open(MetricsServer server, String method) throws Exception {
+        String host = server.getAddress().getAddress().getHostAddress();
+        URI uri = new URI("http", null, host, server.getAddress().getPort(), "/metrics", null, null);
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+}
@@ -0,0 +1,128 @@
+package de.janpascalmaas.replay;
+
+import de.janpascalmaas.domain.Game;
+import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.Round;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.RandomStrategy;
+import de.janpascalmaas.service.ConsoleOutputService;
+import de.janpascalmaas.service.Verbosity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayLogTest {
+
+    private static final int NUMBER_OF_ROUNDS = 5_001;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void headerContainsThePlayersTheSeedAndTheNumberOfRounds() {
+        Path log = directory.resolve("game.rps");
+        recordGame(log);
+
+        try (ReplayLogReader actual = new ReplayLogReader(log)) {
+            assertThat(actual.getRoundCount()).isEqualTo(NUMBER_OF_ROUNDS);
+            assertThat(actual.getSeed()).isEqualTo(42);
+            assertThat(actual.getPlayer1Name()).isEqualTo("Alice");
+            assertThat(actual.getPlayer1StrategyName()).isEqualTo("Random Strategy with shapes: ROCK,PAPER,SCISSORS");
+            assertThat(actual.getPlayer2Name()).isEqualTo("Bob");
+            assertThat(actual.getPlayer2StrategyName()).isEqualTo("Random Strategy with shapes: ROCK,PAPER");
+        }
+    }
+
+    @Test
+    void everyRoundCanBeReadByItsNumber() {
+        Path log = directory.resolve("game.rps");
+        Game expected = recordGame(log);
+
+        try (ReplayLogReader actual = new ReplayLogReader(log)) {
+            List<Round> rounds = expected.getRounds();
+            for (int i = rounds.size() - 1; i >= 0; i--) {
+                Round round = rounds.get(i);
+                assertThat(actual.getPlayer1Shape(round.getRoundNumber())).isEqualTo(round.getPlayer1Shape().getType());
+                assertThat(actual.getPlayer2Shape(round.getRoundNumber())).isEqualTo(round.getPlayer2Shape().getType());
+                Player winner = round.getRoundResult().getWinner();
+                assertThat(actual.getWinnerName(round.getRoundNumber()))
+                        .isEqualTo(winner == null ? null : winner.getName());
+            }
+            assertThatThrownBy(() -> actual.getPlayer1Shape(NUMBER_OF_ROUNDS + 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void replayedGameHasTheSameResultAsTheRecordedGame() {
+        Path log = directory.resolve("game.rps");
+        Game expected = recordGame(log);
+
+        try (ReplayLogReader reader = new ReplayLogReader(log)) {
+            Game actual = reader.replay(RoundHistoryMode.NONE);
+
+            assertThat(actual.getScoreboard().getPlayer1Score()).isEqualTo(expected.getScoreboard().getPlayer1Score());
+            assertThat(actual.getScoreboard().getPlayer2Score()).isEqualTo(expected.getScoreboard().getPlayer2Score());
+            assertThat(actual.getNumberOfDraws()).isEqualTo(expected.getNumberOfDraws());
+            assertThat(actual.getWinner().getName()).isEqualTo(expected.getWinner().getName());
+        }
+    }
+
+    @Test
+    void replayedGameIsPrintedLikeTheRecordedGame() {
+        Path log = directory.resolve("game.rps");
+        Game expected = recordGame(log);
+        ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+
+        new ConsoleOutputService(Channels.newChannel(expectedOutput), Verbosity.full(), 4096).printGame(expected);
+        try (ReplayLogReader reader = new ReplayLogReader(log)) {
+            reader.replayInto(new ConsoleOutputService(Channels.newChannel(actualOutput), Verbosity.full(), 4096));
+        }
+
+        assertThat(actualOutput.toString()).isEqualTo(expectedOutput.toString());
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfTheFileIsNoReplayLog() throws IOException {
+        Path file = Files.writeString(directory.resolve("other.txt"), "no replay log at all");
+
+        assertThatThrownBy(() -> new ReplayLogReader(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageEndingWith("is not a replay log");
+    }
+
+    private static Game recordGame(Path log) {
+        Player alice = Player.builder()
+                .withName("Alice")
+                .withStrategy(RandomStrategy.seeded(42, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER),
+                                                    Shape.of(ShapeType.SCISSORS)))
+                .build();
+        Player bob = Player.builder()
+                .withName("Bob")
+                .withStrategy(RandomStrategy.seeded(43, Shape.of(ShapeType.ROCK), Shape.of(ShapeType.PAPER)))
+                .build();
+        try (ReplayLogWriter writer = new ReplayLogWriter(log, alice, bob, NUMBER_OF_ROUNDS, 42)) {
+            Game game = Game.builder()
+                    .addPlayer1(alice)
+                    .addPlayer2(bob)
+                    .numberOfRounds(NUMBER_OF_ROUNDS)
+                    .roundHistory(RoundHistoryMode.COMPACT)
+                    .addRoundBlockListener(writer)
+                    .play();
+            assertThat(writer.getRoundCount()).isEqualTo(NUMBER_OF_ROUNDS);
+            return game;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package de.janpascalmaas.server;
+
+import de.janpascalmaas.domain.shape.Shape;
+import de.janpascalmaas.domain.shape.ShapeType;
+import de.janpascalmaas.domain.strategy.OneShapeStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameServerTest {
+
+    private GameServer server;
+
+    @BeforeEach
+    void startServer() {
+        server = GameServer.builder()
+                .player("Rocky", () -> new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .maxRoundsPerGame(10)
+                .start();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void serverListensOnTheLoopbackAddress() {
+        assertThat(server.getAddress().getAddress().isLoopbackAddress()).isTrue();
+        assertThat(server.getAddress().getPort()).isPositive();
+    }
+
+    @Test
+    void botPlaysAGameRoundByRound() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            out.println("PLAY Bot 3");
+            assertThat(in.readLine()).isEqualTo("READY Rocky");
+            out.println("MOVE PAPER");
+            assertThat(in.readLine()).isEqualTo("ROUND 1 ROCK WIN");
+            out.println("MOVE SCISSORS");
+            assertThat(in.readLine()).isEqualTo("ROUND 2 ROCK LOSS");
+            out.println("MOVE ROCK");
+            assertThat(in.readLine()).isEqualTo("ROUND 3 ROCK DRAW");
+            assertThat(in.readLine()).isEqualTo("OVER 1 1 1");
+            out.println("QUIT");
+            assertThat(in.readLine()).isNull();
+        }
+        assertThat(server.getMovesPlayed()).isEqualTo(3);
+        assertThat(server.getGamesPlayed()).isEqualTo(1);
+    }
+
+    @Test
+    void botCanPlaySeveralGamesInOneSession() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            for (int game = 0; game < 2; game++) {
+                out.println("PLAY Bot 1");
+                assertThat(in.readLine()).isEqualTo("READY Rocky");
+                out.println("MOVE PAPER");
+                assertThat(in.readLine()).isEqualTo("ROUND 1 ROCK WIN");
+                assertThat(in.readLine()).isEqualTo("OVER 1 0 0");
+            }
+        }
+    }
+
+    @Test
+    void invalidMoveIsAnsweredWithAnErrorAndTheConnectionIsClosed() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            out.println("PLAY Bot 3");
+            assertThat(in.readLine()).isEqualTo("READY Rocky");
+            out.println("MOVE LIZARD");
+            assertThat(in.readLine()).isEqualTo("ERROR Expected MOVE <ROCK|PAPER|SCISSORS>");
+            assertThat(in.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void gameWithTooManyRoundsIsRejected() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            out.println("PLAY Bot 11");
+            assertThat(in.readLine()).isEqualTo("ERROR Number of rounds must be between 1 and 10");
+            assertThat(in.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void gameWithoutBotNameIsRejected() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            out.println("PLAY  3");
+            assertThat(in.readLine()).isEqualTo("ERROR Name of the bot must not be blank");
+            assertThat(in.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void tooLongLineIsRejected() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+
+            out.print("PLAY " + "x".repeat(GameProtocol.MAX_LINE_LENGTH));
+            out.flush();
+            assertThat(in.readLine()).isEqualTo("ERROR Lines must not be longer than 256 characters");
+            assertThat(in.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void throwIllegalArgumentExceptionIfPlayerNameContainsSpaces() {
+        assertThatThrownBy(() -> GameServer.builder().player("Rock Star", () -> null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Player name must not be null, blank or contain spaces");
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(server.getAddress().getAddress(), server.getAddress().getPort());
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+
+    private static PrintWriter writer(Socket socket) throws IOException {
+        return new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,55 @@
+package de.janpascalmaas.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadTestClientTest {
+
+    @Test
+    void manyConcurrentSessionsArePlayedOverLoopback() throws IOException {
+        try (GameServer server = GameServer.builder().start()) {
+            LoadTestReport actual = LoadTestClient.builder()
+                    .address(server.getAddress())
+                    .sessions(1_000)
+                    .roundsPerSession(20)
+                    .run();
+
+            assertThat(actual.getFailedSessions()).isZero();
+            assertThat(actual.getMoves()).isEqualTo(20_000);
+            assertThat(actual.getSessionsPerSecond()).isPositive();
+            assertThat(actual.getP99LatencyNanos())
+                    .isPositive()
+                    .isGreaterThanOrEqualTo(actual.getMedianLatencyNanos())
+                    .isLessThanOrEqualTo(actual.getMaxLatencyNanos());
+            assertThat(server.getGamesPlayed()).isEqualTo(1_000);
+        }
+    }
+
+    @Test
+    void sessionsThatCanNotConnectAreReportedAsFailed() throws IOException {
+        InetSocketAddress address;
+        try (GameServer server = GameServer.builder().start()) {
+            address = server.getAddress();
+        }
+
+        LoadTestReport actual = LoadTestClient.builder()
+                .address(address)
+                .sessions(3)
+                .run();
+
+        assertThat(actual.getFailedSessions()).isEqualTo(3);
+        assertThat(actual.getMoves()).isZero();
+    }
+
+    @Test
+    void throwIllegalStateExceptionIfAddressIsMissing() {
+        assertThatThrownBy(() -> LoadTestClient.builder().sessions(1).run())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Address of the server must be set");
+    }
+}
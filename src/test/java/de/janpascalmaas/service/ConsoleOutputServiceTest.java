@@ -3,6 +3,8 @@ package de.janpascalmaas.service;
 
 import de.janpascalmaas.domain.Game;
 import de.janpascalmaas.domain.Player;
+import de.janpascalmaas.domain.round.RoundHistoryMode;
+import de.janpascalmaas.domain.shape.RuleSet;
 import de.janpascalmaas.domain.shape.Shape;
 import de.janpascalmaas.domain.shape.ShapeType;
 import de.janpascalmaas.domain.strategy.OneShapeStrategy;
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,11 +38,11 @@ class ConsoleOutputServiceTest {
     @Test
     void printGame_shouldPrintAllRelevantGameDetails() {
         Player player1 = Player.builder()
-                .withStrategy(new OneShapeStrategy(new Shape(ShapeType.ROCK)))
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
                 .withName("Alice")
                 .build();
         Player player2 = Player.builder()
-                .withStrategy(new OneShapeStrategy(new Shape(ShapeType.SCISSORS)))
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.SCISSORS)))
                 .withName("Bob")
                 .build();
 
@@ -70,11 +74,11 @@ class ConsoleOutputServiceTest {
     @Test
     void printGame_shouldPrintDrawIfNoWinner() {
         Player player1 = Player.builder()
-                .withStrategy(new OneShapeStrategy(new Shape(ShapeType.ROCK)))
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
                 .withName("Alice")
                 .build();
         Player player2 = Player.builder()
-                .withStrategy(new OneShapeStrategy(new Shape(ShapeType.ROCK)))
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
                 .withName("Bob")
                 .build();
 
@@ -93,6 +97,173 @@ class ConsoleOutputServiceTest {
         assertThat(output).contains("No winner, all players have the same score.");
     }
 
+    @Test
+    void onRound_shouldPrintRoundsWhileTheGameIsPlayed() {
+        Player player1 = Player.builder()
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.PAPER)))
+                .withName("Alice")
+                .build();
+        Player player2 = Player.builder()
+                .withStrategy(new OneShapeStrategy(Shape.of(ShapeType.ROCK)))
+                .withName("Bob")
+                .build();
+
+        Game.builder()
+                .numberOfRounds(2)
+                .addPlayer1(player1)
+                .addPlayer2(player2)
+                .roundHistory(RoundHistoryMode.NONE)
+                .addRoundListener(new ConsoleOutputService())
+                .play();
+
+        String output = outContent.toString();
+
+        assertThat(output).contains("Round 1 finished:");
+        assertThat(output).contains("Round 2 finished:");
+        assertThat(output).contains(" - Alice played PAPER");
+        assertThat(output).contains(" - Bob played ROCK");
+        assertThat(output).contains("Winner: Alice");
+    }
+
+    @Test
+    void printGame_shouldOnlyPrintStartAndResultForSummaryVerbosity() {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ConsoleOutputService service = new ConsoleOutputService(Channels.newChannel(target), Verbosity.summary(),
+                                                                1024);
+
+        service.printGame(rockGame(3));
+
+        String output = target.toString();
+        assertThat(output).contains("Game started for 3 with players:");
+        assertThat(output).doesNotContain("Round 1 finished:");
+        assertThat(output).contains(" - Alice won 3 rounds.");
+        assertThat(output).contains("The winner is: Alice");
+    }
+
+    @Test
+    void printGame_shouldOnlyPrintEveryNthRound() {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ConsoleOutputService service = new ConsoleOutputService(Channels.newChannel(target),
+                                                                Verbosity.everyNthRound(2), 1024);
+
+        service.printGame(rockGame(5));
+
+        String output = target.toString();
+        assertThat(output).doesNotContain("Round 1 finished:");
+        assertThat(output).contains("Round 2 finished:");
+        assertThat(output).doesNotContain("Round 3 finished:");
+        assertThat(output).contains("Round 4 finished:");
+        assertThat(output).doesNotContain("Round 5 finished:");
+    }
+
+    @Test
+    void printGame_shouldWriteTheSameOutputBufferedAsUnbuffered() {
+        Game game = rockGame(10_000);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ConsoleOutputService buffered = new ConsoleOutputService(Channels.newChannel(target), Verbosity.full(),
+                                                                 100_000);
+
+        buffered.printGame(game);
+        new ConsoleOutputService().printGame(game);
+
+        assertThat(target.toString()).isEqualTo(outContent.toString());
+    }
+
+    @Test
+    void onRound_shouldOnlyWriteBufferedRoundsWhenFlushed() {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ConsoleOutputService service = new ConsoleOutputService(Channels.newChannel(target), Verbosity.full(),
+                                                                1024 * 1024);
+        Game.builder()
+                .numberOfRounds(2)
+                .addPlayer1(player("Alice", ShapeType.ROCK))
+                .addPlayer2(player("Bob", ShapeType.SCISSORS))
+                .roundHistory(RoundHistoryMode.NONE)
+                .addRoundListener(service)
+                .play();
+
+        assertThat(target.size()).isZero();
+
+        service.flush();
+
+        assertThat(target.toString()).contains("Round 2 finished:");
+    }
+
+    @Test
+    void everyNthRound_shouldThrowExceptionOnNonPositiveInterval() {
+        assertThatThrownBy(() -> Verbosity.everyNthRound(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Round interval must be greater than 0");
+    }
+
+    @Test
+    void printGame_shouldPrintRulesAndShapesOfOtherRuleSets() {
+        RuleSet ruleSet = RuleSet.ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+        Game game = Game.builder()
+                .numberOfRounds(1)
+                .ruleSet(ruleSet)
+                .addPlayer1(Player.builder()
+                                    .withStrategy(new OneShapeStrategy(ruleSet.getShape("SPOCK")))
+                                    .withName("Alice")
+                                    .build())
+                .addPlayer2(Player.builder()
+                                    .withStrategy(new OneShapeStrategy(ruleSet.getShape("LIZARD")))
+                                    .withName("Bob")
+                                    .build())
+                .play();
+
+        new ConsoleOutputService().printGame(game);
+
+        String output = outContent.toString();
+        assertThat(output).contains("Rules: Rock Paper Scissors Lizard Spock");
+        assertThat(output).contains(" - Alice using Strategy: SPOCK Strategy");
+        assertThat(output).contains(" - Alice played SPOCK");
+        assertThat(output).contains(" - Bob played LIZARD");
+        assertThat(output).contains("The winner is: Bob");
+    }
+
+    @Test
+    void printGame_shouldEncodeTheOutputWithTheCharsetOfSystemOut() {
+        System.setOut(new PrintStream(outContent, true, StandardCharsets.ISO_8859_1));
+        Game game = Game.builder()
+                .numberOfRounds(1)
+                .addPlayer1(player("Zoë", ShapeType.ROCK))
+                .addPlayer2(player("Bob", ShapeType.SCISSORS))
+                .play();
+
+        new ConsoleOutputService().printGame(game);
+
+        assertThat(outContent.toString(StandardCharsets.ISO_8859_1)).contains("The winner is: Zoë");
+    }
+
+    @Test
+    void buffered_shouldWriteInOrderWithOtherOutputOfSystemOut() {
+        ConsoleOutputService service = ConsoleOutputService.buffered(Verbosity.summary());
+
+        System.out.println("Before the game");
+        service.printGame(rockGame(3));
+        System.out.println("After the game");
+
+        String output = outContent.toString();
+        assertThat(output.indexOf("Before the game")).isLessThan(output.indexOf("The winner is: Alice"));
+        assertThat(output.indexOf("The winner is: Alice")).isLessThan(output.indexOf("After the game"));
+    }
+
+    private static Game rockGame(int numberOfRounds) {
+        return Game.builder()
+                .numberOfRounds(numberOfRounds)
+                .addPlayer1(player("Alice", ShapeType.ROCK))
+                .addPlayer2(player("Bob", ShapeType.SCISSORS))
+                .play();
+    }
+
+    private static Player player(String name, ShapeType shapeType) {
+        return Player.builder()
+                .withStrategy(new OneShapeStrategy(Shape.of(shapeType)))
+                .withName(name)
+                .build();
+    }
+
     @Test
     void printGame_shouldThrowExceptionOnNull() {
         ConsoleOutputService service = new ConsoleOutputService();